@@ -5,10 +5,12 @@ import com.estim.javaapi.domain.user.Email;
 import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.domain.user.UserRepository;
 import com.estim.javaapi.domain.user.events.UserLoggedIn;
+import com.estim.javaapi.domain.user.events.UserSnapshot;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 
 @Service
 public class AuthenticateUserService {
@@ -17,23 +19,32 @@ public class AuthenticateUserService {
     private final PasswordHasher passwordHasher;
     private final TokenService tokenService;
     private final DomainEventPublisher eventPublisher;
+    private final PasswordHashUpgrader passwordHashUpgrader;
 
     public AuthenticateUserService(UserRepository userRepository,
                                    PasswordHasher passwordHasher,
                                    TokenService tokenService,
-                                   DomainEventPublisher eventPublisher) {
+                                   DomainEventPublisher eventPublisher,
+                                   PasswordHashUpgrader passwordHashUpgrader) {
 
         this.userRepository = Objects.requireNonNull(userRepository);
         this.passwordHasher = Objects.requireNonNull(passwordHasher);
         this.tokenService = Objects.requireNonNull(tokenService);
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.passwordHashUpgrader = Objects.requireNonNull(passwordHashUpgrader);
     }
 
     public AuthenticationResult authenticate(AuthenticateUserCommand command) {
         Email email = new Email(command.email());
 
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new IllegalArgumentException("Invalid credentials"));
+        Optional<User> found = userRepository.findByEmail(email);
+        if (found.isEmpty()) {
+            // Unknown emails must cost the same as wrong passwords, otherwise
+            // response times reveal which emails are registered
+            passwordHasher.verifyAgainstDummyHash(command.password());
+            throw new IllegalArgumentException("Invalid credentials");
+        }
+        User user = found.get();
 
         if (!passwordHasher.matches(command.password(), user.passwordHash())) {
             throw new IllegalArgumentException("Invalid credentials");
@@ -43,10 +54,12 @@ public class AuthenticateUserService {
             throw new IllegalStateException("User is not allowed to log in");
         }
 
+        passwordHashUpgrader.upgradeIfNeeded(user, command.password());
+
         String accessToken = tokenService.generateAccessToken(user.id());
         String refreshToken = tokenService.generateRefreshToken(user.id());
 
-        eventPublisher.publish(new UserLoggedIn(user.id(), Instant.now()));
+        eventPublisher.publish(new UserLoggedIn(user.id(), UserSnapshot.of(user), Instant.now()));
 
         return new AuthenticationResult(accessToken, refreshToken, user);
     }
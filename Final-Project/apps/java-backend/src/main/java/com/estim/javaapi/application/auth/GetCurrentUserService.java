@@ -1,8 +1,8 @@
 package com.estim.javaapi.application.auth;
 
-import com.estim.javaapi.domain.user.User;
+import com.estim.javaapi.application.profile.UserSummary;
+import com.estim.javaapi.application.profile.UserSummaryReader;
 import com.estim.javaapi.domain.user.UserId;
-import com.estim.javaapi.domain.user.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
@@ -10,18 +10,20 @@ import java.util.Objects;
 /**
  * Simple application service to fetch the current user's information.
  * The controller will supply the UserId extracted from the security context.
+ *
+ * Reads the {@link UserSummary} projection instead of the full aggregate.
  */
 @Service
 public class GetCurrentUserService {
 
-    private final UserRepository userRepository;
+    private final UserSummaryReader userSummaryReader;
 
-    public GetCurrentUserService(UserRepository userRepository) {
-        this.userRepository = Objects.requireNonNull(userRepository);
+    public GetCurrentUserService(UserSummaryReader userSummaryReader) {
+        this.userSummaryReader = Objects.requireNonNull(userSummaryReader);
     }
 
-    public User getCurrentUser(UserId userId) {
-        return userRepository.findById(userId)
+    public UserSummary getCurrentUser(UserId userId) {
+        return userSummaryReader.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("User not found"));
     }
 }
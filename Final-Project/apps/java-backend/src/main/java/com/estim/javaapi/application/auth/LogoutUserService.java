@@ -10,9 +10,12 @@ import java.util.Objects;
 /**
  * Application service responsible for logging out a user.
  *
- * In a typical JWT setup, this will:
- * - Revoke the refresh token so it can't be used to get new access tokens.
- * - Optionally revoke all tokens for the user (if supported).
+ * Logout ends the current session only:
+ * - The presented refresh token (and the family it was rotated from) is revoked,
+ *   so it can't be used to get new access tokens.
+ * - Access tokens carry no session id, so every access token of the user
+ *   issued before now is rejected; other sessions keep their refresh tokens
+ *   and obtain new access tokens on their next refresh.
  *
  * IMPORTANT:
  *  - Logout must be BEST-EFFORT: invalid/expired tokens must NOT cause a 500.
@@ -46,7 +49,7 @@ public class LogoutUserService {
         if (accessToken != null && !accessToken.isBlank()) {
             try {
                 UserId userId = tokenService.parseUserIdFromAccessToken(accessToken);
-                tokenService.revokeAllForUser(userId);
+                tokenService.revokeAccessTokens(userId);
 
                 log.info("[AUDIT] User logged out: userId={}", userId.value());
             } catch (RuntimeException ex) {
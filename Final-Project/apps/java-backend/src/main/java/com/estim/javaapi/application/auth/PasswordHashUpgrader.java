@@ -0,0 +1,15 @@
+package com.estim.javaapi.application.auth;
+
+import com.estim.javaapi.domain.user.User;
+
+/**
+ * Re-encodes a user's password hash with the current hashing scheme after
+ * the raw password has been verified.
+ *
+ * Implementations must not block or fail the caller: the upgrade is a best
+ * effort and is retried naturally on the next successful login.
+ */
+public interface PasswordHashUpgrader {
+
+    void upgradeIfNeeded(User user, String rawPassword);
+}
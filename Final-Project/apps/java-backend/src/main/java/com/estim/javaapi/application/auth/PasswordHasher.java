@@ -11,4 +11,22 @@ public interface PasswordHasher {
     PasswordHash hash(String rawPassword);
 
     boolean matches(String rawPassword, PasswordHash hash);
+
+    /**
+     * Returns true if the hash was produced by an older scheme or with
+     * weaker parameters than the ones currently configured, and should be
+     * re-encoded the next time the raw password is available.
+     */
+    default boolean needsRehash(PasswordHash hash) {
+        return false;
+    }
+
+    /**
+     * Verifies the password against a fixed hash and discards the result.
+     * Used when there is no account to check against, so the response takes
+     * as long as a real verification and does not reveal whether the
+     * account exists.
+     */
+    default void verifyAgainstDummyHash(String rawPassword) {
+    }
 }
@@ -0,0 +1,16 @@
+package com.estim.javaapi.application.auth;
+
+/**
+ * Thrown when password hashing capacity is exhausted and the request was
+ * turned away instead of being queued. Callers should retry later.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
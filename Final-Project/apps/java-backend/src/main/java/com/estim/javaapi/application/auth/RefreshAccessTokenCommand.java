@@ -0,0 +1,8 @@
+package com.estim.javaapi.application.auth;
+
+/**
+ * Input data for exchanging a refresh token for a new token pair.
+ */
+public record RefreshAccessTokenCommand(
+    String refreshToken
+) {}
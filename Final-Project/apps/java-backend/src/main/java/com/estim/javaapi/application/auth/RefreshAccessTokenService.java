@@ -0,0 +1,40 @@
+package com.estim.javaapi.application.auth;
+
+import com.estim.javaapi.domain.user.User;
+import com.estim.javaapi.domain.user.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * Application service that exchanges a refresh token for a new access token
+ * and a rotated refresh token.
+ */
+@Service
+public class RefreshAccessTokenService {
+
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
+
+    public RefreshAccessTokenService(TokenService tokenService,
+                                     UserRepository userRepository) {
+        this.tokenService = Objects.requireNonNull(tokenService);
+        this.userRepository = Objects.requireNonNull(userRepository);
+    }
+
+    public TokenPair refresh(RefreshAccessTokenCommand command) {
+        if (command == null || command.refreshToken() == null || command.refreshToken().isBlank()) {
+            throw new IllegalArgumentException("Refresh token is required");
+        }
+
+        TokenPair tokens = tokenService.refresh(command.refreshToken());
+
+        User user = userRepository.findByIdCore(tokens.userId()).orElse(null);
+        if (user == null || !user.status().canLogin()) {
+            tokenService.revokeAllForUser(tokens.userId());
+            throw new IllegalStateException("User is not allowed to log in");
+        }
+
+        return tokens;
+    }
+}
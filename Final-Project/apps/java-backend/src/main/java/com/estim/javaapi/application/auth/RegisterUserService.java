@@ -8,12 +8,18 @@ import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.domain.user.UserProfile;
 import com.estim.javaapi.domain.user.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Application service for registering a new user.
+ *
+ * The password is hashed before the write transaction opens, so a
+ * connection is not held while the request waits for the hashing pool.
+ * Email and display name are checked again inside the transaction.
  */
 @Service
 public class RegisterUserService {
@@ -22,33 +28,28 @@ public class RegisterUserService {
     private final PasswordPolicy passwordPolicy;
     private final PasswordHasher passwordHasher;
     private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public RegisterUserService(UserRepository userRepository,
                                PasswordPolicy passwordPolicy,
                                PasswordHasher passwordHasher,
-                               DomainEventPublisher eventPublisher) {
+                               DomainEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager) {
 
         this.userRepository = Objects.requireNonNull(userRepository);
         this.passwordPolicy = Objects.requireNonNull(passwordPolicy);
         this.passwordHasher = Objects.requireNonNull(passwordHasher);
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
     }
 
     public User register(RegisterUserCommand command) {
         validateCommand(command);
 
         Email email = Email.of(command.email());
-
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email already in use");
-        }
-
         String displayName = command.displayName().trim();
         validateDisplayName(displayName);
-
-        if (userRepository.existsByDisplayName(displayName)) {
-            throw new IllegalArgumentException("Display name already in use");
-        }
+        ensureAvailable(email, displayName);
 
         if (!passwordPolicy.isValid(command.password())) {
             throw new IllegalArgumentException(passwordPolicy.description());
@@ -56,33 +57,48 @@ public class RegisterUserService {
 
         var hashedPassword = passwordHasher.hash(command.password());
 
-        UserId id = new UserId(UUID.randomUUID());
+        return transactionTemplate.execute(status -> {
+            ensureAvailable(email, displayName);
+
+            UserId id = new UserId(UUID.randomUUID());
+
+            PrivacySettings privacySettings = new PrivacySettings(
+                true,
+                true,
+                true
+            );
 
-        PrivacySettings privacySettings = new PrivacySettings(
-            true,
-            true,
-            true
-        );
+            UserProfile initialProfile = new UserProfile(
+                displayName,
+                null,
+                privacySettings
+            );
 
-        UserProfile initialProfile = new UserProfile(
-            displayName,
-            null,
-            privacySettings
-        );
+            User user = User.register(
+                id,
+                email,
+                hashedPassword,
+                initialProfile
+            );
 
-        User user = User.register(
-            id,
-            email,
-            hashedPassword,
-            initialProfile
-        );
+            User saved = userRepository.save(user);
 
-        User saved = userRepository.save(user);
+            // The saved copy is rebuilt from the entity and carries no events
+            eventPublisher.publishAll(user.domainEvents());
+            user.clearDomainEvents();
 
-        eventPublisher.publishAll(saved.domainEvents());
-        saved.clearDomainEvents();
+            return saved;
+        });
+    }
 
-        return saved;
+    private void ensureAvailable(Email email, String displayName) {
+        if (userRepository.existsByEmail(email)) {
+            throw new IllegalArgumentException("Email already in use");
+        }
+
+        if (userRepository.existsByDisplayName(displayName)) {
+            throw new IllegalArgumentException("Display name already in use");
+        }
     }
 
     private void validateCommand(RegisterUserCommand command) {
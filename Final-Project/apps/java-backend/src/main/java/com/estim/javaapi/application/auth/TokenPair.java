@@ -0,0 +1,12 @@
+package com.estim.javaapi.application.auth;
+
+import com.estim.javaapi.domain.user.UserId;
+
+/**
+ * Access/refresh token pair issued when a refresh token is exchanged.
+ */
+public record TokenPair(
+    UserId userId,
+    String accessToken,
+    String refreshToken
+) {}
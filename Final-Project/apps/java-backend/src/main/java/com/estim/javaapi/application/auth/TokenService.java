@@ -18,6 +18,14 @@ public interface TokenService {
      */
     UserId parseUserIdFromAccessToken(String token);
 
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh token.
+     * The presented refresh token can not be used again.
+     *
+     * @throws IllegalArgumentException if the refresh token is invalid, expired, revoked or already used
+     */
+    TokenPair refresh(String refreshToken);
+
     /**
      * Revokes a specific refresh token (e.g. blacklist, delete from DB, etc.).
      * Implementations may no-op if revocation is not supported.
@@ -25,6 +33,13 @@ public interface TokenService {
     default void revokeRefreshToken(String refreshToken) {
     }
 
+    /**
+     * Rejects every access token issued to the user before now, without
+     * touching their refresh tokens, if the implementation supports it.
+     */
+    default void revokeAccessTokens(UserId userId) {
+    }
+
     /**
      * Revokes all active tokens for a given user, if the implementation supports it.
      */
@@ -0,0 +1,17 @@
+package com.estim.javaapi.application.catalog;
+
+import com.estim.javaapi.domain.library.GameId;
+
+import java.math.BigDecimal;
+
+/**
+ * The few game columns that listings show next to a library or wishlist row.
+ */
+public record GameCard(
+    GameId gameId,
+    String title,
+    BigDecimal price,
+    BigDecimal basePrice,
+    String coverImageUrl
+) {
+}
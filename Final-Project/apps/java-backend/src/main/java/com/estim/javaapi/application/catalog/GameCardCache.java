@@ -0,0 +1,237 @@
+package com.estim.javaapi.application.catalog;
+
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.infrastructure.cache.ExpiringCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-bounded in-process cache of {@link GameCard}s, so listings only
+ * read their own table and enrich rows from memory.
+ *
+ * Misses are loaded in one {@code id = ANY(?)} query per call. A periodic
+ * sync re-reads games changed since the last one (by {@code
+ * games.updated_at}, which a trigger keeps current) and refreshes the
+ * cached cards in place, so a price or title change shows up within one
+ * sync interval without dropping popular games from the cache. Deleted
+ * games leave no row to re-read, so each sync also drops the cards of
+ * cached games that no longer exist. The TTL bounds staleness if syncing
+ * fails.
+ */
+@Component
+public class GameCardCache {
+
+    private static final Logger log = LoggerFactory.getLogger(GameCardCache.class);
+
+    private static final String SELECT_SQL = """
+        SELECT id, title, price, base_price, cover_image_url
+        FROM games
+        WHERE id = ANY(?)
+        """;
+
+    private static final String EXISTING_SQL = """
+        SELECT id
+        FROM games
+        WHERE id = ANY(?)
+        """;
+
+    private static final String CHANGED_SINCE_SQL = """
+        SELECT id, title, price, base_price, cover_image_url
+        FROM games
+        WHERE updated_at > ?
+        """;
+
+    private static final RowMapper<GameCard> ROW_MAPPER = (rs, rowNum) -> new GameCard(
+        GameId.of(rs.getObject("id", UUID.class)),
+        rs.getString("title"),
+        rs.getBigDecimal("price"),
+        rs.getBigDecimal("base_price"),
+        rs.getString("cover_image_url")
+    );
+
+    // Catches rows committed late or written by instances with a skewed clock
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExpiringCache<GameId, GameCard> cache;
+    private final Duration syncInterval;
+    private final ScheduledExecutorService scheduler;
+
+    // Bumped on every sync that saw changes or deletions, so a load racing with it is not cached
+    private final AtomicLong refreshes = new AtomicLong();
+
+    private volatile Instant syncedSince = Instant.now();
+
+    public GameCardCache(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${catalog.game-cards.max-size:20000}") int maxSize,
+        @Value("${catalog.game-cards.ttl:PT10M}") Duration ttl,
+        @Value("${catalog.game-cards.sync-interval:PT5S}") Duration syncInterval,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.syncInterval = Objects.requireNonNull(syncInterval, "syncInterval must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        this.readOnlyTransaction = new TransactionTemplate(
+            Objects.requireNonNull(transactionManager, "transactionManager must not be null"));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = new ExpiringCache<GameId, GameCard>(maxSize, ttl)
+            .bindTo(meterRegistry, "catalog.game-cards");
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-card-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the cards of the given games that exist; unknown ids are
+     * absent from the map.
+     */
+    public Map<GameId, GameCard> getAll(Collection<GameId> gameIds) {
+        Objects.requireNonNull(gameIds, "gameIds must not be null");
+
+        Map<GameId, GameCard> cards = new HashMap<>(gameIds.size() * 2);
+        Set<GameId> missing = new LinkedHashSet<>();
+        for (GameId gameId : gameIds) {
+            GameCard card = cache.get(gameId);
+            if (card != null) {
+                cards.put(gameId, card);
+            } else {
+                missing.add(gameId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return cards;
+        }
+
+        long refreshesBefore = refreshes.get();
+        List<GameCard> loaded = load(missing);
+        boolean cacheable = refreshes.get() == refreshesBefore;
+        for (GameCard card : loaded) {
+            cards.put(card.gameId(), card);
+            if (cacheable) {
+                cache.put(card.gameId(), card);
+            }
+        }
+        return cards;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::sync, syncInterval.toMillis(), syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private List<GameCard> load(Collection<GameId> gameIds) {
+        List<GameCard> loaded = readOnlyTransaction.execute(status -> jdbcTemplate.query(
+            byIds(SELECT_SQL, gameIds),
+            ROW_MAPPER
+        ));
+        return loaded != null ? loaded : List.of();
+    }
+
+    void sync() {
+        Instant startedAt = Instant.now();
+        try {
+            List<GameCard> changed = jdbcTemplate.query(
+                CHANGED_SINCE_SQL, ROW_MAPPER, Timestamp.from(syncedSince.minus(SYNC_OVERLAP)));
+            if (!changed.isEmpty()) {
+                refreshes.incrementAndGet();
+                for (GameCard card : changed) {
+                    // Games nobody has listed recently stay out of the cache
+                    cache.replace(card.gameId(), card);
+                }
+            }
+            dropDeleted();
+            syncedSince = startedAt;
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Could not sync game card cache", ex);
+        } catch (RuntimeException ex) {
+            // Keep the scheduled sync alive
+            log.error("Unexpected error while syncing game card cache", ex);
+        }
+    }
+
+    private void dropDeleted() {
+        Set<GameId> cached = cache.keys();
+        if (cached.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> existing = new HashSet<>(jdbcTemplate.query(
+            byIds(EXISTING_SQL, cached),
+            (rs, rowNum) -> rs.getObject("id", UUID.class)
+        ));
+        List<GameId> deleted = new ArrayList<>();
+        for (GameId gameId : cached) {
+            if (!existing.contains(gameId.getValue())) {
+                deleted.add(gameId);
+            }
+        }
+        if (deleted.isEmpty()) {
+            return;
+        }
+
+        refreshes.incrementAndGet();
+        for (GameId gameId : deleted) {
+            cache.invalidate(gameId);
+        }
+    }
+
+    private static PreparedStatementCreator byIds(String sql, Collection<GameId> gameIds) {
+        Object[] ids = new Object[gameIds.size()];
+        int i = 0;
+        for (GameId gameId : gameIds) {
+            ids[i++] = gameId.getValue();
+        }
+
+        return con -> {
+            Array idArray = con.createArrayOf("uuid", ids);
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, idArray);
+            return ps;
+        };
+    }
+}
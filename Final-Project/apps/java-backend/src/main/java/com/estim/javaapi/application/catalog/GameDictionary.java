@@ -0,0 +1,49 @@
+package com.estim.javaapi.application.catalog;
+
+import com.estim.javaapi.domain.library.GameId;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide mapping of games to dense, non-negative ints, so per-user
+ * sets of games can be kept as bitmaps.
+ *
+ * Indexes are assigned on first use and never reused; they are local to
+ * this process and must not be persisted or sent to clients. Only ids of
+ * games read from the database are assigned, so the dictionary grows with
+ * the catalog rather than with client input.
+ */
+@Component
+public class GameDictionary {
+
+    private final ConcurrentHashMap<GameId, Integer> indexes = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public GameDictionary(MeterRegistry meterRegistry) {
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        Gauge.builder("catalog.game-dictionary.size", indexes, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns the index of the game, assigning the next free one if needed.
+     */
+    public int indexOf(GameId gameId) {
+        Objects.requireNonNull(gameId, "gameId must not be null");
+        return indexes.computeIfAbsent(gameId, id -> next.getAndIncrement());
+    }
+
+    /**
+     * Returns the index of the game, or -1 if none was assigned yet.
+     */
+    public int find(GameId gameId) {
+        Objects.requireNonNull(gameId, "gameId must not be null");
+        Integer index = indexes.get(gameId);
+        return index != null ? index : -1;
+    }
+}
@@ -0,0 +1,57 @@
+package com.estim.javaapi.application.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position in a list ordered by {@code (added_at DESC, id DESC)}: the last
+ * row of the previous page. The next page starts strictly after it.
+ *
+ * Clients only see the opaque token produced by {@link #encode()}.
+ */
+public record KeysetCursor(
+    Instant addedAt,
+    UUID id
+) {
+
+    private static final char SEPARATOR = '|';
+
+    public KeysetCursor {
+        Objects.requireNonNull(addedAt, "addedAt must not be null");
+        Objects.requireNonNull(id, "id must not be null");
+    }
+
+    public String encode() {
+        String raw = addedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("cursor must not be blank");
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(
+                Instant.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
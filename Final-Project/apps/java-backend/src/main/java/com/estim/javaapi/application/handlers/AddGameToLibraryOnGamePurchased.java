@@ -36,7 +36,8 @@ public class AddGameToLibraryOnGamePurchased {
             LibraryEntrySource.PURCHASE
         );
 
-        addGameToLibraryService.addGameToLibrary(command);
+        // Redelivered or concurrent purchase events must not fail on an owned game
+        addGameToLibraryService.addGameToLibraryIfAbsent(command);
     }
 
     /**
@@ -0,0 +1,23 @@
+package com.estim.javaapi.application.handlers;
+
+import com.estim.javaapi.domain.user.UserId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * One audit log record: what happened, to or by whom, and when.
+ *
+ * @param userId the user the action concerns, may be null for system actions
+ */
+public record AuditEntry(
+    Instant occurredAt,
+    String action,
+    UserId userId,
+    String details
+) {
+    public AuditEntry {
+        Objects.requireNonNull(occurredAt, "occurredAt must not be null");
+        Objects.requireNonNull(action, "action must not be null");
+    }
+}
@@ -4,7 +4,6 @@ import com.estim.javaapi.domain.user.UserRepository;
 import com.estim.javaapi.domain.user.events.UserLoggedIn;
 import org.springframework.stereotype.Component;
 
-import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
 /**
@@ -12,7 +11,7 @@ import java.util.Objects;
  * whenever a user successfully logs in.
  */
 @Component
-public class AuditLogOnUserLoggedIn {
+public class AuditLogOnUserLoggedIn implements DomainEventHandler<UserLoggedIn> {
 
     private final UserRepository userRepository;
     private final AuditLogger auditLogger;
@@ -24,16 +23,22 @@ public class AuditLogOnUserLoggedIn {
         this.auditLogger = Objects.requireNonNull(auditLogger);
     }
 
+    @Override
     public void handle(UserLoggedIn event) {
-        var userOpt = userRepository.findById(event.userId());
-        var user = userOpt.orElse(null);
-
-        String email = user != null ? user.email().value() : "unknown";
-        String timestamp = DateTimeFormatter.ISO_INSTANT.format(event.occurredAt());
-
-        String message = "User logged in: userId=%s, email=%s, at=%s"
-            .formatted(event.userId(), email, timestamp);
+        // Publishers normally attach a snapshot; only fall back to a lookup without one
+        String email = event.snapshot() != null ? event.snapshot().email() : loadEmail(event);
+
+        auditLogger.log(new AuditEntry(
+            event.occurredAt(),
+            "USER_LOGGED_IN",
+            event.userId(),
+            "email=" + email
+        ));
+    }
 
-        auditLogger.log(message);
+    private String loadEmail(UserLoggedIn event) {
+        return userRepository.findByIdCore(event.userId())
+            .map(user -> user.email().value())
+            .orElse("unknown");
     }
 }
@@ -2,8 +2,11 @@ package com.estim.javaapi.application.handlers;
 
 /**
  * Port for writing audit logs of important user actions.
+ *
+ * Implementations may write asynchronously; {@link #log(AuditEntry)} must
+ * not block on I/O.
  */
 public interface AuditLogger {
 
-    void log(String message);
+    void log(AuditEntry entry);
 }
@@ -0,0 +1,15 @@
+package com.estim.javaapi.application.handlers;
+
+import com.estim.javaapi.domain.common.DomainEvent;
+
+/**
+ * Application-level handler for one type of domain event.
+ *
+ * Handlers are discovered by their event type at startup and run after the
+ * publishing transaction commits, off the request thread. Handlers for
+ * events of the same aggregate run in publication order.
+ */
+public interface DomainEventHandler<E extends DomainEvent> {
+
+    void handle(E event);
+}
@@ -0,0 +1,28 @@
+package com.estim.javaapi.application.handlers;
+
+import com.estim.javaapi.application.profile.UserSummaryReader;
+import com.estim.javaapi.domain.user.events.UserProfileUpdated;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Application event handler that drops the cached read model of a user
+ * whose profile changed.
+ */
+@Component
+public class EvictUserSummaryOnProfileUpdated implements DomainEventHandler<UserProfileUpdated> {
+
+    private final UserSummaryReader userSummaryReader;
+
+    public EvictUserSummaryOnProfileUpdated(UserSummaryReader userSummaryReader) {
+        this.userSummaryReader = Objects.requireNonNull(userSummaryReader);
+    }
+
+    @Override
+    public void handle(UserProfileUpdated event) {
+        if (event.userId() != null) {
+            userSummaryReader.evict(event.userId());
+        }
+    }
+}
@@ -13,7 +13,7 @@ import java.util.Objects;
  * when a PasswordResetRequested event is raised.
  */
 @Component
-public class SendPasswordResetEmailOnRequested {
+public class SendPasswordResetEmailOnRequested implements DomainEventHandler<PasswordResetRequested> {
 
     private final UserRepository userRepository;
     private final PasswordResetTokenRepository tokenRepository;
@@ -33,6 +33,7 @@ public class SendPasswordResetEmailOnRequested {
         this.resetBaseUrl = Objects.requireNonNull(resetBaseUrl);
     }
 
+    @Override
     public void handle(PasswordResetRequested event) {
         var tokenOpt = tokenRepository.findByTokenId(event.tokenId());
         if (tokenOpt.isEmpty()) {
@@ -41,7 +42,7 @@ public class SendPasswordResetEmailOnRequested {
 
         var token = tokenOpt.get();
 
-        var userOpt = userRepository.findById(token.userId());
+        var userOpt = userRepository.findByIdCore(token.userId());
         if (userOpt.isEmpty()) {
             return;
         }
@@ -10,7 +10,7 @@ import java.util.Objects;
  * Application event handler that sends a welcome email when a user registers.
  */
 @Component
-public class SendWelcomeEmailOnUserRegistered {
+public class SendWelcomeEmailOnUserRegistered implements DomainEventHandler<UserRegistered> {
 
     private final UserRepository userRepository;
     private final EmailSender emailSender;
@@ -21,8 +21,9 @@ public class SendWelcomeEmailOnUserRegistered {
         this.emailSender = Objects.requireNonNull(emailSender);
     }
 
+    @Override
     public void handle(UserRegistered event) {
-        var user = userRepository.findById(event.userId())
+        var user = userRepository.findByIdCore(event.userId())
             .orElse(null);
 
         if (user == null) {
@@ -0,0 +1,26 @@
+package com.estim.javaapi.application.handlers;
+
+import com.estim.javaapi.application.membership.GameMembershipIndex;
+import com.estim.javaapi.domain.library.events.GameAddedToLibrary;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Application event handler that updates the cached game memberships of
+ * a user when a game was added to their library.
+ */
+@Component
+public class UpdateMembershipOnGameAddedToLibrary implements DomainEventHandler<GameAddedToLibrary> {
+
+    private final GameMembershipIndex gameMembershipIndex;
+
+    public UpdateMembershipOnGameAddedToLibrary(GameMembershipIndex gameMembershipIndex) {
+        this.gameMembershipIndex = Objects.requireNonNull(gameMembershipIndex);
+    }
+
+    @Override
+    public void handle(GameAddedToLibrary event) {
+        gameMembershipIndex.addedToLibrary(event.getUserId(), event.getGameId());
+    }
+}
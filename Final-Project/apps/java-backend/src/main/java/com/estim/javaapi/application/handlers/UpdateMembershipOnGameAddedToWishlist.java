@@ -0,0 +1,26 @@
+package com.estim.javaapi.application.handlers;
+
+import com.estim.javaapi.application.membership.GameMembershipIndex;
+import com.estim.javaapi.domain.wishlist.events.GameAddedToWishlist;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Application event handler that updates the cached game memberships of
+ * a user when a game was added to their wishlist.
+ */
+@Component
+public class UpdateMembershipOnGameAddedToWishlist implements DomainEventHandler<GameAddedToWishlist> {
+
+    private final GameMembershipIndex gameMembershipIndex;
+
+    public UpdateMembershipOnGameAddedToWishlist(GameMembershipIndex gameMembershipIndex) {
+        this.gameMembershipIndex = Objects.requireNonNull(gameMembershipIndex);
+    }
+
+    @Override
+    public void handle(GameAddedToWishlist event) {
+        gameMembershipIndex.addedToWishlist(event.getUserId(), event.getGameId());
+    }
+}
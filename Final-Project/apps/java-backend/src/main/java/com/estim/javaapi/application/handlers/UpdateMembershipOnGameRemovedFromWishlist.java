@@ -0,0 +1,26 @@
+package com.estim.javaapi.application.handlers;
+
+import com.estim.javaapi.application.membership.GameMembershipIndex;
+import com.estim.javaapi.domain.wishlist.events.GameRemovedFromWishlist;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Application event handler that updates the cached game memberships of
+ * a user when a game was removed from their wishlist.
+ */
+@Component
+public class UpdateMembershipOnGameRemovedFromWishlist implements DomainEventHandler<GameRemovedFromWishlist> {
+
+    private final GameMembershipIndex gameMembershipIndex;
+
+    public UpdateMembershipOnGameRemovedFromWishlist(GameMembershipIndex gameMembershipIndex) {
+        this.gameMembershipIndex = Objects.requireNonNull(gameMembershipIndex);
+    }
+
+    @Override
+    public void handle(GameRemovedFromWishlist event) {
+        gameMembershipIndex.removedFromWishlist(event.getUserId(), event.getGameId());
+    }
+}
@@ -7,8 +7,10 @@ import com.estim.javaapi.domain.library.LibraryRepository;
 import com.estim.javaapi.domain.library.events.GameAddedToLibrary;
 import com.estim.javaapi.domain.user.UserId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Optional;
 
 /**
  * Application service for adding a game to a user's library.
@@ -25,14 +27,26 @@ public class AddGameToLibraryService {
         this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * @throws IllegalStateException if the game is already in the user's library
+     */
+    @Transactional
     public LibraryEntry addGameToLibrary(AddGameToLibraryCommand command) {
+        return addGameToLibraryIfAbsent(command)
+            .orElseThrow(() -> new IllegalStateException("Game is already in user's library"));
+    }
+
+    /**
+     * Idempotent variant for event-driven grants such as purchases: a game
+     * that is already owned is left alone and no event is published.
+     *
+     * @return the new entry, or empty if the game was already in the library
+     */
+    @Transactional
+    public Optional<LibraryEntry> addGameToLibraryIfAbsent(AddGameToLibraryCommand command) {
         UserId userId = command.userId();
         GameId gameId = command.gameId();
 
-        libraryRepository.findByUserAndGame(userId, gameId).ifPresent(existing -> {
-            throw new IllegalStateException("Game is already in user's library");
-        });
-
         LibraryEntry entry = LibraryEntry.newEntry(
             userId,
             gameId,
@@ -40,14 +54,14 @@ public class AddGameToLibraryService {
             Instant.now()
         );
 
-        LibraryEntry saved = libraryRepository.save(entry);
+        Optional<LibraryEntry> inserted = libraryRepository.insertIfAbsent(entry);
 
-        eventPublisher.publish(new GameAddedToLibrary(
+        inserted.ifPresent(saved -> eventPublisher.publish(new GameAddedToLibrary(
             saved.getId(),
             saved.getUserId(),
             saved.getGameId()
-        ));
+        )));
 
-        return saved;
+        return inserted;
     }
 }
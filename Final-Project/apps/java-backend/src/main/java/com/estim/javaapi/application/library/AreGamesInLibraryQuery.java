@@ -0,0 +1,21 @@
+package com.estim.javaapi.application.library;
+
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.user.UserId;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Query to check which of several games a given user owns.
+ */
+public record AreGamesInLibraryQuery(
+    UserId userId,
+    List<GameId> gameIds
+) {
+
+    public AreGamesInLibraryQuery {
+        Objects.requireNonNull(userId, "userId must not be null");
+        gameIds = List.copyOf(Objects.requireNonNull(gameIds, "gameIds must not be null"));
+    }
+}
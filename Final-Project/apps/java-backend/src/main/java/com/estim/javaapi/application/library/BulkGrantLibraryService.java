@@ -0,0 +1,120 @@
+package com.estim.javaapi.application.library;
+
+import com.estim.javaapi.domain.common.DomainEventPublisher;
+import com.estim.javaapi.domain.library.LibraryEntry;
+import com.estim.javaapi.domain.library.LibraryRepository;
+import com.estim.javaapi.domain.library.events.GameAddedToLibrary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Grants many (user, game, source) library entries at once, e.g. for bundle
+ * purchases or publisher giveaways.
+ *
+ * The input is consumed as a stream in chunks. Each chunk is one
+ * transaction with one multi-row insert, and the {@link GameAddedToLibrary}
+ * events of the rows it created are published together. Games a user
+ * already owns are skipped, so a failed grant can simply be rerun; chunks
+ * committed before a failure stay committed.
+ */
+@Service
+public class BulkGrantLibraryService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkGrantLibraryService.class);
+
+    private final LibraryRepository libraryRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Counter insertedRows;
+    private final Counter skippedRows;
+    private final Timer chunkTimer;
+
+    public BulkGrantLibraryService(
+        LibraryRepository libraryRepository,
+        DomainEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager,
+        @Value("${library.bulk-grant.chunk-size:1000}") int chunkSize,
+        MeterRegistry meterRegistry
+    ) {
+        this.libraryRepository = Objects.requireNonNull(libraryRepository, "libraryRepository must not be null");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "eventPublisher must not be null");
+        this.transactionTemplate = new TransactionTemplate(
+            Objects.requireNonNull(transactionManager, "transactionManager must not be null"));
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = chunkSize;
+
+        this.insertedRows = Counter.builder("library.bulk-grant.rows").tag("result", "inserted").register(meterRegistry);
+        this.skippedRows = Counter.builder("library.bulk-grant.rows").tag("result", "skipped").register(meterRegistry);
+        this.chunkTimer = Timer.builder("library.bulk-grant.chunk").register(meterRegistry);
+    }
+
+    /**
+     * Consumes and closes {@code grants}.
+     */
+    public BulkGrantResult grant(Stream<AddGameToLibraryCommand> grants) {
+        Objects.requireNonNull(grants, "grants must not be null");
+
+        long started = System.nanoTime();
+        long requested = 0;
+        long inserted = 0;
+
+        try (grants) {
+            Iterator<AddGameToLibraryCommand> iterator = grants.iterator();
+            List<AddGameToLibraryCommand> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(Objects.requireNonNull(iterator.next(), "grant must not be null"));
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    requested += chunk.size();
+                    inserted += grantChunk(chunk);
+                    chunk.clear();
+                }
+            }
+        }
+
+        BulkGrantResult result = new BulkGrantResult(requested, inserted, Duration.ofNanos(System.nanoTime() - started));
+        log.info("Bulk library grant: {} requested, {} inserted in {} ms ({} rows/s)",
+            result.requested(), result.inserted(), result.elapsed().toMillis(), Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    private int grantChunk(List<AddGameToLibraryCommand> chunk) {
+        Instant now = Instant.now();
+        List<LibraryEntry> entries = new ArrayList<>(chunk.size());
+        for (AddGameToLibraryCommand grant : chunk) {
+            entries.add(LibraryEntry.newEntry(grant.userId(), grant.gameId(), grant.source(), now));
+        }
+
+        List<LibraryEntry> created = chunkTimer.record(() -> transactionTemplate.execute(status -> {
+            List<LibraryEntry> rows = libraryRepository.insertAllIfAbsent(entries);
+            eventPublisher.publishAll(rows.stream()
+                .map(entry -> new GameAddedToLibrary(entry.getId(), entry.getUserId(), entry.getGameId()))
+                .toList());
+            return rows;
+        }));
+
+        int insertedCount = created != null ? created.size() : 0;
+        insertedRows.increment(insertedCount);
+        skippedRows.increment(chunk.size() - insertedCount);
+        return insertedCount;
+    }
+}
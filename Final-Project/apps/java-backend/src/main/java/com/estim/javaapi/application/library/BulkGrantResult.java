@@ -0,0 +1,21 @@
+package com.estim.javaapi.application.library;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a bulk library grant.
+ *
+ * @param requested grants read from the input
+ * @param inserted  entries actually created; the rest were already owned
+ */
+public record BulkGrantResult(
+    long requested,
+    long inserted,
+    Duration elapsed
+) {
+
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos > 0 ? requested * 1_000_000_000.0 / nanos : 0;
+    }
+}
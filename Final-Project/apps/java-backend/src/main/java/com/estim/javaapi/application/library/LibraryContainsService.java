@@ -0,0 +1,44 @@
+package com.estim.javaapi.application.library;
+
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.library.LibraryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Application service telling which of many games a user owns, with one
+ * query whatever the number of games.
+ */
+@Service
+public class LibraryContainsService {
+
+    public static final int MAX_GAMES = 500;
+
+    private final LibraryRepository libraryRepository;
+
+    public LibraryContainsService(LibraryRepository libraryRepository) {
+        this.libraryRepository = libraryRepository;
+    }
+
+    /**
+     * @return whether each requested game is owned, in the order requested
+     */
+    @Transactional(readOnly = true)
+    public Map<GameId, Boolean> contains(AreGamesInLibraryQuery query) {
+        if (query.gameIds().size() > MAX_GAMES) {
+            throw new IllegalArgumentException("at most " + MAX_GAMES + " games can be checked at once");
+        }
+
+        Set<GameId> owned = libraryRepository.findGameIdsIn(query.userId(), query.gameIds());
+
+        Map<GameId, Boolean> result = new LinkedHashMap<>(query.gameIds().size() * 2);
+        for (GameId gameId : query.gameIds()) {
+            result.put(gameId, owned.contains(gameId));
+        }
+        return result;
+    }
+}
@@ -1,73 +1,173 @@
 package com.estim.javaapi.application.library;
 
+import com.estim.javaapi.application.catalog.GameCard;
+import com.estim.javaapi.application.catalog.GameCardCache;
+import com.estim.javaapi.application.common.KeysetCursor;
+import com.estim.javaapi.domain.library.GameId;
 import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.presentation.common.PageResponse;
 import com.estim.javaapi.presentation.library.LibraryEntryResponse;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
- * Application service for listing all library entries for a user,
- * enriched with game title + cover image from games + game_media.
+ * Application service for listing library entries for a user,
+ * enriched with game title + cover image from the {@link GameCardCache}.
+ *
+ * Only the libraries table is queried; entries whose game no longer
+ * exists are left out. Besides the full list, entries can be read a page
+ * at a time (keyset on {@code (added_at, id)}) or streamed without
+ * building the whole list.
  */
 @Service
 public class ListUserLibraryService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // Rows the driver pulls per round trip while streaming, and rows enriched at once
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SELECT_SQL = """
+        SELECT
+          l.id        AS library_id,
+          l.game_id   AS game_id,
+          l.source    AS source,
+          l.added_at  AS added_at
+        FROM libraries l
+        WHERE l.user_id = ?
+        """;
+
+    private static final String ORDER_SQL = "ORDER BY l.added_at DESC, l.id DESC";
+
+    private static final RowMapper<LibraryRow> ROW_MAPPER = (rs, rowNum) -> toRow(rs);
+
+    private record LibraryRow(UUID libraryId, GameId gameId, String source, Instant addedAt) {}
+
     private final JdbcTemplate jdbcTemplate;
+    private final GameCardCache gameCardCache;
 
-    public ListUserLibraryService(JdbcTemplate jdbcTemplate) {
+    public ListUserLibraryService(JdbcTemplate jdbcTemplate, GameCardCache gameCardCache) {
         this.jdbcTemplate = jdbcTemplate;
+        this.gameCardCache = gameCardCache;
     }
 
+    @Transactional(readOnly = true)
     public List<LibraryEntryResponse> listUserLibrary(ListUserLibraryQuery query) {
         UserId userId = query.userId();
+        return enrich(jdbcTemplate.query(SELECT_SQL + ORDER_SQL, ROW_MAPPER, userId.value()));
+    }
+
+    /**
+     * Returns up to {@code limit} entries added before {@code after}
+     * (from the newest entry when {@code after} is null).
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<LibraryEntryResponse> listUserLibraryPage(ListUserLibraryQuery query,
+                                                                  KeysetCursor after,
+                                                                  int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        UserId userId = query.userId();
+
+        // One extra row tells whether there is a next page
+        List<LibraryRow> rows = after == null
+            ? jdbcTemplate.query(
+                SELECT_SQL + ORDER_SQL + " LIMIT ?",
+                ROW_MAPPER,
+                userId.value(), limit + 1)
+            : jdbcTemplate.query(
+                SELECT_SQL + "AND (l.added_at, l.id) < (?, ?)\n" + ORDER_SQL + " LIMIT ?",
+                ROW_MAPPER,
+                userId.value(), Timestamp.from(after.addedAt()), after.id(), limit + 1);
 
-        String sql = """
-            SELECT
-              l.id        AS library_id,
-              l.game_id   AS game_id,
-              l.source    AS source,
-              l.added_at  AS added_at,
-              g.title     AS game_title,
-              (
-                SELECT gm.url
-                FROM game_media gm
-                WHERE gm.game_id = g.id
-                  AND gm.media_type = 'cover_art'
-                ORDER BY gm.display_order ASC
-                LIMIT 1
-              ) AS cover_image_url
-            FROM libraries l
-            JOIN games g ON g.id = l.game_id
-            WHERE l.user_id = ?
-            ORDER BY l.added_at DESC
-            """;
-
-        return jdbcTemplate.query(
-            sql,
-            (rs, rowNum) -> {
-                UUID libraryId = UUID.fromString(rs.getString("library_id"));
-                UUID gameId = UUID.fromString(rs.getString("game_id"));
-                String gameTitle = rs.getString("game_title");       // <- from games.title
-                String coverImageUrl = rs.getString("cover_image_url"); // <- from game_media.url
-                String source = rs.getString("source");
-                Timestamp addedAtTs = rs.getTimestamp("added_at");
-                Instant addedAt = addedAtTs != null ? addedAtTs.toInstant() : null;
-
-                return new LibraryEntryResponse(
-                    libraryId,
-                    gameId,
-                    gameTitle,
-                    coverImageUrl,
-                    source,
-                    addedAt
-                );
+        if (rows.size() <= limit) {
+            return new PageResponse<>(enrich(rows), null);
+        }
+        List<LibraryRow> page = rows.subList(0, limit);
+        LibraryRow last = page.get(limit - 1);
+        return new PageResponse<>(enrich(page), new KeysetCursor(last.addedAt(), last.libraryId()).encode());
+    }
+
+    /**
+     * Hands every entry to {@code sink} as it is read from the result set,
+     * newest first, enriching {@value #STREAM_FETCH_SIZE} rows at a time.
+     * The transaction (and its connection) stays open until the last row
+     * has been consumed.
+     */
+    @Transactional(readOnly = true)
+    public void streamUserLibrary(ListUserLibraryQuery query, Consumer<LibraryEntryResponse> sink) {
+        UserId userId = query.userId();
+        List<LibraryRow> batch = new ArrayList<>(STREAM_FETCH_SIZE);
+        jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(
+                    SELECT_SQL + ORDER_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // Honoured by pgjdbc only outside autocommit, hence the transaction
+                ps.setFetchSize(STREAM_FETCH_SIZE);
+                ps.setObject(1, userId.value());
+                return ps;
             },
-            userId.value()
+            (RowCallbackHandler) rs -> {
+                batch.add(toRow(rs));
+                if (batch.size() == STREAM_FETCH_SIZE) {
+                    enrich(batch).forEach(sink);
+                    batch.clear();
+                }
+            }
         );
+        enrich(batch).forEach(sink);
+    }
+
+    private List<LibraryEntryResponse> enrich(List<LibraryRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<GameId> gameIds = new ArrayList<>(rows.size());
+        for (LibraryRow row : rows) {
+            gameIds.add(row.gameId());
+        }
+        Map<GameId, GameCard> cards = gameCardCache.getAll(gameIds);
+
+        List<LibraryEntryResponse> entries = new ArrayList<>(rows.size());
+        for (LibraryRow row : rows) {
+            GameCard card = cards.get(row.gameId());
+            if (card == null) {
+                continue;
+            }
+            entries.add(new LibraryEntryResponse(
+                row.libraryId(),
+                row.gameId().getValue(),
+                card.title(),
+                card.coverImageUrl(),
+                row.source(),
+                row.addedAt()
+            ));
+        }
+        return entries;
+    }
+
+    private static LibraryRow toRow(ResultSet rs) throws SQLException {
+        UUID libraryId = UUID.fromString(rs.getString("library_id"));
+        UUID gameId = UUID.fromString(rs.getString("game_id"));
+        String source = rs.getString("source");
+        Timestamp addedAtTs = rs.getTimestamp("added_at");
+        Instant addedAt = addedAtTs != null ? addedAtTs.toInstant() : null;
+
+        return new LibraryRow(libraryId, GameId.of(gameId), source, addedAt);
     }
 }
@@ -0,0 +1,9 @@
+package com.estim.javaapi.application.membership;
+
+/**
+ * Whether a game is in a user's library and in their wishlist.
+ */
+public record GameMembership(boolean owned, boolean wishlisted) {
+
+    public static final GameMembership NONE = new GameMembership(false, false);
+}
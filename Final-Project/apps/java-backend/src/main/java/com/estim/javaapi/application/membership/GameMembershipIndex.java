@@ -0,0 +1,182 @@
+package com.estim.javaapi.application.membership;
+
+import com.estim.javaapi.application.catalog.GameDictionary;
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.cache.ExpiringCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user index of owned and wishlisted games, answering "owned" and
+ * "wishlisted" badges for many games without a query per game.
+ *
+ * A user's games are loaded on first use with one query over libraries
+ * and wishlists and kept as two bitmaps keyed by {@link GameDictionary}
+ * indexes. Cached users are updated in place by the library and wishlist
+ * event handlers; the least recently read users are evicted past the
+ * maximum size, and the TTL bounds staleness for changes that raise no
+ * event and for changes made through other instances. Library removals
+ * are one such change: they happen outside this service and raise no
+ * event, so a cached user keeps a removed game as owned until the entry
+ * expires.
+ */
+@Component
+public class GameMembershipIndex {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private static final String SELECT_SQL = """
+        SELECT game_id, TRUE AS owned FROM libraries WHERE user_id = ?
+        UNION ALL
+        SELECT game_id, FALSE AS owned FROM wishlists WHERE user_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final GameDictionary gameDictionary;
+    private final ExpiringCache<UUID, Memberships> cache;
+
+    // One token per user with a load in flight; a change to that user
+    // removes it, so a load that raced with the change does not stay cached
+    private final ConcurrentHashMap<UUID, Object> loading = new ConcurrentHashMap<>();
+
+    public GameMembershipIndex(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        GameDictionary gameDictionary,
+        @Value("${membership.max-users:50000}") int maxUsers,
+        @Value("${membership.ttl:PT10M}") Duration ttl,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.gameDictionary = Objects.requireNonNull(gameDictionary, "gameDictionary must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.readOnlyTransaction = new TransactionTemplate(
+            Objects.requireNonNull(transactionManager, "transactionManager must not be null"));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = new ExpiringCache<UUID, Memberships>(maxUsers, ttl)
+            .bindTo(meterRegistry, "membership");
+    }
+
+    /**
+     * Returns the membership of each of the given games, in the order
+     * given; duplicates are collapsed.
+     */
+    public Map<GameId, GameMembership> membershipOf(UserId userId, Collection<GameId> gameIds) {
+        Objects.requireNonNull(userId, "userId must not be null");
+        Objects.requireNonNull(gameIds, "gameIds must not be null");
+        if (gameIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("at most " + MAX_BATCH_SIZE + " games can be checked at once");
+        }
+
+        Memberships memberships = memberships(userId);
+        Map<GameId, GameMembership> result = new LinkedHashMap<>(gameIds.size() * 2);
+        for (GameId gameId : gameIds) {
+            Objects.requireNonNull(gameId, "gameIds must not contain null");
+            // Games without an index are in nobody's library or wishlist yet
+            int index = gameDictionary.find(gameId);
+            result.put(gameId, index < 0 ? GameMembership.NONE : memberships.get(index));
+        }
+        return result;
+    }
+
+    public void addedToLibrary(UserId userId, GameId gameId) {
+        int index = gameDictionary.indexOf(gameId);
+        loading.remove(userId.value());
+        Memberships memberships = cache.get(userId.value());
+        if (memberships != null) {
+            memberships.setOwned(index);
+        }
+    }
+
+    public void addedToWishlist(UserId userId, GameId gameId) {
+        int index = gameDictionary.indexOf(gameId);
+        loading.remove(userId.value());
+        Memberships memberships = cache.get(userId.value());
+        if (memberships != null) {
+            memberships.setWishlisted(index, true);
+        }
+    }
+
+    public void removedFromWishlist(UserId userId, GameId gameId) {
+        int index = gameDictionary.indexOf(gameId);
+        loading.remove(userId.value());
+        Memberships memberships = cache.get(userId.value());
+        if (memberships != null) {
+            memberships.setWishlisted(index, false);
+        }
+    }
+
+    private Memberships memberships(UserId userId) {
+        UUID id = userId.value();
+        Memberships cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object token = new Object();
+        loading.put(id, token);
+        Memberships loaded = new Memberships();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                SELECT_SQL,
+                (RowCallbackHandler) rs -> {
+                    int index = gameDictionary.indexOf(GameId.of(rs.getObject("game_id", UUID.class)));
+                    if (rs.getBoolean("owned")) {
+                        loaded.setOwned(index);
+                    } else {
+                        loaded.setWishlisted(index, true);
+                    }
+                },
+                id, id
+            ));
+        } catch (RuntimeException ex) {
+            loading.remove(id, token);
+            throw ex;
+        }
+
+        cache.put(id, loaded);
+        // Losing the token means the user's games changed, or a newer load
+        // started, after this one read them: drop what it cached
+        if (!loading.remove(id, token)) {
+            cache.invalidate(id);
+        }
+        return loaded;
+    }
+
+    /**
+     * Owned and wishlisted games of one user, by dictionary index.
+     */
+    private static final class Memberships {
+
+        private final BitSet owned = new BitSet();
+        private final BitSet wishlisted = new BitSet();
+
+        synchronized GameMembership get(int index) {
+            return new GameMembership(owned.get(index), wishlisted.get(index));
+        }
+
+        synchronized void setOwned(int index) {
+            owned.set(index);
+        }
+
+        synchronized void setWishlisted(int index, boolean value) {
+            wishlisted.set(index, value);
+        }
+    }
+}
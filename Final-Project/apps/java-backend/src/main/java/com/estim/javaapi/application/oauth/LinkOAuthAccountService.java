@@ -31,7 +31,7 @@ public class LinkOAuthAccountService {
         UserId userId = new UserId(UUID.fromString(command.userId()));
         OAuthProvider provider = OAuthProvider.valueOf(command.provider().toUpperCase());
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdWithLinkedAccounts(userId)
             .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         String externalUserId;
@@ -5,6 +5,7 @@ import com.estim.javaapi.application.auth.TokenService;
 import com.estim.javaapi.domain.common.DomainEventPublisher;
 import com.estim.javaapi.domain.user.*;
 import com.estim.javaapi.domain.user.events.UserLoggedIn;
+import com.estim.javaapi.domain.user.events.UserSnapshot;
 import com.estim.javaapi.infrastructure.oauth.GoogleOAuthClient;
 import com.estim.javaapi.infrastructure.oauth.OAuthUserInfo;
 import org.springframework.stereotype.Component;
@@ -58,7 +59,7 @@ public class LoginWithOAuthService {
             .findByProviderAndExternalUserId(provider, externalId)
             .orElseThrow(() -> new IllegalArgumentException("OAuth account not linked"));
 
-        User user = userRepository.findById(account.userId())
+        User user = userRepository.findByIdCore(account.userId())
             .orElseThrow(() -> new IllegalStateException("User not found for linked OAuth account"));
 
         user.markLogin();
@@ -68,7 +69,7 @@ public class LoginWithOAuthService {
         String accessToken = tokenService.generateAccessToken(userId);
         String refreshToken = tokenService.generateRefreshToken(userId);
 
-        eventPublisher.publish(new UserLoggedIn(userId, Instant.now()));
+        eventPublisher.publish(new UserLoggedIn(userId, UserSnapshot.of(user), Instant.now()));
 
         return new AuthenticationResult(accessToken, refreshToken, user);
     }
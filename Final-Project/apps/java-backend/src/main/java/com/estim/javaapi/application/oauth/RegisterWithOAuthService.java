@@ -68,7 +68,7 @@ public class RegisterWithOAuthService {
 
         if (existingAccountOpt.isPresent()) {
             OAuthAccount existingAccount = existingAccountOpt.get();
-            User user = userRepository.findById(existingAccount.userId())
+            User user = userRepository.findByIdCore(existingAccount.userId())
                 .orElseThrow(() -> new IllegalStateException("User not found for existing OAuth account"));
 
             // Mark login & issue tokens
@@ -80,6 +80,7 @@ public class RegisterWithOAuthService {
 
             eventPublisher.publish(new com.estim.javaapi.domain.user.events.UserLoggedIn(
                 user.id(),
+                com.estim.javaapi.domain.user.events.UserSnapshot.of(user),
                 java.time.Instant.now()
             ));
 
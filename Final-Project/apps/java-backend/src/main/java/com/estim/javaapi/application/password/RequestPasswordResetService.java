@@ -9,6 +9,7 @@ import com.estim.javaapi.domain.user.UserRepository;
 import com.estim.javaapi.domain.user.events.PasswordResetRequested;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -40,6 +41,7 @@ public class RequestPasswordResetService {
         this.tokenTtl = Objects.requireNonNull(tokenTtl);
     }
 
+    @Transactional
     public void requestReset(RequestPasswordResetCommand command) {
         Email email = new Email(command.email());
 
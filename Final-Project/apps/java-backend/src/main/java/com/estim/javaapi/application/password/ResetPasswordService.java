@@ -3,18 +3,26 @@ package com.estim.javaapi.application.password;
 import com.estim.javaapi.domain.common.DomainEventPublisher;
 import com.estim.javaapi.application.auth.PasswordHasher;
 import com.estim.javaapi.application.auth.PasswordPolicy;
+import com.estim.javaapi.domain.user.PasswordHash;
 import com.estim.javaapi.domain.user.PasswordResetToken;
 import com.estim.javaapi.domain.user.PasswordResetTokenRepository;
 import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.domain.user.UserRepository;
 import com.estim.javaapi.domain.user.events.PasswordChanged;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.util.Objects;
 
 /**
  * Application service for completing the password reset flow.
+ *
+ * The new password is hashed before the write transaction opens, so a
+ * connection is not held while the request waits for the hashing pool.
+ * The token is checked again inside the transaction in case a concurrent
+ * reset used it meanwhile.
  */
 @Service
 public class ResetPasswordService {
@@ -24,42 +32,56 @@ public class ResetPasswordService {
     private final PasswordPolicy passwordPolicy;
     private final PasswordHasher passwordHasher;
     private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public ResetPasswordService(PasswordResetTokenRepository tokenRepository,
                                 UserRepository userRepository,
                                 PasswordPolicy passwordPolicy,
                                 PasswordHasher passwordHasher,
-                                DomainEventPublisher eventPublisher) {
+                                DomainEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
 
         this.tokenRepository = Objects.requireNonNull(tokenRepository);
         this.userRepository = Objects.requireNonNull(userRepository);
         this.passwordPolicy = Objects.requireNonNull(passwordPolicy);
         this.passwordHasher = Objects.requireNonNull(passwordHasher);
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
     }
 
     public void resetPassword(ResetPasswordCommand command) {
-        PasswordResetToken resetToken = tokenRepository.findByToken(command.token())
-            .orElseThrow(() -> new IllegalArgumentException("Invalid or expired token"));
-
-        if (resetToken.used() || resetToken.isExpired()) {
-            throw new IllegalArgumentException("Invalid or expired token");
-        }
+        findUsableToken(command.token());
 
         if (!passwordPolicy.isValid(command.newPassword())) {
             throw new IllegalArgumentException("Password does not meet policy requirements");
         }
 
-        User user = userRepository.findById(resetToken.userId())
-            .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        PasswordHash newHash = passwordHasher.hash(command.newPassword());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            PasswordResetToken resetToken = findUsableToken(command.token());
+
+            User user = userRepository.findByIdCore(resetToken.userId())
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        user.changePassword(passwordHasher.hash(command.newPassword()));
+            user.changePassword(newHash);
 
-        resetToken.markUsed();
+            resetToken.markUsed();
 
-        userRepository.save(user);
-        tokenRepository.save(resetToken);
+            userRepository.save(user);
+            tokenRepository.save(resetToken);
 
-        eventPublisher.publish(new PasswordChanged(user.id(), Instant.now()));
+            eventPublisher.publish(new PasswordChanged(user.id(), Instant.now()));
+        });
+    }
+
+    private PasswordResetToken findUsableToken(String token) {
+        PasswordResetToken resetToken = tokenRepository.findByToken(token)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid or expired token"));
+
+        if (resetToken.used() || resetToken.isExpired()) {
+            throw new IllegalArgumentException("Invalid or expired token");
+        }
+        return resetToken;
     }
 }
@@ -7,6 +7,7 @@ import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.domain.user.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -30,6 +31,7 @@ public class AddPaymentMethodService {
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
+    @Transactional
     public void add(AddPaymentMethodCommand command) {
         UserId userId = new UserId(UUID.fromString(command.userId()));
         PaymentProvider provider = PaymentProvider.valueOf(command.provider().toUpperCase());
@@ -37,7 +39,7 @@ public class AddPaymentMethodService {
         // Optionally validate token with external provider
         paymentProviderClient.validateToken(provider.name(), command.externalToken());
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdWithPaymentMethods(userId)
             .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         PaymentMethod method = PaymentMethod.newMethod(
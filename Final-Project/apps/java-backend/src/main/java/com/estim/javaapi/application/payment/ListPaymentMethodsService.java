@@ -5,6 +5,7 @@ import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.domain.user.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -22,10 +23,11 @@ public class ListPaymentMethodsService {
         this.userRepository = Objects.requireNonNull(userRepository);
     }
 
+    @Transactional(readOnly = true)
     public List<PaymentMethod> list(String userId) {
         UserId id = new UserId(UUID.fromString(userId));
 
-        User user = userRepository.findById(id)
+        User user = userRepository.findByIdWithPaymentMethods(id)
             .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         return user.paymentMethods();
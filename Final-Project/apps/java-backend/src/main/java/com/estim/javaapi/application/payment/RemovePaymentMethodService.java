@@ -6,6 +6,7 @@ import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.domain.user.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -26,11 +27,12 @@ public class RemovePaymentMethodService {
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
+    @Transactional
     public void remove(RemovePaymentMethodCommand command) {
         UserId userId = new UserId(UUID.fromString(command.userId()));
         PaymentMethodId paymentMethodId = new PaymentMethodId(UUID.fromString(command.paymentMethodId()));
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdWithPaymentMethods(userId)
             .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         user.removePaymentMethod(paymentMethodId);
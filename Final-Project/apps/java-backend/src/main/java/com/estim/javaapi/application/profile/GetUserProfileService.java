@@ -1,10 +1,7 @@
 package com.estim.javaapi.application.profile;
 
 import com.estim.javaapi.domain.user.PrivacySettings;
-import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.domain.user.UserId;
-import com.estim.javaapi.domain.user.UserProfile;
-import com.estim.javaapi.domain.user.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
@@ -13,29 +10,26 @@ import java.util.UUID;
 /**
  * Application service to retrieve a user's profile,
  * applying privacy rules based on the requester.
+ *
+ * Reads the {@link UserSummary} projection instead of the full aggregate.
  */
 @Service
 public class GetUserProfileService {
 
-    private final UserRepository userRepository;
+    private final UserSummaryReader userSummaryReader;
 
-    public GetUserProfileService(UserRepository userRepository) {
-        this.userRepository = Objects.requireNonNull(userRepository);
+    public GetUserProfileService(UserSummaryReader userSummaryReader) {
+        this.userSummaryReader = Objects.requireNonNull(userSummaryReader);
     }
 
-    public User getProfile(GetUserProfileQuery query) {
+    public UserSummary getProfile(GetUserProfileQuery query) {
         Objects.requireNonNull(query, "query must not be null");
 
         UserId targetId = new UserId(UUID.fromString(query.targetUserId()));
-        User user = userRepository.findById(targetId)
+        UserSummary user = userSummaryReader.findById(targetId)
             .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        UserProfile profile = user.profile();
-        if (profile == null) {
-            throw new IllegalArgumentException("User profile not found");
-        }
-
-        PrivacySettings privacy = profile.privacySettings();
+        PrivacySettings privacy = user.privacy();
         boolean isSelf = query.requesterUserId().equals(query.targetUserId());
 
         if (!isSelf && (privacy == null || !privacy.showProfile())) {
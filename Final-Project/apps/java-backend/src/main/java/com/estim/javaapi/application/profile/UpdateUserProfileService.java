@@ -7,6 +7,7 @@ import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.domain.user.UserProfile;
 import com.estim.javaapi.domain.user.UserRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -30,10 +31,11 @@ public class UpdateUserProfileService {
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
+    @Transactional
     public void updateProfile(UpdateUserProfileCommand command) {
         UserId userId = new UserId(UUID.fromString(command.userId()));
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdCore(userId)
             .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         UserProfile existingProfile = user.profile();
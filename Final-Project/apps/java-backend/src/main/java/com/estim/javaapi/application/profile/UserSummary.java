@@ -0,0 +1,17 @@
+package com.estim.javaapi.application.profile;
+
+import com.estim.javaapi.domain.user.PrivacySettings;
+import com.estim.javaapi.domain.user.UserId;
+
+/**
+ * Read model with the user fields rendered by {@code /auth/me} and
+ * {@code /users/{id}/profile}, loaded without the rest of the aggregate.
+ */
+public record UserSummary(
+    UserId userId,
+    String email,
+    String displayName,
+    String avatarUrl,
+    boolean emailVerified,
+    PrivacySettings privacy
+) {}
@@ -0,0 +1,114 @@
+package com.estim.javaapi.application.profile;
+
+import com.estim.javaapi.domain.user.PrivacySettings;
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.cache.ExpiringCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads {@link UserSummary} read models with a single primary-key lookup on
+ * {@code users}, behind a short-lived per-user cache.
+ *
+ * Entries are evicted when the profile changes (see
+ * {@code EvictUserSummaryOnProfileUpdated}); the TTL bounds staleness for
+ * changes that raise no event and for other instances.
+ */
+@Component
+public class UserSummaryReader {
+
+    private static final String SELECT_SQL = """
+        SELECT email, display_name, avatar_url, email_verified
+        FROM users
+        WHERE id = ?
+        """;
+
+    // Privacy settings are not persisted; every user gets the same defaults.
+    private static final PrivacySettings DEFAULT_PRIVACY = new PrivacySettings(true, true, true);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExpiringCache<UUID, UserSummary> cache;
+
+    // One token per user with a load in flight; evict() removes it, so a
+    // load that raced with an update of that user does not stay cached
+    private final ConcurrentHashMap<UUID, Object> loading = new ConcurrentHashMap<>();
+
+    public UserSummaryReader(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${users.summary-cache.max-size:10000}") int maxSize,
+        @Value("${users.summary-cache.ttl:PT30S}") Duration ttl,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        // Only cache misses open a transaction; being read-only, it may be served by a replica
+        this.readOnlyTransaction = new TransactionTemplate(
+            Objects.requireNonNull(transactionManager, "transactionManager must not be null"));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = new ExpiringCache<UUID, UserSummary>(maxSize, ttl)
+            .bindTo(meterRegistry, "users.summary");
+    }
+
+    public Optional<UserSummary> findById(UserId userId) {
+        Objects.requireNonNull(userId, "userId must not be null");
+        UUID id = userId.value();
+
+        UserSummary cached = cache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Object token = new Object();
+        loading.put(id, token);
+        List<UserSummary> rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> jdbcTemplate.query(
+                SELECT_SQL,
+                (rs, rowNum) -> new UserSummary(
+                    userId,
+                    rs.getString("email"),
+                    rs.getString("display_name"),
+                    rs.getString("avatar_url"),
+                    rs.getBoolean("email_verified"),
+                    DEFAULT_PRIVACY
+                ),
+                id
+            ));
+        } catch (RuntimeException ex) {
+            loading.remove(id, token);
+            throw ex;
+        }
+        if (rows == null || rows.isEmpty()) {
+            loading.remove(id, token);
+            return Optional.empty();
+        }
+
+        UserSummary summary = rows.get(0);
+        cache.put(id, summary);
+        // Losing the token means the user was evicted, or a newer load started,
+        // after this one read the row: drop what it cached
+        if (!loading.remove(id, token)) {
+            cache.invalidate(id);
+        }
+        return Optional.of(summary);
+    }
+
+    public void evict(UserId userId) {
+        Objects.requireNonNull(userId, "userId must not be null");
+        loading.remove(userId.value());
+        cache.invalidate(userId.value());
+    }
+}
@@ -0,0 +1,58 @@
+package com.estim.javaapi.application.wishlist;
+
+import com.estim.javaapi.domain.common.DomainEventPublisher;
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.library.LibraryRepository;
+import com.estim.javaapi.domain.wishlist.WishlistRepository;
+import com.estim.javaapi.domain.wishlist.events.GameAddedToWishlist;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adds many games to a user's wishlist with one insert, publishing a
+ * {@link GameAddedToWishlist} for each game actually added.
+ */
+@Service
+public class AddGamesToWishlistService {
+
+    public static final int MAX_GAMES = 500;
+
+    private final WishlistRepository wishlistRepository;
+    private final LibraryRepository libraryRepository;
+    private final DomainEventPublisher eventPublisher;
+
+    public AddGamesToWishlistService(WishlistRepository wishlistRepository,
+                                     LibraryRepository libraryRepository,
+                                     DomainEventPublisher eventPublisher) {
+        this.wishlistRepository = wishlistRepository;
+        this.libraryRepository = libraryRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Games already owned or already wishlisted are skipped rather than
+     * failing the whole batch.
+     *
+     * @return the games that were added
+     */
+    @Transactional
+    public List<GameId> addToWishlist(AddGamesToWishlistCommand command) {
+        if (command.gameIds().size() > MAX_GAMES) {
+            throw new IllegalArgumentException("at most " + MAX_GAMES + " games can be added at once");
+        }
+
+        Set<GameId> owned = libraryRepository.findGameIdsIn(command.userId(), command.gameIds());
+        List<GameId> candidates = command.gameIds().stream()
+            .filter(gameId -> !owned.contains(gameId))
+            .toList();
+
+        List<GameId> added = wishlistRepository.addAll(command.userId(), candidates);
+        eventPublisher.publishAll(added.stream()
+            .map(gameId -> new GameAddedToWishlist(command.userId(), gameId))
+            .toList());
+        return added;
+    }
+}
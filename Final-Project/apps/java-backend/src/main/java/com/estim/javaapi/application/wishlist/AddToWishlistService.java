@@ -6,6 +6,7 @@ import com.estim.javaapi.domain.wishlist.WishlistItem;
 import com.estim.javaapi.domain.wishlist.WishlistRepository;
 import com.estim.javaapi.domain.wishlist.events.GameAddedToWishlist;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AddToWishlistService {
@@ -29,6 +30,7 @@ public class AddToWishlistService {
      * - The game must NOT already be in the user's library.
      * - The game must NOT already be in the user's wishlist.
      */
+    @Transactional
     public void addToWishlist(AddToWishlistCommand command) {
         var userId = command.getUserId();
         var gameId = command.getGameId();
@@ -37,13 +39,12 @@ public class AddToWishlistService {
             throw new IllegalStateException("Game is already in library");
         }
 
-        if (wishlistRepository.existsByUserIdAndGameId(userId, gameId)) {
+        // Insert and duplicate check are one statement, so concurrent adds can not both succeed
+        WishlistItem item = WishlistItem.newItem(userId, gameId);
+        if (!wishlistRepository.addIfAbsent(item)) {
             throw new IllegalStateException("Game is already in wishlist");
         }
 
-        WishlistItem item = WishlistItem.newItem(userId, gameId);
-        wishlistRepository.save(item);
-
         eventPublisher.publish(new GameAddedToWishlist(userId, gameId));
     }
 }
@@ -0,0 +1,21 @@
+package com.estim.javaapi.application.wishlist;
+
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.user.UserId;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Query to check which of several games are present in the user's wishlist.
+ */
+public record AreGamesInWishlistQuery(
+    UserId userId,
+    List<GameId> gameIds
+) {
+
+    public AreGamesInWishlistQuery {
+        Objects.requireNonNull(userId, "userId must not be null");
+        gameIds = List.copyOf(Objects.requireNonNull(gameIds, "gameIds must not be null"));
+    }
+}
@@ -1,77 +1,193 @@
 package com.estim.javaapi.application.wishlist;
 
+import com.estim.javaapi.application.catalog.GameCard;
+import com.estim.javaapi.application.catalog.GameCardCache;
+import com.estim.javaapi.application.common.KeysetCursor;
+import com.estim.javaapi.domain.library.GameId;
 import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.presentation.common.PageResponse;
 import com.estim.javaapi.presentation.wishlist.WishlistItemResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
- * Application service for listing all wishlist items for a user,
- * enriched with game title + cover image + current price from games + game_media.
+ * Application service for listing wishlist items for a user,
+ * enriched with game title + cover image + current price from the
+ * {@link GameCardCache}.
+ *
+ * Only the wishlists table is queried; items whose game no longer exists
+ * are left out. Besides the full list, items can be read a page at a time
+ * (keyset on {@code (added_at, id)}) or streamed without building the
+ * whole list.
  */
 @Service
 public class ListWishlistService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // Rows the driver pulls per round trip while streaming, and rows enriched at once
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SELECT_SQL = """
+        SELECT
+          w.id        AS wishlist_id,
+          w.game_id   AS game_id,
+          w.added_at  AS added_at,
+          w.notification_preferences::text AS notification_preferences
+        FROM wishlists w
+        WHERE w.user_id = ?
+        """;
+
+    private static final String ORDER_SQL = "ORDER BY w.added_at DESC, w.id DESC";
+
+    private static final TypeReference<Map<String, Boolean>> PREFERENCES_TYPE = new TypeReference<>() {};
+
+    private record WishlistRow(UUID wishlistId,
+                               GameId gameId,
+                               Instant addedAt,
+                               Map<String, Boolean> notificationPreferences) {}
+
     private final JdbcTemplate jdbcTemplate;
+    private final GameCardCache gameCardCache;
+    private final ObjectMapper objectMapper;
+    private final RowMapper<WishlistRow> rowMapper = (rs, rowNum) -> toRow(rs);
 
-    public ListWishlistService(JdbcTemplate jdbcTemplate) {
+    public ListWishlistService(JdbcTemplate jdbcTemplate,
+                               GameCardCache gameCardCache,
+                               ObjectMapper objectMapper) {
         this.jdbcTemplate = jdbcTemplate;
+        this.gameCardCache = gameCardCache;
+        this.objectMapper = objectMapper;
     }
 
+    @Transactional(readOnly = true)
     public List<WishlistItemResponse> listWishlist(ListWishlistForUserQuery query) {
         UserId userId = query.getUserId();
+        return enrich(jdbcTemplate.query(SELECT_SQL + ORDER_SQL, rowMapper, userId.value()));
+    }
+
+    /**
+     * Returns up to {@code limit} items added before {@code after}
+     * (from the newest item when {@code after} is null).
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<WishlistItemResponse> listWishlistPage(ListWishlistForUserQuery query,
+                                                               KeysetCursor after,
+                                                               int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        UserId userId = query.getUserId();
+
+        // One extra row tells whether there is a next page
+        List<WishlistRow> rows = after == null
+            ? jdbcTemplate.query(
+                SELECT_SQL + ORDER_SQL + " LIMIT ?",
+                rowMapper,
+                userId.value(), limit + 1)
+            : jdbcTemplate.query(
+                SELECT_SQL + "AND (w.added_at, w.id) < (?, ?)\n" + ORDER_SQL + " LIMIT ?",
+                rowMapper,
+                userId.value(), Timestamp.from(after.addedAt()), after.id(), limit + 1);
+
+        if (rows.size() <= limit) {
+            return new PageResponse<>(enrich(rows), null);
+        }
+        List<WishlistRow> page = rows.subList(0, limit);
+        WishlistRow last = page.get(limit - 1);
+        return new PageResponse<>(enrich(page), new KeysetCursor(last.addedAt(), last.wishlistId()).encode());
+    }
 
-        String sql = """
-            SELECT
-              w.game_id   AS game_id,
-              w.added_at  AS added_at,
-              g.title     AS game_title,
-              (
-                SELECT gm.url
-                FROM game_media gm
-                WHERE gm.game_id = g.id
-                  AND gm.media_type = 'cover_art'
-                ORDER BY gm.display_order ASC
-                LIMIT 1
-              ) AS cover_image_url,
-              g.price     AS current_price
-            FROM wishlists w
-            JOIN games g ON g.id = w.game_id
-            WHERE w.user_id = ?
-            ORDER BY w.added_at DESC
-            """;
-
-        return jdbcTemplate.query(
-            sql,
-            (rs, rowNum) -> {
-                UUID gameId = UUID.fromString(rs.getString("game_id"));
-
-                Timestamp addedAtTs = rs.getTimestamp("added_at");
-                Instant addedAt = addedAtTs != null ? addedAtTs.toInstant() : null;
-
-                String gameTitle = rs.getString("game_title");
-                String coverImageUrl = rs.getString("cover_image_url");
-                BigDecimal currentPrice = rs.getBigDecimal("current_price");
-
-                Map<String, Boolean> notificationPreferences = Map.of();
-
-                return new WishlistItemResponse(
-                    gameId.toString(),
-                    gameTitle,
-                    coverImageUrl,
-                    addedAt,
-                    notificationPreferences,
-                    currentPrice
-                );
+    /**
+     * Hands every item to {@code sink} as it is read from the result set,
+     * newest first, enriching {@value #STREAM_FETCH_SIZE} rows at a time.
+     * The transaction (and its connection) stays open until the last row
+     * has been consumed.
+     */
+    @Transactional(readOnly = true)
+    public void streamWishlist(ListWishlistForUserQuery query, Consumer<WishlistItemResponse> sink) {
+        UserId userId = query.getUserId();
+        List<WishlistRow> batch = new ArrayList<>(STREAM_FETCH_SIZE);
+        jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(
+                    SELECT_SQL + ORDER_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // Honoured by pgjdbc only outside autocommit, hence the transaction
+                ps.setFetchSize(STREAM_FETCH_SIZE);
+                ps.setObject(1, userId.value());
+                return ps;
             },
-            userId.value()
+            (RowCallbackHandler) rs -> {
+                batch.add(toRow(rs));
+                if (batch.size() == STREAM_FETCH_SIZE) {
+                    enrich(batch).forEach(sink);
+                    batch.clear();
+                }
+            }
         );
+        enrich(batch).forEach(sink);
+    }
+
+    private List<WishlistItemResponse> enrich(List<WishlistRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<GameId> gameIds = new ArrayList<>(rows.size());
+        for (WishlistRow row : rows) {
+            gameIds.add(row.gameId());
+        }
+        Map<GameId, GameCard> cards = gameCardCache.getAll(gameIds);
+
+        List<WishlistItemResponse> items = new ArrayList<>(rows.size());
+        for (WishlistRow row : rows) {
+            GameCard card = cards.get(row.gameId());
+            if (card == null) {
+                continue;
+            }
+
+            items.add(new WishlistItemResponse(
+                row.gameId().getValue().toString(),
+                card.title(),
+                card.coverImageUrl(),
+                row.addedAt(),
+                row.notificationPreferences(),
+                card.price()
+            ));
+        }
+        return items;
+    }
+
+    private WishlistRow toRow(ResultSet rs) throws SQLException {
+        UUID wishlistId = UUID.fromString(rs.getString("wishlist_id"));
+        UUID gameId = UUID.fromString(rs.getString("game_id"));
+
+        Timestamp addedAtTs = rs.getTimestamp("added_at");
+        Instant addedAt = addedAtTs != null ? addedAtTs.toInstant() : null;
+
+        Map<String, Boolean> notificationPreferences;
+        try {
+            notificationPreferences = objectMapper.readValue(rs.getString("notification_preferences"), PREFERENCES_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Invalid notification preferences on wishlist item " + wishlistId, ex);
+        }
+
+        return new WishlistRow(wishlistId, GameId.of(gameId), addedAt, notificationPreferences);
     }
 }
@@ -4,6 +4,7 @@ import com.estim.javaapi.domain.common.DomainEventPublisher;
 import com.estim.javaapi.domain.wishlist.WishlistRepository;
 import com.estim.javaapi.domain.wishlist.events.GameRemovedFromWishlist;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class RemoveFromWishlistService {
@@ -17,14 +18,14 @@ public class RemoveFromWishlistService {
         this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public void removeFromWishlist(RemoveFromWishlistCommand command) {
         var userId = command.getUserId();
         var gameId = command.getGameId();
 
-        var existing = wishlistRepository.findByUserIdAndGameId(userId, gameId)
-            .orElseThrow(() -> new IllegalArgumentException("Wishlist item not found"));
-
-        wishlistRepository.delete(existing);
+        if (!wishlistRepository.delete(userId, gameId)) {
+            throw new IllegalArgumentException("Wishlist item not found");
+        }
 
         eventPublisher.publish(new GameRemovedFromWishlist(userId, gameId));
     }
@@ -0,0 +1,21 @@
+package com.estim.javaapi.application.wishlist;
+
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.user.UserId;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command to remove several games from the user's wishlist at once.
+ */
+public record RemoveGamesFromWishlistCommand(
+    UserId userId,
+    List<GameId> gameIds
+) {
+
+    public RemoveGamesFromWishlistCommand {
+        Objects.requireNonNull(userId, "userId must not be null");
+        gameIds = List.copyOf(Objects.requireNonNull(gameIds, "gameIds must not be null"));
+    }
+}
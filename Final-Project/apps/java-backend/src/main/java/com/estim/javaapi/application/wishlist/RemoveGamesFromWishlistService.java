@@ -0,0 +1,47 @@
+package com.estim.javaapi.application.wishlist;
+
+import com.estim.javaapi.domain.common.DomainEventPublisher;
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.wishlist.WishlistRepository;
+import com.estim.javaapi.domain.wishlist.events.GameRemovedFromWishlist;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Removes many games from a user's wishlist with one delete, publishing a
+ * {@link GameRemovedFromWishlist} for each game actually removed.
+ */
+@Service
+public class RemoveGamesFromWishlistService {
+
+    public static final int MAX_GAMES = 500;
+
+    private final WishlistRepository wishlistRepository;
+    private final DomainEventPublisher eventPublisher;
+
+    public RemoveGamesFromWishlistService(WishlistRepository wishlistRepository,
+                                          DomainEventPublisher eventPublisher) {
+        this.wishlistRepository = wishlistRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Games not in the wishlist are skipped rather than failing the batch.
+     *
+     * @return the games that were removed
+     */
+    @Transactional
+    public List<GameId> removeFromWishlist(RemoveGamesFromWishlistCommand command) {
+        if (command.gameIds().size() > MAX_GAMES) {
+            throw new IllegalArgumentException("at most " + MAX_GAMES + " games can be removed at once");
+        }
+
+        List<GameId> removed = wishlistRepository.removeAll(command.userId(), command.gameIds());
+        eventPublisher.publishAll(removed.stream()
+            .map(gameId -> new GameRemovedFromWishlist(command.userId(), gameId))
+            .toList());
+        return removed;
+    }
+}
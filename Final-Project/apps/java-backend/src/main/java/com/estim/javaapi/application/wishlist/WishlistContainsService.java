@@ -0,0 +1,44 @@
+package com.estim.javaapi.application.wishlist;
+
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.wishlist.WishlistRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Application service telling which of many games are in a user's
+ * wishlist, with one query whatever the number of games.
+ */
+@Service
+public class WishlistContainsService {
+
+    public static final int MAX_GAMES = 500;
+
+    private final WishlistRepository wishlistRepository;
+
+    public WishlistContainsService(WishlistRepository wishlistRepository) {
+        this.wishlistRepository = wishlistRepository;
+    }
+
+    /**
+     * @return whether each requested game is wishlisted, in the order requested
+     */
+    @Transactional(readOnly = true)
+    public Map<GameId, Boolean> contains(AreGamesInWishlistQuery query) {
+        if (query.gameIds().size() > MAX_GAMES) {
+            throw new IllegalArgumentException("at most " + MAX_GAMES + " games can be checked at once");
+        }
+
+        Set<GameId> wishlisted = wishlistRepository.findGameIdsIn(query.userId(), query.gameIds());
+
+        Map<GameId, Boolean> result = new LinkedHashMap<>(query.gameIds().size() * 2);
+        for (GameId gameId : query.gameIds()) {
+            result.put(gameId, wishlisted.contains(gameId));
+        }
+        return result;
+    }
+}
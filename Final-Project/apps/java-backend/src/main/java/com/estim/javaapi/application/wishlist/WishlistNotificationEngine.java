@@ -0,0 +1,280 @@
+package com.estim.javaapi.application.wishlist;
+
+import com.estim.javaapi.domain.common.DomainEventPublisher;
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.domain.wishlist.events.WishlistNotificationTriggered;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emits {@link WishlistNotificationTriggered} to every user wishlisting a
+ * game whose price dropped or that a promotion started covering.
+ *
+ * Work comes from {@code wishlist_notification_jobs}: price drops are
+ * queued by a trigger on {@code games.price}, promotions are queued here
+ * once their {@code valid_from} has passed. Each job walks the game's
+ * wishlists in {@code user_id} order, one batch per transaction: the
+ * batch's events are published together and the job's progress is saved
+ * with them, so memory stays at one batch and a restarted job resumes
+ * after the last notified user. Jobs are claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, so instances can share the work.
+ *
+ * A notification preference that was never set counts as enabled.
+ *
+ * No in-process handler consumes {@link WishlistNotificationTriggered}: the
+ * events are delivered through the outbox. The engine is off by default
+ * and does not start unless {@code outbox.enabled} is set too, so jobs are
+ * never marked done for notifications nobody receives.
+ */
+@Component
+public class WishlistNotificationEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(WishlistNotificationEngine.class);
+
+    static final String PRICE_DROP = "PRICE_DROP";
+    static final String PROMOTION = "PROMOTION";
+
+    private static final String PRICE_DROP_PREFERENCE = "priceDrop";
+    private static final String PROMOTION_PREFERENCE = "newPromotion";
+
+    // The nil UUID sorts first in PostgreSQL and is never generated
+    private static final UUID FIRST_USER = new UUID(0L, 0L);
+
+    private static final String QUEUE_PROMOTIONS_SQL = """
+        WITH activated AS (
+          UPDATE promotions p
+          SET notified_at = NOW()
+          WHERE p.notified_at IS NULL
+            AND p.is_active
+            AND p.valid_from <= NOW()
+            AND (p.valid_until IS NULL OR p.valid_until > NOW())
+          RETURNING p.id, p.discount_type, p.discount_value
+        )
+        INSERT INTO wishlist_notification_jobs
+          (game_id, kind, promotion_id, previous_price, current_price, discount_percentage)
+        SELECT
+          g.id,
+          'PROMOTION',
+          a.id,
+          g.price,
+          CASE WHEN a.discount_type = 'percentage'
+               THEN ROUND(g.price * (100 - LEAST(GREATEST(a.discount_value, 0), 100)) / 100, 2)
+               ELSE GREATEST(g.price - a.discount_value, 0)
+          END,
+          -- discount_percentage is NUMERIC(5,2): keep it within 0-100
+          CASE WHEN a.discount_type = 'percentage'
+               THEN LEAST(GREATEST(a.discount_value, 0), 100)
+               WHEN g.price > 0
+               THEN LEAST(GREATEST(ROUND(a.discount_value * 100 / g.price, 2), 0), 100)
+          END
+        FROM activated a
+        JOIN promotion_games pg ON pg.promotion_id = a.id
+        JOIN games g ON g.id = pg.game_id
+        -- Other discount types do not change the price of the game
+        WHERE a.discount_type IN ('percentage', 'fixed_amount')
+        """;
+
+    private static final String CLAIM_JOB_SQL = """
+        SELECT id, game_id, kind, previous_price, current_price, discount_percentage, last_user_id
+        FROM wishlist_notification_jobs
+        WHERE completed_at IS NULL
+        ORDER BY id
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String NEXT_USERS_SQL = """
+        SELECT w.user_id
+        FROM wishlists w
+        WHERE w.game_id = ?
+          AND w.user_id > ?
+          AND COALESCE((w.notification_preferences ->> ?)::boolean, TRUE)
+        ORDER BY w.user_id
+        LIMIT ?
+        """;
+
+    private static final String SAVE_PROGRESS_SQL = """
+        UPDATE wishlist_notification_jobs
+        SET last_user_id = ?,
+            completed_at = CASE WHEN ? THEN NOW() END
+        WHERE id = ?
+        """;
+
+    private record Job(long id,
+                       GameId gameId,
+                       String kind,
+                       BigDecimal previousPrice,
+                       BigDecimal currentPrice,
+                       BigDecimal discountPercentage,
+                       UUID lastUserId) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final boolean outboxEnabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+
+    private final Counter notifications;
+    private final Counter completedJobs;
+
+    private final ScheduledExecutorService scheduler;
+
+    public WishlistNotificationEngine(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        DomainEventPublisher eventPublisher,
+        @Value("${wishlist.notifications.enabled:false}") boolean enabled,
+        @Value("${outbox.enabled:false}") boolean outboxEnabled,
+        @Value("${wishlist.notifications.batch-size:5000}") int batchSize,
+        @Value("${wishlist.notifications.poll-interval:PT5S}") Duration pollInterval,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.transactionTemplate = new TransactionTemplate(
+            Objects.requireNonNull(transactionManager, "transactionManager must not be null"));
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "eventPublisher must not be null");
+        this.pollInterval = Objects.requireNonNull(pollInterval, "pollInterval must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.enabled = enabled;
+        this.outboxEnabled = outboxEnabled;
+        this.batchSize = batchSize;
+
+        this.notifications = Counter.builder("wishlist.notifications.triggered").register(meterRegistry);
+        this.completedJobs = Counter.builder("wishlist.notifications.jobs.completed").register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wishlist-notifications");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        if (!outboxEnabled) {
+            log.warn("Wishlist notifications are enabled but outbox.enabled is not; "
+                + "not starting, since the notifications would not be delivered");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Queues newly active promotions, then works through pending jobs
+     * until none is left.
+     */
+    void poll() {
+        try {
+            int queued = jdbcTemplate.update(QUEUE_PROMOTIONS_SQL);
+            if (queued > 0) {
+                log.info("Queued {} wishlist notification jobs for newly active promotions", queued);
+            }
+
+            while (processBatch()) {
+                // Wait for delivery to catch up before publishing more
+                eventPublisher.awaitCapacity();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Could not process wishlist notifications; will retry", ex);
+        } catch (RuntimeException ex) {
+            // Keep the scheduled poll alive
+            log.error("Unexpected error while processing wishlist notifications", ex);
+        }
+    }
+
+    /**
+     * Notifies the next batch of users of the oldest unclaimed job.
+     *
+     * @return whether a batch was processed
+     */
+    private boolean processBatch() {
+        Boolean processed = transactionTemplate.execute(status -> {
+            List<Job> claimed = jdbcTemplate.query(CLAIM_JOB_SQL, (rs, rowNum) -> new Job(
+                rs.getLong("id"),
+                GameId.of(rs.getObject("game_id", UUID.class)),
+                rs.getString("kind"),
+                rs.getBigDecimal("previous_price"),
+                rs.getBigDecimal("current_price"),
+                rs.getBigDecimal("discount_percentage"),
+                rs.getObject("last_user_id", UUID.class)
+            ));
+            if (claimed.isEmpty()) {
+                return false;
+            }
+            Job job = claimed.get(0);
+
+            UUID after = job.lastUserId() != null ? job.lastUserId() : FIRST_USER;
+            List<UUID> userIds = jdbcTemplate.queryForList(
+                NEXT_USERS_SQL, UUID.class, job.gameId().getValue(), after, preferenceFor(job), batchSize);
+
+            List<WishlistNotificationTriggered> events = new ArrayList<>(userIds.size());
+            for (UUID userId : userIds) {
+                events.add(new WishlistNotificationTriggered(
+                    new UserId(userId),
+                    job.gameId(),
+                    job.previousPrice(),
+                    job.currentPrice(),
+                    job.discountPercentage()
+                ));
+            }
+            eventPublisher.publishAll(events);
+
+            boolean done = userIds.size() < batchSize;
+            UUID last = userIds.isEmpty() ? job.lastUserId() : userIds.get(userIds.size() - 1);
+            jdbcTemplate.update(SAVE_PROGRESS_SQL, last, done, job.id());
+
+            notifications.increment(events.size());
+            if (done) {
+                completedJobs.increment();
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(processed);
+    }
+
+    private static String preferenceFor(Job job) {
+        return switch (job.kind()) {
+            case PRICE_DROP -> PRICE_DROP_PREFERENCE;
+            case PROMOTION -> PROMOTION_PREFERENCE;
+            default -> throw new IllegalStateException("Unknown wishlist notification job kind " + job.kind());
+        };
+    }
+}
@@ -1,15 +1,19 @@
 package com.estim.javaapi.controllers;
 
 import com.estim.javaapi.application.auth.*;
+import com.estim.javaapi.application.profile.UserSummary;
 import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.infrastructure.security.JwtAuthenticationProvider;
 import com.estim.javaapi.presentation.auth.LoginRequest;
 import com.estim.javaapi.presentation.auth.LoginResponse;
+import com.estim.javaapi.presentation.auth.RefreshTokenRequest;
+import com.estim.javaapi.presentation.auth.RefreshTokenResponse;
 import com.estim.javaapi.presentation.auth.RegisterUserRequest;
 import com.estim.javaapi.presentation.auth.RegisterUserResponse;
 import com.estim.javaapi.presentation.auth.CurrentUserResponse;
 import com.estim.javaapi.presentation.common.ErrorResponse;
 import com.estim.javaapi.presentation.common.UserDtoMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,18 +25,21 @@ public class AuthController {
     private final RegisterUserService registerUserService;
     private final AuthenticateUserService authenticateUserService;
     private final LogoutUserService logoutUserService;
+    private final RefreshAccessTokenService refreshAccessTokenService;
     private final GetCurrentUserService getCurrentUserService;
     private final JwtAuthenticationProvider authenticationProvider;
 
     public AuthController(RegisterUserService registerUserService,
                           AuthenticateUserService authenticateUserService,
                           LogoutUserService logoutUserService,
+                          RefreshAccessTokenService refreshAccessTokenService,
                           GetCurrentUserService getCurrentUserService,
                           JwtAuthenticationProvider authenticationProvider) {
 
         this.registerUserService = registerUserService;
         this.authenticateUserService = authenticateUserService;
         this.logoutUserService = logoutUserService;
+        this.refreshAccessTokenService = refreshAccessTokenService;
         this.getCurrentUserService = getCurrentUserService;
         this.authenticationProvider = authenticationProvider;
     }
@@ -50,6 +57,10 @@ public class AuthController {
             RegisterUserResponse response = UserDtoMapper.toRegisterUserResponse(user);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (PasswordHashingUnavailableException ex) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("SERVICE_BUSY", ex.getMessage(), null));
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.badRequest()
                 .body(new ErrorResponse("VALIDATION_ERROR", ex.getMessage(), null));
@@ -68,6 +79,24 @@ public class AuthController {
             LoginResponse response = UserDtoMapper.toLoginResponse(result);
             return ResponseEntity.ok(response);
 
+        } catch (PasswordHashingUnavailableException ex) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("SERVICE_BUSY", ex.getMessage(), null));
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new ErrorResponse("AUTH_FAILED", ex.getMessage(), null));
+        }
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshTokenRequest request) {
+        try {
+            TokenPair tokens = refreshAccessTokenService.refresh(
+                new RefreshAccessTokenCommand(request.refreshToken())
+            );
+            return ResponseEntity.ok(new RefreshTokenResponse(tokens.accessToken(), tokens.refreshToken()));
+
         } catch (IllegalArgumentException | IllegalStateException ex) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(new ErrorResponse("AUTH_FAILED", ex.getMessage(), null));
@@ -76,10 +105,12 @@ public class AuthController {
 
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(
-        @RequestHeader(name = "Authorization", required = false) String authorizationHeader) {
+        @RequestHeader(name = "Authorization", required = false) String authorizationHeader,
+        @RequestBody(required = false) RefreshTokenRequest request) {
 
         String accessToken = extractBearerTokenOrNull(authorizationHeader);
-        logoutUserService.logout(new LogoutUserCommand(accessToken, null));
+        String refreshToken = request != null ? request.refreshToken() : null;
+        logoutUserService.logout(new LogoutUserCommand(accessToken, refreshToken));
         return ResponseEntity.noContent().build();
     }
 
@@ -94,7 +125,7 @@ public class AuthController {
         }
 
         var userId = currentUser.userId();
-        User user = getCurrentUserService.getCurrentUser(userId);
+        UserSummary user = getCurrentUserService.getCurrentUser(userId);
         CurrentUserResponse response = UserDtoMapper.toCurrentUserResponse(user);
         return ResponseEntity.ok(response);
     }
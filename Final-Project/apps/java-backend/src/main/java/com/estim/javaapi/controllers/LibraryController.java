@@ -1,25 +1,41 @@
 package com.estim.javaapi.controllers;
 
+import com.estim.javaapi.application.common.KeysetCursor;
 import com.estim.javaapi.application.library.AddGameToLibraryCommand;
 import com.estim.javaapi.application.library.AddGameToLibraryService;
+import com.estim.javaapi.application.library.AreGamesInLibraryQuery;
+import com.estim.javaapi.application.library.LibraryContainsService;
 import com.estim.javaapi.application.library.ListUserLibraryQuery;
 import com.estim.javaapi.application.library.ListUserLibraryService;
 import com.estim.javaapi.application.library.UpdateLibraryEntryCommand;
 import com.estim.javaapi.application.library.UpdateLibraryEntryService;
+import com.estim.javaapi.application.membership.GameMembership;
+import com.estim.javaapi.application.membership.GameMembershipIndex;
 import com.estim.javaapi.domain.library.GameId;
 import com.estim.javaapi.domain.library.LibraryEntrySource;
 import com.estim.javaapi.infrastructure.security.AuthenticatedUser;
 import com.estim.javaapi.presentation.common.ErrorResponse;
+import com.estim.javaapi.presentation.common.GameIdsRequest;
+import com.estim.javaapi.presentation.common.JsonArrayStream;
+import com.estim.javaapi.presentation.common.PageResponse;
 import com.estim.javaapi.presentation.library.AddGameToLibraryRequest;
+import com.estim.javaapi.presentation.library.GameMembershipResponse;
 import com.estim.javaapi.presentation.library.LibraryEntryResponse;
 import com.estim.javaapi.presentation.library.LibraryMapper;
 import com.estim.javaapi.presentation.library.UpdateLibraryEntryRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -28,13 +44,22 @@ public class LibraryController {
     private final ListUserLibraryService listUserLibraryService;
     private final UpdateLibraryEntryService updateLibraryEntryService;
     private final AddGameToLibraryService addGameToLibraryService;
+    private final LibraryContainsService libraryContainsService;
+    private final GameMembershipIndex gameMembershipIndex;
+    private final ObjectMapper objectMapper;
 
     public LibraryController(ListUserLibraryService listUserLibraryService,
                              UpdateLibraryEntryService updateLibraryEntryService,
-                             AddGameToLibraryService addGameToLibraryService) {
+                             AddGameToLibraryService addGameToLibraryService,
+                             LibraryContainsService libraryContainsService,
+                             GameMembershipIndex gameMembershipIndex,
+                             ObjectMapper objectMapper) {
         this.listUserLibraryService = listUserLibraryService;
         this.updateLibraryEntryService = updateLibraryEntryService;
         this.addGameToLibraryService = addGameToLibraryService;
+        this.libraryContainsService = libraryContainsService;
+        this.gameMembershipIndex = gameMembershipIndex;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -56,6 +81,123 @@ public class LibraryController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /me/library?limit={n}&cursor={token}
+     * Returns one page of the library, newest first. The first page is
+     * requested without a cursor; each page carries the cursor of the next.
+     */
+    @GetMapping(value = "/me/library", params = "limit")
+    public ResponseEntity<?> getMyLibraryPage(
+        @AuthenticationPrincipal AuthenticatedUser currentUser,
+        @RequestParam("limit") int limit,
+        @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        try {
+            if (currentUser == null) {
+                return ResponseEntity.status(401)
+                    .body(new ErrorResponse("UNAUTHORIZED", "Not authenticated", null));
+            }
+
+            var query = new ListUserLibraryQuery(currentUser.userId());
+            KeysetCursor after = cursor == null ? null : KeysetCursor.decode(cursor);
+            PageResponse<LibraryEntryResponse> page =
+                listUserLibraryService.listUserLibraryPage(query, after, limit);
+
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("INVALID_PAGE_REQUEST", ex.getMessage(), null));
+        }
+    }
+
+    /**
+     * GET /me/library/stream
+     * Same body as GET /me/library, written to the response while the rows
+     * are read, so large libraries are never held in memory.
+     */
+    @GetMapping("/me/library/stream")
+    public void streamMyLibrary(
+        @AuthenticationPrincipal AuthenticatedUser currentUser,
+        HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (currentUser == null) {
+            response.setStatus(401);
+            objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("UNAUTHORIZED", "Not authenticated", null));
+            return;
+        }
+
+        var query = new ListUserLibraryQuery(currentUser.userId());
+        JsonArrayStream.<LibraryEntryResponse>write(objectMapper, response.getOutputStream(),
+            sink -> listUserLibraryService.streamUserLibrary(query, sink));
+    }
+
+    /**
+     * POST /me/library/contains
+     * Tells, for up to 500 games, whether each is in the current user's
+     * library, as an object keyed by game id in the order requested.
+     */
+    @PostMapping("/me/library/contains")
+    public ResponseEntity<?> libraryContains(
+        @AuthenticationPrincipal AuthenticatedUser currentUser,
+        @RequestBody GameIdsRequest request
+    ) {
+        try {
+            if (currentUser == null) {
+                return ResponseEntity.status(401)
+                    .body(new ErrorResponse("UNAUTHORIZED", "Not authenticated", null));
+            }
+
+            var query = new AreGamesInLibraryQuery(currentUser.userId(), request.toGameIds());
+            Map<GameId, Boolean> owned = libraryContainsService.contains(query);
+
+            Map<UUID, Boolean> response = new LinkedHashMap<>(owned.size() * 2);
+            owned.forEach((gameId, isOwned) -> response.put(gameId.getValue(), isOwned));
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("INVALID_CONTAINS_REQUEST", ex.getMessage(), null));
+        }
+    }
+
+    /**
+     * POST /me/games/membership
+     * Tells, for up to 500 games, whether each is in the current user's
+     * library and in their wishlist, in the order requested.
+     */
+    @PostMapping("/me/games/membership")
+    public ResponseEntity<?> getMyGameMemberships(
+        @AuthenticationPrincipal AuthenticatedUser currentUser,
+        @RequestBody GameIdsRequest request
+    ) {
+        try {
+            if (currentUser == null) {
+                return ResponseEntity.status(401)
+                    .body(new ErrorResponse("UNAUTHORIZED", "Not authenticated", null));
+            }
+
+            Map<GameId, GameMembership> memberships =
+                gameMembershipIndex.membershipOf(currentUser.userId(), request.toGameIds());
+
+            List<GameMembershipResponse> response = new ArrayList<>(memberships.size());
+            memberships.forEach((gameId, membership) -> response.add(new GameMembershipResponse(
+                gameId.getValue(),
+                membership.owned(),
+                membership.wishlisted()
+            )));
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("INVALID_MEMBERSHIP_REQUEST", ex.getMessage(), null));
+        }
+    }
+
     /**
      * POST /me/library
      * Debug / admin-style endpoint to manually add a game to the current user's library.
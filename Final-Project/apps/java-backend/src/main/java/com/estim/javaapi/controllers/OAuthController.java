@@ -1,6 +1,7 @@
 package com.estim.javaapi.controllers;
 
 import com.estim.javaapi.application.auth.AuthenticationResult;
+import com.estim.javaapi.application.auth.PasswordHashingUnavailableException;
 import com.estim.javaapi.application.oauth.LinkOAuthAccountCommand;
 import com.estim.javaapi.application.oauth.LinkOAuthAccountService;
 import com.estim.javaapi.application.oauth.LoginWithOAuthCommand;
@@ -14,6 +15,7 @@ import com.estim.javaapi.presentation.auth.OAuthLinkRequest;
 import com.estim.javaapi.presentation.auth.OAuthLoginRequest;
 import com.estim.javaapi.presentation.common.ErrorResponse;
 import com.estim.javaapi.presentation.common.UserDtoMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -127,6 +129,10 @@ public class OAuthController {
             LoginResponse response = UserDtoMapper.toLoginResponse(result);
             return ResponseEntity.ok(response);
 
+        } catch (PasswordHashingUnavailableException ex) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("SERVICE_BUSY", ex.getMessage(), null));
         } catch (IllegalArgumentException | IllegalStateException ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse("OAUTH_REGISTER_FAILED", ex.getMessage(), null));
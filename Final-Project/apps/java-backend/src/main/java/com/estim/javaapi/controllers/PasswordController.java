@@ -1,5 +1,6 @@
 package com.estim.javaapi.controllers;
 
+import com.estim.javaapi.application.auth.PasswordHashingUnavailableException;
 import com.estim.javaapi.application.password.RequestPasswordResetCommand;
 import com.estim.javaapi.application.password.RequestPasswordResetService;
 import com.estim.javaapi.application.password.ResetPasswordCommand;
@@ -8,6 +9,7 @@ import com.estim.javaapi.presentation.common.ErrorResponse;
 import com.estim.javaapi.presentation.password.PasswordResetPerformRequest;
 import com.estim.javaapi.presentation.password.PasswordResetRequest;
 import com.estim.javaapi.presentation.password.PasswordResetResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -67,6 +69,10 @@ public class PasswordController {
                 new PasswordResetResponse(true, "Password has been reset successfully.");
             return ResponseEntity.ok(response);
 
+        } catch (PasswordHashingUnavailableException ex) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("SERVICE_BUSY", ex.getMessage(), null));
         } catch (IllegalArgumentException | IllegalStateException ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse("RESET_FAILED", ex.getMessage(), null));
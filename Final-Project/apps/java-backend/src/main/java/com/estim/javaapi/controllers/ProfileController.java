@@ -6,7 +6,7 @@ import com.estim.javaapi.application.profile.UpdateUserProfileCommand;
 import com.estim.javaapi.application.profile.UpdateUserProfileService;
 import com.estim.javaapi.presentation.profile.UpdateUserProfileRequest;
 import com.estim.javaapi.presentation.profile.UserProfileResponse;
-import com.estim.javaapi.domain.user.User;
+import com.estim.javaapi.application.profile.UserSummary;
 import com.estim.javaapi.infrastructure.security.JwtAuthenticationProvider;
 import com.estim.javaapi.infrastructure.security.SecurityContext;
 import com.estim.javaapi.presentation.common.ErrorResponse;
@@ -47,7 +47,7 @@ public class ProfileController {
             }
 
             GetUserProfileQuery query = new GetUserProfileQuery(requesterId, targetUserId);
-            User user = getUserProfileService.getProfile(query);
+            UserSummary user = getUserProfileService.getProfile(query);
             UserProfileResponse response = UserDtoMapper.toUserProfileResponse(user);
             return ResponseEntity.ok(response);
 
@@ -1,26 +1,44 @@
 package com.estim.javaapi.controllers;
 
+import com.estim.javaapi.application.common.KeysetCursor;
+import com.estim.javaapi.application.wishlist.AddGamesToWishlistCommand;
+import com.estim.javaapi.application.wishlist.AddGamesToWishlistService;
 import com.estim.javaapi.application.wishlist.AddToWishlistCommand;
 import com.estim.javaapi.application.wishlist.AddToWishlistService;
+import com.estim.javaapi.application.wishlist.AreGamesInWishlistQuery;
 import com.estim.javaapi.application.wishlist.ListWishlistForUserQuery;
 import com.estim.javaapi.application.wishlist.ListWishlistService;
 import com.estim.javaapi.application.wishlist.RemoveFromWishlistCommand;
 import com.estim.javaapi.application.wishlist.RemoveFromWishlistService;
+import com.estim.javaapi.application.wishlist.RemoveGamesFromWishlistCommand;
+import com.estim.javaapi.application.wishlist.RemoveGamesFromWishlistService;
 import com.estim.javaapi.application.wishlist.UpdateWishlistItemCommand;
 import com.estim.javaapi.application.wishlist.UpdateWishlistItemService;
+import com.estim.javaapi.application.wishlist.WishlistContainsService;
 import com.estim.javaapi.domain.library.GameId;
 import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.domain.wishlist.WishlistItem;
 import com.estim.javaapi.infrastructure.security.AuthenticatedUser;
+import com.estim.javaapi.presentation.common.ErrorResponse;
+import com.estim.javaapi.presentation.common.GameIdsRequest;
+import com.estim.javaapi.presentation.common.JsonArrayStream;
+import com.estim.javaapi.presentation.common.PageResponse;
 import com.estim.javaapi.presentation.wishlist.WishlistItemRequest;
 import com.estim.javaapi.presentation.wishlist.WishlistItemResponse;
 import com.estim.javaapi.presentation.wishlist.WishlistMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * REST controller for the authenticated user's wishlist.
@@ -35,18 +53,30 @@ public class WishlistController {
     private final RemoveFromWishlistService removeFromWishlistService;
     private final ListWishlistService listWishlistService;
     private final UpdateWishlistItemService updateWishlistItemService;
+    private final WishlistContainsService wishlistContainsService;
+    private final AddGamesToWishlistService addGamesToWishlistService;
+    private final RemoveGamesFromWishlistService removeGamesFromWishlistService;
     private final WishlistMapper wishlistMapper;
+    private final ObjectMapper objectMapper;
 
     public WishlistController(AddToWishlistService addToWishlistService,
                               RemoveFromWishlistService removeFromWishlistService,
                               ListWishlistService listWishlistService,
                               UpdateWishlistItemService updateWishlistItemService,
-                              WishlistMapper wishlistMapper) {
+                              WishlistContainsService wishlistContainsService,
+                              AddGamesToWishlistService addGamesToWishlistService,
+                              RemoveGamesFromWishlistService removeGamesFromWishlistService,
+                              WishlistMapper wishlistMapper,
+                              ObjectMapper objectMapper) {
         this.addToWishlistService = addToWishlistService;
         this.removeFromWishlistService = removeFromWishlistService;
         this.listWishlistService = listWishlistService;
         this.updateWishlistItemService = updateWishlistItemService;
+        this.wishlistContainsService = wishlistContainsService;
+        this.addGamesToWishlistService = addGamesToWishlistService;
+        this.removeGamesFromWishlistService = removeGamesFromWishlistService;
         this.wishlistMapper = wishlistMapper;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -62,6 +92,49 @@ public class WishlistController {
         return listWishlistService.listWishlist(new ListWishlistForUserQuery(userId));
     }
 
+    /**
+     * GET /me/wishlist?limit={n}&cursor={token}
+     *
+     * Returns one page of the wishlist, newest first. The first page is
+     * requested without a cursor; each page carries the cursor of the next.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<?> getWishlistPage(
+        @AuthenticationPrincipal AuthenticatedUser currentUser,
+        @RequestParam("limit") int limit,
+        @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        try {
+            UserId userId = currentUser.userId();
+            KeysetCursor after = cursor == null ? null : KeysetCursor.decode(cursor);
+            PageResponse<WishlistItemResponse> page =
+                listWishlistService.listWishlistPage(new ListWishlistForUserQuery(userId), after, limit);
+
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("INVALID_PAGE_REQUEST", ex.getMessage(), null));
+        }
+    }
+
+    /**
+     * GET /me/wishlist/stream
+     *
+     * Same body as GET /me/wishlist, written to the response while the rows
+     * are read, so large wishlists are never held in memory.
+     */
+    @GetMapping("/stream")
+    public void streamWishlist(
+        @AuthenticationPrincipal AuthenticatedUser currentUser,
+        HttpServletResponse response
+    ) throws IOException {
+        UserId userId = currentUser.userId();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        JsonArrayStream.<WishlistItemResponse>write(objectMapper, response.getOutputStream(),
+            sink -> listWishlistService.streamWishlist(new ListWishlistForUserQuery(userId), sink));
+    }
+
     /**
      * POST /me/wishlist
      *
@@ -101,6 +174,94 @@ public class WishlistController {
             .orElseThrow(); // should not happen if services behave correctly
     }
 
+    /**
+     * POST /me/wishlist/contains
+     *
+     * Tells, for up to 500 games, whether each is in the current user's
+     * wishlist, as an object keyed by game id in the order requested.
+     */
+    @PostMapping("/contains")
+    public ResponseEntity<?> wishlistContains(
+        @AuthenticationPrincipal AuthenticatedUser currentUser,
+        @RequestBody GameIdsRequest request
+    ) {
+        try {
+            if (currentUser == null) {
+                return ResponseEntity.status(401)
+                    .body(new ErrorResponse("UNAUTHORIZED", "Not authenticated", null));
+            }
+
+            var query = new AreGamesInWishlistQuery(currentUser.userId(), request.toGameIds());
+            Map<GameId, Boolean> wishlisted = wishlistContainsService.contains(query);
+
+            Map<UUID, Boolean> response = new LinkedHashMap<>(wishlisted.size() * 2);
+            wishlisted.forEach((gameId, isWishlisted) -> response.put(gameId.getValue(), isWishlisted));
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("INVALID_CONTAINS_REQUEST", ex.getMessage(), null));
+        }
+    }
+
+    /**
+     * POST /me/wishlist/batch
+     *
+     * Adds up to 500 games to the current user's wishlist in one statement.
+     * Games already owned or wishlisted are skipped; the response lists the
+     * ids that were added.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> addGamesToWishlist(
+        @AuthenticationPrincipal AuthenticatedUser currentUser,
+        @RequestBody GameIdsRequest request
+    ) {
+        try {
+            if (currentUser == null) {
+                return ResponseEntity.status(401)
+                    .body(new ErrorResponse("UNAUTHORIZED", "Not authenticated", null));
+            }
+
+            var command = new AddGamesToWishlistCommand(currentUser.userId(), request.toGameIds());
+            List<GameId> added = addGamesToWishlistService.addToWishlist(command);
+
+            return ResponseEntity.ok(added.stream().map(GameId::getValue).toList());
+
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("INVALID_BATCH_REQUEST", ex.getMessage(), null));
+        }
+    }
+
+    /**
+     * POST /me/wishlist/batch-remove
+     *
+     * Removes up to 500 games from the current user's wishlist in one
+     * statement. The response lists the ids that were removed.
+     */
+    @PostMapping("/batch-remove")
+    public ResponseEntity<?> removeGamesFromWishlist(
+        @AuthenticationPrincipal AuthenticatedUser currentUser,
+        @RequestBody GameIdsRequest request
+    ) {
+        try {
+            if (currentUser == null) {
+                return ResponseEntity.status(401)
+                    .body(new ErrorResponse("UNAUTHORIZED", "Not authenticated", null));
+            }
+
+            var command = new RemoveGamesFromWishlistCommand(currentUser.userId(), request.toGameIds());
+            List<GameId> removed = removeGamesFromWishlistService.removeFromWishlist(command);
+
+            return ResponseEntity.ok(removed.stream().map(GameId::getValue).toList());
+
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("INVALID_BATCH_REQUEST", ex.getMessage(), null));
+        }
+    }
+
     /**
      * DELETE /me/wishlist/{gameId}
      *
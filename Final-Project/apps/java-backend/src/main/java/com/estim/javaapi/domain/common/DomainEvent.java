@@ -11,4 +11,12 @@ public interface DomainEvent {
      * The moment when the event occurred.
      */
     Instant occurredAt();
+
+    /**
+     * Identifier of the aggregate the event belongs to, or {@code null}.
+     * Events with the same aggregate id are handled in publication order.
+     */
+    default String aggregateId() {
+        return null;
+    }
 }
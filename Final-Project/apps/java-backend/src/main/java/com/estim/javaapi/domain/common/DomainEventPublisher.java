@@ -23,4 +23,13 @@ public interface DomainEventPublisher {
         Objects.requireNonNull(events, "events must not be null");
         events.forEach(this::publish);
     }
+
+    /**
+     * Waits while more published events are awaiting delivery than the
+     * publisher is willing to buffer. Bulk producers call this between
+     * batches, outside any transaction, to run at the pace of delivery.
+     * Returns immediately by default.
+     */
+    default void awaitCapacity() throws InterruptedException {
+    }
 }
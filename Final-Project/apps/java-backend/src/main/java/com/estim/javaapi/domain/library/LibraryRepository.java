@@ -2,7 +2,10 @@ package com.estim.javaapi.domain.library;
 
 import com.estim.javaapi.domain.user.UserId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for managing LibraryEntry aggregates.
@@ -14,4 +17,26 @@ public interface LibraryRepository {
     Optional<LibraryEntry> findByUserAndGame(UserId userId, GameId gameId);
 
     LibraryEntry save(LibraryEntry entry);
+
+    /**
+     * Inserts the entry unless the user already owns the game, in a single
+     * statement that is safe against concurrent inserts.
+     *
+     * @return the inserted entry, or empty if the game was already in the library
+     */
+    Optional<LibraryEntry> insertIfAbsent(LibraryEntry entry);
+
+    /**
+     * Inserts many entries in a single statement, skipping games the user
+     * already owns (including duplicates within {@code entries}). All
+     * entries must share the same {@code addedAt}.
+     *
+     * @return the entries that were inserted
+     */
+    List<LibraryEntry> insertAllIfAbsent(List<LibraryEntry> entries);
+
+    /**
+     * Returns which of the given games the user owns, in a single statement.
+     */
+    Set<GameId> findGameIdsIn(UserId userId, Collection<GameId> gameIds);
 }
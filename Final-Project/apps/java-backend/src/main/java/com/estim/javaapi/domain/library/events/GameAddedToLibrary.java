@@ -33,4 +33,9 @@ public final class GameAddedToLibrary extends AbstractDomainEvent {
     public GameId getGameId() {
         return gameId;
     }
+
+    @Override
+    public String aggregateId() {
+        return userId.value().toString();
+    }
 }
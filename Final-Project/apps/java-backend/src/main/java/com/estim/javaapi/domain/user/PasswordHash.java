@@ -7,7 +7,7 @@ import java.util.Objects;
  *
  * IMPORTANT: this class assumes the value is already hashed.
  * Hashing and verification should be done by a dedicated service
- * in the application/infrastructure layer (e.g., BCryptPasswordHasher).
+ * in the application/infrastructure layer (e.g., DelegatingPasswordHasher).
  */
 public final class PasswordHash {
 
@@ -11,14 +11,29 @@ import com.estim.javaapi.domain.user.events.PasswordChanged;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Aggregate root that represents an application user.
+ *
+ * Tracks which fields and child entries changed since it was registered or
+ * rehydrated, so persistence can write only those.
  */
 public class User {
 
+    /**
+     * Mutable scalar state whose changes are tracked. {@code updatedAt}
+     * changes with every one of them.
+     */
+    public enum ChangedField {
+        PASSWORD_HASH,
+        PROFILE,
+        LAST_LOGIN
+    }
+
     private final UserId id;
     private final Email email;
 
@@ -27,6 +42,7 @@ public class User {
     private boolean emailVerified;
     private UserProfile profile;
 
+    // null when the repository did not load the collection
     private final List<PaymentMethod> paymentMethods;
     private final List<OAuthAccount> linkedAccounts;
 
@@ -37,6 +53,20 @@ public class User {
     // Domain events raised by this aggregate instance
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
+    // Change tracking since registration or rehydration
+    private boolean persisted;
+    private final Set<ChangedField> changedFields = EnumSet.noneOf(ChangedField.class);
+    private final List<PaymentMethod> addedPaymentMethods = new ArrayList<>();
+    private final List<PaymentMethodId> removedPaymentMethodIds = new ArrayList<>();
+    private final List<OAuthAccount> addedLinkedAccounts = new ArrayList<>();
+
+    // Changes written by a transaction that has not completed yet
+    private boolean written;
+    private final Set<ChangedField> writtenFields = EnumSet.noneOf(ChangedField.class);
+    private final List<PaymentMethod> writtenPaymentMethods = new ArrayList<>();
+    private final List<PaymentMethodId> writtenRemovals = new ArrayList<>();
+    private final List<OAuthAccount> writtenLinkedAccounts = new ArrayList<>();
+
     // ---------- Constructors / Factory ----------
 
     private User(
@@ -58,8 +88,8 @@ public class User {
         this.status = Objects.requireNonNull(status, "status must not be null");
         this.emailVerified = emailVerified;
         this.profile = profile;
-        this.paymentMethods = paymentMethods != null ? new ArrayList<>(paymentMethods) : new ArrayList<>();
-        this.linkedAccounts = linkedAccounts != null ? new ArrayList<>(linkedAccounts) : new ArrayList<>();
+        this.paymentMethods = paymentMethods != null ? new ArrayList<>(paymentMethods) : null;
+        this.linkedAccounts = linkedAccounts != null ? new ArrayList<>(linkedAccounts) : null;
         this.createdAt = Objects.requireNonNull(createdAt, "createdAt must not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "updatedAt must not be null");
         this.lastLoginAt = lastLoginAt;
@@ -89,6 +119,43 @@ public class User {
         return user;
     }
 
+    /**
+     * Rebuilds an existing user from persisted state.
+     * Intended for persistence adapters: raises no events.
+     *
+     * A {@code null} collection means it was not loaded; reading or changing
+     * it then fails instead of silently acting on an empty list.
+     */
+    public static User rehydrate(
+        UserId id,
+        Email email,
+        PasswordHash passwordHash,
+        UserStatus status,
+        boolean emailVerified,
+        UserProfile profile,
+        List<PaymentMethod> paymentMethods,
+        List<OAuthAccount> linkedAccounts,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant lastLoginAt
+    ) {
+        User user = new User(
+            id,
+            email,
+            passwordHash,
+            status,
+            emailVerified,
+            profile,
+            paymentMethods,
+            linkedAccounts,
+            createdAt,
+            updatedAt,
+            lastLoginAt
+        );
+        user.persisted = true;
+        return user;
+    }
+
 
     /**
      * Updates the user profile based on a profile update object.
@@ -97,7 +164,7 @@ public class User {
     public void updateProfile(UserProfile newProfile) {
         Objects.requireNonNull(newProfile, "newProfile must not be null");
         this.profile = newProfile;
-        touchUpdated();
+        touch(ChangedField.PROFILE);
         registerEvent(new UserProfileUpdated(this.id, Instant.now()));
     }
 
@@ -108,13 +175,14 @@ public class User {
     public void addPaymentMethod(PaymentMethod method) {
         Objects.requireNonNull(method, "payment method must not be null");
 
-        boolean alreadyExists = this.paymentMethods.stream()
+        boolean alreadyExists = loadedPaymentMethods().stream()
             .anyMatch(pm -> pm.id().equals(method.id()));
         if (alreadyExists) {
             return;
         }
 
         this.paymentMethods.add(method);
+        this.addedPaymentMethods.add(method);
         touchUpdated();
         registerEvent(new PaymentMethodAdded(this.id, method.id(), Instant.now()));
     }
@@ -125,8 +193,12 @@ public class User {
     public void removePaymentMethod(PaymentMethodId id) {
         Objects.requireNonNull(id, "paymentMethodId must not be null");
 
-        boolean removed = this.paymentMethods.removeIf(pm -> pm.id().equals(id));
+        boolean removed = loadedPaymentMethods().removeIf(pm -> pm.id().equals(id));
         if (removed) {
+            // Removing a method added since the last save cancels its insert
+            if (!this.addedPaymentMethods.removeIf(pm -> pm.id().equals(id))) {
+                this.removedPaymentMethodIds.add(id);
+            }
             touchUpdated();
             registerEvent(new PaymentMethodRemoved(this.id, id, Instant.now()));
         }
@@ -138,7 +210,7 @@ public class User {
     public void linkOAuthAccount(OAuthAccount account) {
         Objects.requireNonNull(account, "account must not be null");
 
-        boolean alreadyLinked = this.linkedAccounts.stream()
+        boolean alreadyLinked = loadedLinkedAccounts().stream()
             .anyMatch(acc ->
                 acc.provider().equals(account.provider())
                     && acc.externalUserId().equals(account.externalUserId())
@@ -148,13 +220,14 @@ public class User {
         }
 
         this.linkedAccounts.add(account);
+        this.addedLinkedAccounts.add(account);
         touchUpdated();
         registerEvent(new OAuthAccountLinked(this.id, account.provider(), account.externalUserId(), Instant.now()));
     }
 
     public void markLogin() {
         this.lastLoginAt = Instant.now();
-        touchUpdated();
+        touch(ChangedField.LAST_LOGIN);
     }
 
     /**
@@ -171,12 +244,26 @@ public class User {
         }
 
         this.passwordHash = newPasswordHash;
-        touchUpdated();
+        touch(ChangedField.PASSWORD_HASH);
         registerEvent(new PasswordChanged(this.id, Instant.now()));
     }
 
     // ---------- Domain events support ----------
 
+    private List<PaymentMethod> loadedPaymentMethods() {
+        if (paymentMethods == null) {
+            throw new IllegalStateException("Payment methods were not loaded for this user");
+        }
+        return paymentMethods;
+    }
+
+    private List<OAuthAccount> loadedLinkedAccounts() {
+        if (linkedAccounts == null) {
+            throw new IllegalStateException("Linked accounts were not loaded for this user");
+        }
+        return linkedAccounts;
+    }
+
     private void registerEvent(DomainEvent event) {
         this.domainEvents.add(event);
     }
@@ -185,6 +272,90 @@ public class User {
         this.updatedAt = Instant.now();
     }
 
+    private void touch(ChangedField field) {
+        this.changedFields.add(field);
+        touchUpdated();
+    }
+
+    // ---------- Change tracking ----------
+
+    /**
+     * True until the user has been saved for the first time.
+     */
+    public boolean isNew() {
+        return !persisted && !written;
+    }
+
+    public boolean hasChanges() {
+        return !changedFields.isEmpty()
+            || !addedPaymentMethods.isEmpty()
+            || !removedPaymentMethodIds.isEmpty()
+            || !addedLinkedAccounts.isEmpty();
+    }
+
+    public Set<ChangedField> changedFields() {
+        return Collections.unmodifiableSet(changedFields);
+    }
+
+    public List<PaymentMethod> addedPaymentMethods() {
+        return Collections.unmodifiableList(addedPaymentMethods);
+    }
+
+    public List<PaymentMethodId> removedPaymentMethodIds() {
+        return Collections.unmodifiableList(removedPaymentMethodIds);
+    }
+
+    public List<OAuthAccount> addedLinkedAccounts() {
+        return Collections.unmodifiableList(addedLinkedAccounts);
+    }
+
+    /**
+     * Sets the pending changes aside as written by the current transaction,
+     * so saving again in the same transaction does not write them twice.
+     * Called through {@link UserWriteTracking} right after writing them;
+     * followed by {@link #markPersisted()} once the transaction commits or
+     * {@link #markWriteRolledBack()} if it rolls back.
+     */
+    void markWritten() {
+        this.written = true;
+        this.writtenFields.addAll(changedFields);
+        this.writtenPaymentMethods.addAll(addedPaymentMethods);
+        this.writtenRemovals.addAll(removedPaymentMethodIds);
+        this.writtenLinkedAccounts.addAll(addedLinkedAccounts);
+        this.changedFields.clear();
+        this.addedPaymentMethods.clear();
+        this.removedPaymentMethodIds.clear();
+        this.addedLinkedAccounts.clear();
+    }
+
+    /**
+     * Marks the written changes as committed.
+     */
+    void markPersisted() {
+        this.persisted = true;
+        this.written = false;
+        this.writtenFields.clear();
+        this.writtenPaymentMethods.clear();
+        this.writtenRemovals.clear();
+        this.writtenLinkedAccounts.clear();
+    }
+
+    /**
+     * Puts the written changes back as pending, ahead of anything changed
+     * since, so the next save writes them again.
+     */
+    void markWriteRolledBack() {
+        this.written = false;
+        this.changedFields.addAll(writtenFields);
+        this.addedPaymentMethods.addAll(0, writtenPaymentMethods);
+        this.removedPaymentMethodIds.addAll(0, writtenRemovals);
+        this.addedLinkedAccounts.addAll(0, writtenLinkedAccounts);
+        this.writtenFields.clear();
+        this.writtenPaymentMethods.clear();
+        this.writtenRemovals.clear();
+        this.writtenLinkedAccounts.clear();
+    }
+
     /**
      * Returns an immutable view of the domain events raised by this aggregate.
      */
@@ -227,11 +398,11 @@ public class User {
     }
 
     public List<PaymentMethod> paymentMethods() {
-        return Collections.unmodifiableList(paymentMethods);
+        return Collections.unmodifiableList(loadedPaymentMethods());
     }
 
     public List<OAuthAccount> linkedAccounts() {
-        return Collections.unmodifiableList(linkedAccounts);
+        return Collections.unmodifiableList(loadedLinkedAccounts());
     }
 
     public Instant createdAt() {
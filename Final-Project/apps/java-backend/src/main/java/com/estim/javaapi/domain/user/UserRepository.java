@@ -1,15 +1,42 @@
 package com.estim.javaapi.domain.user;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository port for accessing and persisting User aggregates.
  * Implementations live in the infrastructure layer.
+ *
+ * Lookups come in variants by the child collections they load, so each use
+ * case only pays for what it reads. Collections that were not loaded can not
+ * be read or changed on the returned aggregate.
  */
 public interface UserRepository {
 
+    /**
+     * Loads the user with payment methods and linked accounts.
+     */
     Optional<User> findById(UserId id);
 
+    /**
+     * Loads only the user row, without child collections.
+     */
+    Optional<User> findByIdCore(UserId id);
+
+    Optional<User> findByIdWithPaymentMethods(UserId id);
+
+    Optional<User> findByIdWithLinkedAccounts(UserId id);
+
+    /**
+     * Loads several users with all child collections, using one query per
+     * collection rather than one per user. Unknown ids are skipped.
+     */
+    List<User> findAllById(Collection<UserId> ids);
+
+    /**
+     * Finds a user by email, without child collections.
+     */
     Optional<User> findByEmail(Email email);
 
     /**
@@ -18,6 +45,15 @@ public interface UserRepository {
      */
     User save(User user);
 
+    /**
+     * Replaces the stored password hash with {@code replacement} only if it
+     * still equals {@code expected}, in a single statement, so a concurrent
+     * password change is never overwritten.
+     *
+     * @return whether the hash was replaced
+     */
+    boolean replacePasswordHash(UserId id, PasswordHash expected, PasswordHash replacement);
+
     /**
      * Returns true if a user with the given email already exists.
      */
@@ -30,7 +66,7 @@ public interface UserRepository {
     boolean existsByDisplayName(String displayName);
 
     /**
-     * Finds a user by an already linked OAuth account.
+     * Finds a user by an already linked OAuth account, without child collections.
      */
     Optional<User> findByOAuthProviderAndExternalId(OAuthProvider provider, String externalUserId);
 }
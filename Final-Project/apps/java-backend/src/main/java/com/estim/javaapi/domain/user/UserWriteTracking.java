@@ -0,0 +1,28 @@
+package com.estim.javaapi.domain.user;
+
+/**
+ * Lets a {@link UserRepository} implementation move a {@link User}'s pending
+ * changes through a transaction: set aside once written, then cleared on
+ * commit or put back on rollback.
+ *
+ * Kept off the aggregate so that application code only sees
+ * {@link User#hasChanges()} and {@link User#changedFields()}; nothing but
+ * repositories should call it.
+ */
+public final class UserWriteTracking {
+
+    private UserWriteTracking() {
+    }
+
+    public static void markWritten(User user) {
+        user.markWritten();
+    }
+
+    public static void markPersisted(User user) {
+        user.markPersisted();
+    }
+
+    public static void markWriteRolledBack(User user) {
+        user.markWriteRolledBack();
+    }
+}
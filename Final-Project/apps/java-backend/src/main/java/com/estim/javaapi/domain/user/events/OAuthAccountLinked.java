@@ -40,4 +40,9 @@ public final class OAuthAccountLinked implements DomainEvent {
     public Instant occurredAt() {
         return occurredAt;
     }
+
+    @Override
+    public String aggregateId() {
+        return userId != null ? userId.value().toString() : null;
+    }
 }
@@ -24,4 +24,9 @@ public class PasswordChanged implements DomainEvent {
     public Instant occurredAt() {
         return occurredAt;
     }
+
+    @Override
+    public String aggregateId() {
+        return userId.value().toString();
+    }
 }
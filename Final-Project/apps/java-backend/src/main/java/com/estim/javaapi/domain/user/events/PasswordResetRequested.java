@@ -33,5 +33,9 @@ public class PasswordResetRequested implements DomainEvent {
     public Instant occurredAt() {
         return occurredAt;
     }
-}
 
+    @Override
+    public String aggregateId() {
+        return userId.value().toString();
+    }
+}
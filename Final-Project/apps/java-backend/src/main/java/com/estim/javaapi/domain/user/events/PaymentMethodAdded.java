@@ -33,4 +33,9 @@ public final class PaymentMethodAdded implements DomainEvent {
     public Instant occurredAt() {
         return occurredAt;
     }
+
+    @Override
+    public String aggregateId() {
+        return userId != null ? userId.value().toString() : null;
+    }
 }
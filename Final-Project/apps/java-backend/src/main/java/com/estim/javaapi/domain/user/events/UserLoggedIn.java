@@ -9,10 +9,16 @@ import java.util.Objects;
 public class UserLoggedIn implements DomainEvent {
 
     private final UserId userId;
+    private final UserSnapshot snapshot;
     private final Instant occurredAt;
 
     public UserLoggedIn(UserId userId, Instant occurredAt) {
+        this(userId, null, occurredAt);
+    }
+
+    public UserLoggedIn(UserId userId, UserSnapshot snapshot, Instant occurredAt) {
         this.userId = Objects.requireNonNull(userId);
+        this.snapshot = snapshot;
         this.occurredAt = Objects.requireNonNull(occurredAt);
     }
 
@@ -20,8 +26,20 @@ public class UserLoggedIn implements DomainEvent {
         return userId;
     }
 
+    /**
+     * The user as of the login, or {@code null} if the publisher did not have it loaded.
+     */
+    public UserSnapshot snapshot() {
+        return snapshot;
+    }
+
     @Override
     public Instant occurredAt() {
         return occurredAt;
     }
+
+    @Override
+    public String aggregateId() {
+        return userId.value().toString();
+    }
 }
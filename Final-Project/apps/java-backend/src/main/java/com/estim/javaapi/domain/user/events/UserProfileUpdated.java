@@ -26,4 +26,9 @@ public final class UserProfileUpdated implements DomainEvent {
     public Instant occurredAt() {
         return occurredAt;
     }
+
+    @Override
+    public String aggregateId() {
+        return userId != null ? userId.value().toString() : null;
+    }
 }
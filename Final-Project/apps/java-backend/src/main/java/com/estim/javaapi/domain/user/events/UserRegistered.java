@@ -31,4 +31,9 @@ public final class UserRegistered implements DomainEvent {
     public Instant occurredAt() {
         return occurredAt;
     }
+
+    @Override
+    public String aggregateId() {
+        return userId != null ? userId.value().toString() : null;
+    }
 }
@@ -0,0 +1,20 @@
+package com.estim.javaapi.domain.user.events;
+
+import com.estim.javaapi.domain.user.User;
+
+import java.util.Objects;
+
+/**
+ * Read-only projection of a user taken when an event is raised, so
+ * handlers can use these fields without loading the aggregate again.
+ */
+public record UserSnapshot(String email, String displayName) {
+
+    public static UserSnapshot of(User user) {
+        Objects.requireNonNull(user, "user must not be null");
+        return new UserSnapshot(
+            user.email().value(),
+            user.profile() != null ? user.profile().displayName() : null
+        );
+    }
+}
@@ -3,8 +3,10 @@ package com.estim.javaapi.domain.wishlist;
 import com.estim.javaapi.domain.library.GameId;
 import com.estim.javaapi.domain.user.UserId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface WishlistRepository {
 
@@ -12,11 +14,46 @@ public interface WishlistRepository {
 
     Optional<WishlistItem> findByUserIdAndGameId(UserId userId, GameId gameId);
 
+    /**
+     * Inserts the item, or updates it if the game is already wishlisted.
+     */
     void save(WishlistItem item);
 
+    /**
+     * Inserts the item unless the game is already wishlisted.
+     *
+     * @return true if the item was inserted
+     */
+    boolean addIfAbsent(WishlistItem item);
+
     void delete(WishlistItem item);
 
+    /**
+     * @return true if the game was in the wishlist
+     */
+    boolean delete(UserId userId, GameId gameId);
+
+    /**
+     * Adds every game not yet wishlisted in a single statement.
+     *
+     * @return the games that were added, without those already wishlisted
+     */
+    List<GameId> addAll(UserId userId, Collection<GameId> gameIds);
+
+    /**
+     * Removes the given games in a single statement.
+     *
+     * @return the games that were removed, without those not wishlisted
+     */
+    List<GameId> removeAll(UserId userId, Collection<GameId> gameIds);
+
     boolean existsByUserIdAndGameId(UserId userId, GameId gameId);
 
+    /**
+     * Returns which of the given games are in the user's wishlist, in a
+     * single statement.
+     */
+    Set<GameId> findGameIdsIn(UserId userId, Collection<GameId> gameIds);
+
     List<WishlistItem> findByGameId(GameId gameId);
 }
@@ -27,6 +27,11 @@ public final class GameRemovedFromWishlist extends AbstractDomainEvent {
         return gameId;
     }
 
+    @Override
+    public String aggregateId() {
+        return userId.value().toString();
+    }
+
     @Override
     public String toString() {
         return "GameRemovedFromWishlist{" +
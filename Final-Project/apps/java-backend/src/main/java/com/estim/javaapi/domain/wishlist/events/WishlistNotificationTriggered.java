@@ -67,6 +67,11 @@ public final class WishlistNotificationTriggered extends AbstractDomainEvent {
         return discountPercentage;
     }
 
+    @Override
+    public String aggregateId() {
+        return userId.value().toString();
+    }
+
     @Override
     public String toString() {
         return "WishlistNotificationTriggered{" +
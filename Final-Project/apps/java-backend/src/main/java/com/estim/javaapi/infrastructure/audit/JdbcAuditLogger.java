@@ -0,0 +1,204 @@
+package com.estim.javaapi.infrastructure.audit;
+
+import com.estim.javaapi.application.handlers.AuditEntry;
+import com.estim.javaapi.application.handlers.AuditLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AuditLogger that appends entries to the {@code audit_log} table in
+ * batches from a background thread.
+ *
+ * Callers only enqueue, and entries logged before the application is ready
+ * wait in the queue until the writer starts. The writer flushes when a batch is full or the
+ * flush interval has passed, with one JDBC batch per flush. When the queue
+ * stays full, entries are dropped and counted rather than blocking the
+ * caller, with at most one warning per {@code DROP_WARNING_INTERVAL}; entries
+ * of a batch the database rejects are written to the application log so
+ * they are not lost silently.
+ */
+@Component
+public class JdbcAuditLogger implements AuditLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcAuditLogger.class);
+
+    private static final String INSERT_SQL = """
+        INSERT INTO audit_log (occurred_at, action, user_id, details)
+        VALUES (?, ?, ?, ?)
+        """;
+    private static final long DROP_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuditEntry> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private final AtomicLong droppedSinceWarning = new AtomicLong();
+    private final AtomicLong lastDropWarningNanos = new AtomicLong(System.nanoTime() - DROP_WARNING_INTERVAL_NANOS);
+
+    private volatile Thread writer;
+
+    public JdbcAuditLogger(
+        JdbcTemplate jdbcTemplate,
+        @Value("${audit.queue-capacity:10000}") int queueCapacity,
+        @Value("${audit.batch-size:200}") int batchSize,
+        @Value("${audit.flush-interval:PT1S}") Duration flushInterval,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.flushInterval = Objects.requireNonNull(flushInterval, "flushInterval must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        this.written = Counter.builder("audit.entries").tag("result", "written").register(meterRegistry);
+        this.dropped = Counter.builder("audit.entries").tag("result", "dropped").register(meterRegistry);
+        this.failed = Counter.builder("audit.entries").tag("result", "failed").register(meterRegistry);
+    }
+
+    @Override
+    public void log(AuditEntry entry) {
+        Objects.requireNonNull(entry, "entry must not be null");
+        // Never wait for room: callers are on the request path
+        if (!queue.offer(entry)) {
+            dropped.increment();
+            droppedSinceWarning.incrementAndGet();
+            warnDropped();
+        }
+    }
+
+    /**
+     * Logs the drops since the previous warning, from whichever caller
+     * first finds the interval elapsed, so a full queue does not also
+     * flood the log.
+     */
+    private void warnDropped() {
+        long now = System.nanoTime();
+        long last = lastDropWarningNanos.get();
+        if (now - last < DROP_WARNING_INTERVAL_NANOS || !lastDropWarningNanos.compareAndSet(last, now)) {
+            return;
+        }
+        log.warn("Audit queue full, dropped {} entries since the last warning",
+            droppedSinceWarning.getAndSet(0));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        Thread thread = new Thread(this::run, "audit-log-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                AuditEntry first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Give a burst up to one flush interval to fill the batch
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AuditEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Write out whatever is left on shutdown
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            flush(batch.subList(from, Math.min(batch.size(), from + batchSize)));
+        }
+    }
+
+    private void flush(List<AuditEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                ps.setTimestamp(1, Timestamp.from(entry.occurredAt()));
+                ps.setString(2, entry.action());
+                ps.setObject(3, entry.userId() != null ? entry.userId().value() : null);
+                ps.setString(4, entry.details());
+            });
+            written.increment(batch.size());
+        } catch (DataAccessException ex) {
+            log.error("Could not write {} audit entries", batch.size(), ex);
+            writeToApplicationLog(batch);
+        } catch (RuntimeException ex) {
+            // Keep the writer alive
+            log.error("Unexpected error while writing {} audit entries", batch.size(), ex);
+            writeToApplicationLog(batch);
+        }
+    }
+
+    private void writeToApplicationLog(List<AuditEntry> batch) {
+        failed.increment(batch.size());
+        for (AuditEntry entry : batch) {
+            log.warn("[AUDIT] {} {} user={} {}",
+                entry.occurredAt(), entry.action(), userIdOf(entry), entry.details());
+        }
+    }
+
+    private static Object userIdOf(AuditEntry entry) {
+        return entry.userId() != null ? entry.userId().value() : "-";
+    }
+}
@@ -0,0 +1,208 @@
+package com.estim.javaapi.infrastructure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * Small bounded, concurrent in-memory cache with per-entry expiry.
+ *
+ * Reads are lock-free. When the cache grows past its maximum size, one
+ * writer drops expired entries and then the least recently read ones,
+ * bringing the cache back to 90% of its capacity.
+ */
+public final class ExpiringCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final int maximumSize;
+    private final long defaultTtlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringCache(int maximumSize, Duration defaultTtl) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        Objects.requireNonNull(defaultTtl, "defaultTtl must not be null");
+        if (defaultTtl.isNegative() || defaultTtl.isZero()) {
+            throw new IllegalArgumentException("defaultTtl must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.defaultTtlMillis = defaultTtl.toMillis();
+    }
+
+    /**
+     * Returns the cached value, or {@code null} if absent or expired.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        long now = System.currentTimeMillis();
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis <= now) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+
+        entry.lastAccessMillis = now;
+        hits.increment();
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + defaultTtlMillis);
+    }
+
+    /**
+     * Caches a value until the given instant (epoch millis), capped by the default TTL.
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(expiresAtMillis, now + defaultTtlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+
+        entries.put(key, new Entry<>(value, expiresAt, now));
+        evictIfNecessary(now);
+    }
+
+    /**
+     * Replaces the value of a live entry, restarting its default TTL.
+     * Absent or expired keys are left absent.
+     *
+     * @return whether an entry was replaced
+     */
+    public boolean replace(K key, V value) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+
+        long now = System.currentTimeMillis();
+        Entry<V> replaced = entries.computeIfPresent(key, (k, e) -> e.expiresAtMillis <= now
+            ? null
+            : new Entry<>(value, now + defaultTtlMillis, e.lastAccessMillis));
+        return replaced != null;
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every entry matching the predicate. This is a full scan and is
+     * intended for rare operations such as revocation.
+     */
+    public void invalidateIf(BiPredicate<? super K, ? super V> predicate) {
+        Objects.requireNonNull(predicate, "predicate must not be null");
+        entries.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue().value));
+    }
+
+    /**
+     * Returns a snapshot of the cached keys, possibly including entries that
+     * have expired but were not dropped yet. This is a full scan.
+     */
+    public Set<K> keys() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Registers hit/miss/eviction counters and a size gauge, following the
+     * Micrometer {@code cache.*} naming convention.
+     */
+    public ExpiringCache<K, V> bindTo(MeterRegistry registry, String cacheName) {
+        Objects.requireNonNull(registry, "registry must not be null");
+        Objects.requireNonNull(cacheName, "cacheName must not be null");
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tag("cache", cacheName)
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tag("cache", cacheName)
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+            .tag("cache", cacheName)
+            .register(registry);
+        Gauge.builder("cache.size", entries, Map::size)
+            .tag("cache", cacheName)
+            .register(registry);
+
+        return this;
+    }
+
+    private void evictIfNecessary(long now) {
+        if (entries.size() <= maximumSize || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int before = entries.size();
+            entries.values().removeIf(e -> e.expiresAtMillis <= now);
+
+            int target = Math.max(1, (int) (maximumSize * 0.9));
+            int excess = entries.size() - target;
+            if (excess > 0) {
+                long[] accessTimes = entries.values().stream()
+                    .mapToLong(e -> e.lastAccessMillis)
+                    .toArray();
+                Arrays.sort(accessTimes);
+                long cutoff = accessTimes[Math.min(excess, accessTimes.length) - 1];
+                entries.values().removeIf(e -> e.lastAccessMillis <= cutoff);
+            }
+
+            evictions.add(Math.max(0, before - entries.size()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+        private volatile long lastAccessMillis;
+
+        private Entry(V value, long expiresAtMillis, long lastAccessMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+    }
+}
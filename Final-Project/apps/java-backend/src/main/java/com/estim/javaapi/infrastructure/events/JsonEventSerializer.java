@@ -0,0 +1,46 @@
+package com.estim.javaapi.infrastructure.events;
+
+import com.estim.javaapi.domain.common.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Serializes domain events to JSON from their fields.
+ *
+ * Domain events expose record-style accessors rather than getters, so the
+ * application's ObjectMapper is copied and switched to field access.
+ */
+@Component
+public class JsonEventSerializer implements EventSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonEventSerializer(ObjectMapper objectMapper) {
+        Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+        this.objectMapper = objectMapper.copy()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    }
+
+    @Override
+    public ExternalEventEnvelope serialize(DomainEvent event) {
+        Objects.requireNonNull(event, "event must not be null");
+        try {
+            return new ExternalEventEnvelope(
+                event.getClass().getSimpleName(),
+                objectMapper.writeValueAsString(event),
+                event.occurredAt()
+            );
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + event.getClass().getSimpleName(), ex);
+        }
+    }
+}
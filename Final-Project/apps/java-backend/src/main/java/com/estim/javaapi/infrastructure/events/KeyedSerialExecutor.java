@@ -0,0 +1,45 @@
+package com.estim.javaapi.infrastructure.events;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks on a delegate executor, one at a time and in submission order
+ * per key, with no ordering between different keys.
+ *
+ * Each key keeps only the tail of its chain, which is dropped as soon as it
+ * completes, so idle keys cost nothing. A task that throws, even an
+ * {@link Error}, does not stop the remaining tasks of its key.
+ */
+final class KeyedSerialExecutor {
+
+    private final Executor delegate;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    KeyedSerialExecutor(Executor delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    }
+
+    /**
+     * @param key ordering key, or {@code null} for a task with no ordering constraint
+     */
+    void execute(String key, Runnable task) {
+        Objects.requireNonNull(task, "task must not be null");
+        if (key == null) {
+            delegate.execute(task);
+            return;
+        }
+
+        CompletableFuture<Void> tail = tails.compute(key, (k, previous) ->
+            previous == null
+                ? CompletableFuture.runAsync(task, delegate)
+                : previous.handle((result, error) -> null).thenRunAsync(task, delegate));
+        tail.whenComplete((result, error) -> tails.remove(key, tail));
+    }
+
+    int pendingKeys() {
+        return tails.size();
+    }
+}
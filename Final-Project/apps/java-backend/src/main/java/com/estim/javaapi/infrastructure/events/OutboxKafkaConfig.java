@@ -0,0 +1,45 @@
+package com.estim.javaapi.infrastructure.events;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka producer used by {@link OutboxRelay}.
+ *
+ * Idempotence (with acks=all) keeps retried sends from duplicating or
+ * reordering records within a partition; compression and linger let the
+ * producer pack each relay batch into few requests.
+ */
+@Configuration
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true")
+public class OutboxKafkaConfig {
+
+    @Bean(destroyMethod = "close")
+    public Producer<String, String> outboxProducer(
+        @Value("${outbox.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+        @Value("${outbox.kafka.compression-type:lz4}") String compressionType,
+        @Value("${outbox.kafka.linger-ms:20}") int lingerMs,
+        @Value("${outbox.kafka.batch-size-bytes:65536}") int batchSizeBytes
+    ) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSizeBytes);
+        return new KafkaProducer<>(config);
+    }
+}
@@ -0,0 +1,217 @@
+package com.estim.javaapi.infrastructure.events;
+
+import com.estim.javaapi.infrastructure.persistence.outbox.OutboxEventJpaEntity;
+import com.estim.javaapi.infrastructure.persistence.outbox.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relays outbox events to Kafka.
+ *
+ * Only one relay runs at a time across all instances: a drain first takes
+ * a PostgreSQL session advisory lock and skips its turn if another
+ * instance holds it. The holder reads the oldest events, sends them, and
+ * deletes them once Kafka acknowledged every record; no transaction or row
+ * lock is held while waiting for Kafka. A failed send leaves the batch in
+ * the outbox to be retried, so delivery is at-least-once. Since a single
+ * relay sends in outbox order and records are keyed by aggregate id, each
+ * aggregate's events reach their partition in outbox order.
+ *
+ * Takes a {@link Producer} rather than building one, so it can be driven by
+ * Kafka's {@code MockProducer} in tests.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    // Arbitrary application-wide key of the relay's advisory lock
+    static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+
+    private final OutboxEventJpaRepository repository;
+    private final Producer<String, String> producer;
+    private final DataSource dataSource;
+    private final String topic;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration sendTimeout;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final DistributionSummary batchSizes;
+    private final Counter published;
+    private final Counter failures;
+
+    private final ScheduledExecutorService scheduler;
+
+    public OutboxRelay(
+        OutboxEventJpaRepository repository,
+        Producer<String, String> outboxProducer,
+        DataSource dataSource,
+        @Value("${outbox.topic:estim.domain-events}") String topic,
+        @Value("${outbox.relay.batch-size:500}") int batchSize,
+        @Value("${outbox.relay.poll-interval:PT1S}") Duration pollInterval,
+        @Value("${outbox.relay.send-timeout:PT30S}") Duration sendTimeout,
+        MeterRegistry meterRegistry
+    ) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.producer = Objects.requireNonNull(outboxProducer, "outboxProducer must not be null");
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.topic = Objects.requireNonNull(topic, "topic must not be null");
+        this.pollInterval = Objects.requireNonNull(pollInterval, "pollInterval must not be null");
+        this.sendTimeout = Objects.requireNonNull(sendTimeout, "sendTimeout must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.batchSize = batchSize;
+
+        Gauge.builder("outbox.relay.lag", lagMillis, millis -> millis.get() / 1000.0)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("outbox.relay.batch.size").register(meterRegistry);
+        this.published = Counter.builder("outbox.relay.published").register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures").register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::drain, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Relays batches until the outbox is drained, unless another instance
+     * is relaying.
+     */
+    void drain() {
+        // The lock belongs to this connection's session, so it is held for the whole drain
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryLock(lockConnection)) {
+                return;
+            }
+            try {
+                int relayed;
+                do {
+                    relayed = relayBatch();
+                } while (relayed == batchSize);
+            } finally {
+                unlock(lockConnection);
+            }
+        } catch (SQLException | RuntimeException ex) {
+            // Keep the scheduled relay alive; the batch is retried on the next poll
+            failures.increment();
+            log.warn("Outbox relay failed; will retry", ex);
+        }
+    }
+
+    int relayBatch() {
+        List<OutboxEventJpaEntity> batch = repository.findNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Math.max(0, System.currentTimeMillis() - batch.get(0).getCreatedAt().toEpochMilli()));
+
+        List<Future<RecordMetadata>> sends = new ArrayList<>(batch.size());
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (OutboxEventJpaEntity event : batch) {
+            sends.add(producer.send(toRecord(event)));
+            ids.add(event.getId());
+        }
+        producer.flush();
+        awaitAcknowledgements(sends);
+
+        repository.deleteAllByIdInBatch(ids);
+        batchSizes.record(batch.size());
+        published.increment(batch.size());
+        return batch.size();
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(TRY_LOCK_SQL)) {
+            statement.setLong(1, RELAY_LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UNLOCK_SQL)) {
+            statement.setLong(1, RELAY_LOCK_KEY);
+            statement.execute();
+        }
+    }
+
+    private ProducerRecord<String, String> toRecord(OutboxEventJpaEntity event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+            topic,
+            null,
+            event.getOccurredAt().toEpochMilli(),
+            event.getAggregateId(),
+            event.getPayload()
+        );
+        record.headers().add("event-type", event.getEventType().getBytes(StandardCharsets.UTF_8));
+        record.headers().add("outbox-id", Long.toString(event.getId()).getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private void awaitAcknowledgements(List<Future<RecordMetadata>> sends) {
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        try {
+            for (Future<RecordMetadata> send : sends) {
+                send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while relaying outbox events", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("Kafka did not acknowledge outbox events", ex);
+        }
+    }
+}
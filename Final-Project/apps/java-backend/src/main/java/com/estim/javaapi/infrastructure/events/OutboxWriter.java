@@ -0,0 +1,98 @@
+package com.estim.javaapi.infrastructure.events;
+
+import com.estim.javaapi.domain.common.DomainEvent;
+import com.estim.javaapi.infrastructure.persistence.outbox.OutboxEventJpaEntity;
+import com.estim.javaapi.infrastructure.persistence.outbox.OutboxEventJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Appends domain events to the outbox table.
+ *
+ * Joins the caller's transaction, so the event is stored if and only if the
+ * state change that raised it is committed. Outside a transaction the event
+ * is stored on its own.
+ */
+@Component
+public class OutboxWriter {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_events (aggregate_id, event_type, payload, occurred_at, created_at)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    // Relayed rows are deleted, so this probes the backlog without counting all of it
+    private static final String BACKLOG_SQL = """
+        SELECT EXISTS (SELECT 1 FROM outbox_events OFFSET ?)
+        """;
+
+    private final OutboxEventJpaRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventSerializer serializer;
+    private final boolean enabled;
+
+    public OutboxWriter(OutboxEventJpaRepository repository,
+                        JdbcTemplate jdbcTemplate,
+                        EventSerializer serializer,
+                        @Value("${outbox.enabled:false}") boolean enabled) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.serializer = Objects.requireNonNull(serializer, "serializer must not be null");
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checked by callers before {@link #append(DomainEvent)}, so a disabled
+     * outbox does not open a transaction per event.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether at least {@code size} events are waiting to be relayed.
+     */
+    public boolean backlogAtLeast(int size) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(BACKLOG_SQL, Boolean.class, Math.max(0, size - 1)));
+    }
+
+    @Transactional
+    public void append(DomainEvent event) {
+        ExternalEventEnvelope envelope = serializer.serialize(event);
+        repository.save(new OutboxEventJpaEntity(
+            event.aggregateId(),
+            envelope.type(),
+            envelope.payload(),
+            envelope.occurredAt(),
+            Instant.now()
+        ));
+    }
+
+    /**
+     * Appends the events with one JDBC batch instead of one insert each.
+     */
+    @Transactional
+    public void appendAll(List<? extends DomainEvent> events) {
+        Instant now = Instant.now();
+        List<Object[]> rows = events.stream()
+            .map(event -> {
+                ExternalEventEnvelope envelope = serializer.serialize(event);
+                return new Object[] {
+                    event.aggregateId(),
+                    envelope.type(),
+                    envelope.payload(),
+                    Timestamp.from(envelope.occurredAt()),
+                    Timestamp.from(now)
+                };
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
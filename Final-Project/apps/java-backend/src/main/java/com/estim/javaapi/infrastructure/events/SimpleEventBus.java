@@ -1,53 +1,252 @@
 package com.estim.javaapi.infrastructure.events;
 
-import com.estim.javaapi.application.handlers.AuditLogOnUserLoggedIn;
-import com.estim.javaapi.application.handlers.SendPasswordResetEmailOnRequested;
-import com.estim.javaapi.application.handlers.SendWelcomeEmailOnUserRegistered;
+import com.estim.javaapi.application.handlers.DomainEventHandler;
 import com.estim.javaapi.domain.common.DomainEvent;
 import com.estim.javaapi.domain.common.DomainEventPublisher;
-import com.estim.javaapi.domain.user.events.PasswordResetRequested;
-import com.estim.javaapi.domain.user.events.UserLoggedIn;
-import com.estim.javaapi.domain.user.events.UserRegistered;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Simple in-memory event bus that dispatches domain events
- * to application-level event handlers.
+ * In-memory event bus that dispatches domain events to every
+ * {@link DomainEventHandler} registered for the event's type.
+ *
+ * Handlers are resolved from their generic type once at startup, and the
+ * handlers matching each concrete event class are computed once and cached,
+ * so dispatch is a single lookup. When called inside a transaction,
+ * dispatch waits until the transaction commits and is skipped on rollback.
+ * Handlers then run on virtual threads, in publication order per
+ * {@link DomainEvent#aggregateId()}, so side effects such as emails stay
+ * off the request's critical path. A failing handler is logged and does
+ * not affect the other handlers.
+ *
+ * When the outbox is enabled every event is also appended to it, in the
+ * publishing transaction, for relay to other services.
+ *
+ * {@link #awaitCapacity()} holds bulk producers back while too many
+ * aggregates have handlers queued or, with the outbox enabled, while the
+ * outbox backlog is over its limit.
  */
 @Component
 public class SimpleEventBus implements DomainEventPublisher {
 
-    private final SendWelcomeEmailOnUserRegistered welcomeHandler;
-    private final SendPasswordResetEmailOnRequested resetHandler;
-    private final AuditLogOnUserLoggedIn auditHandler;
+    private static final Logger log = LoggerFactory.getLogger(SimpleEventBus.class);
 
-    public SimpleEventBus(SendWelcomeEmailOnUserRegistered welcomeHandler,
-                          SendPasswordResetEmailOnRequested resetHandler,
-                          AuditLogOnUserLoggedIn auditHandler) {
+    private final List<Registration> registrations;
+    private final ClassValue<DomainEventHandler<DomainEvent>[]> handlersByEventType;
+    private final OutboxWriter outboxWriter;
 
-        this.welcomeHandler = Objects.requireNonNull(welcomeHandler);
-        this.resetHandler = Objects.requireNonNull(resetHandler);
-        this.auditHandler = Objects.requireNonNull(auditHandler);
+    private final boolean async;
+    private final ExecutorService executor;
+    private final KeyedSerialExecutor orderedExecutor;
+
+    private final int maxPendingAggregates;
+    private final int maxOutboxBacklog;
+    private final Duration backpressurePollInterval;
+
+    private final Counter failures;
+    private final Counter backpressureWaits;
+
+    public SimpleEventBus(List<DomainEventHandler<?>> handlers,
+                          OutboxWriter outboxWriter,
+                          @Value("${events.async:true}") boolean async,
+                          @Value("${events.backpressure.max-pending-aggregates:50000}") int maxPendingAggregates,
+                          @Value("${events.backpressure.max-outbox-backlog:100000}") int maxOutboxBacklog,
+                          @Value("${events.backpressure.poll-interval:PT0.1S}") Duration backpressurePollInterval,
+                          MeterRegistry meterRegistry) {
+        Objects.requireNonNull(handlers, "handlers must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.outboxWriter = Objects.requireNonNull(outboxWriter, "outboxWriter must not be null");
+
+        this.registrations = handlers.stream().map(SimpleEventBus::register).toList();
+        this.handlersByEventType = new ClassValue<>() {
+            @Override
+            protected DomainEventHandler<DomainEvent>[] computeValue(Class<?> eventType) {
+                return handlersFor(eventType);
+            }
+        };
+
+        this.async = async;
+        this.executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("domain-events-", 0).factory());
+        this.orderedExecutor = new KeyedSerialExecutor(executor);
+
+        if (maxPendingAggregates <= 0 || maxOutboxBacklog <= 0) {
+            throw new IllegalArgumentException("backpressure limits must be positive");
+        }
+        this.maxPendingAggregates = maxPendingAggregates;
+        this.maxOutboxBacklog = maxOutboxBacklog;
+        this.backpressurePollInterval = Objects.requireNonNull(
+            backpressurePollInterval, "backpressurePollInterval must not be null");
+
+        this.failures = Counter.builder("events.handler.failures").register(meterRegistry);
+        this.backpressureWaits = Counter.builder("events.backpressure.waits").register(meterRegistry);
+        Gauge.builder("events.dispatch.pending-aggregates", orderedExecutor, KeyedSerialExecutor::pendingKeys)
+            .register(meterRegistry);
     }
 
     @Override
     public void publish(DomainEvent event) {
         Objects.requireNonNull(event, "event must not be null");
 
-        if (event instanceof UserRegistered e) {
-            welcomeHandler.handle(e);
-        } else if (event instanceof PasswordResetRequested e) {
-            resetHandler.handle(e);
-        } else if (event instanceof UserLoggedIn e) {
-            auditHandler.handle(e);
+        if (outboxWriter.isEnabled()) {
+            outboxWriter.append(event);
+        }
+
+        DomainEventHandler<DomainEvent>[] handlers = handlersByEventType.get(event.getClass());
+        if (handlers.length == 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event, handlers);
+                }
+            });
+        } else {
+            dispatch(event, handlers);
         }
     }
 
+    /**
+     * Same guarantees as {@link #publish(DomainEvent)}, with one outbox
+     * batch and one commit callback for the whole list, so bulk operations
+     * do not pay per-event overhead.
+     */
     @Override
     public void publishAll(List<? extends DomainEvent> events) {
-        DomainEventPublisher.super.publishAll(events);
+        Objects.requireNonNull(events, "events must not be null");
+        if (events.isEmpty()) {
+            return;
+        }
+
+        if (outboxWriter.isEnabled()) {
+            outboxWriter.appendAll(events);
+        }
+
+        List<DomainEvent> handled = events.stream()
+            .filter(event -> handlersByEventType.get(event.getClass()).length > 0)
+            .map(DomainEvent.class::cast)
+            .toList();
+        if (handled.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatchAll(handled);
+                }
+            });
+        } else {
+            dispatchAll(handled);
+        }
+    }
+
+    @Override
+    public void awaitCapacity() throws InterruptedException {
+        while (overCapacity()) {
+            backpressureWaits.increment();
+            Thread.sleep(backpressurePollInterval.toMillis());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Domain event handlers still running at shutdown were interrupted");
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean overCapacity() {
+        if (async && orderedExecutor.pendingKeys() >= maxPendingAggregates) {
+            return true;
+        }
+        return outboxWriter.isEnabled() && outboxWriter.backlogAtLeast(maxOutboxBacklog);
+    }
+
+    private void dispatchAll(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            dispatch(event, handlersByEventType.get(event.getClass()));
+        }
+    }
+
+    private void dispatch(DomainEvent event, DomainEventHandler<DomainEvent>[] handlers) {
+        Runnable task = () -> {
+            for (DomainEventHandler<DomainEvent> handler : handlers) {
+                invoke(handler, event);
+            }
+        };
+
+        if (!async) {
+            task.run();
+            return;
+        }
+        try {
+            orderedExecutor.execute(event.aggregateId(), task);
+        } catch (RejectedExecutionException ex) {
+            failures.increment();
+            log.warn("Dropped {}: event bus is shut down", event.getClass().getSimpleName());
+        }
+    }
+
+    private void invoke(DomainEventHandler<DomainEvent> handler, DomainEvent event) {
+        try {
+            handler.handle(event);
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.error("Handler {} failed for {}",
+                ClassUtils.getUserClass(handler).getSimpleName(),
+                event.getClass().getSimpleName(),
+                ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private DomainEventHandler<DomainEvent>[] handlersFor(Class<?> eventType) {
+        List<DomainEventHandler<?>> matching = new ArrayList<>();
+        for (Registration registration : registrations) {
+            if (registration.eventType().isAssignableFrom(eventType)) {
+                matching.add(registration.handler());
+            }
+        }
+        return matching.toArray(new DomainEventHandler[0]);
+    }
+
+    private static Registration register(DomainEventHandler<?> handler) {
+        Class<?> eventType = ResolvableType.forClass(ClassUtils.getUserClass(handler))
+            .as(DomainEventHandler.class)
+            .resolveGeneric(0);
+        if (eventType == null) {
+            throw new IllegalStateException(
+                "Can not resolve the event type of handler " + handler.getClass().getName());
+        }
+        return new Registration(eventType, handler);
+    }
+
+    private record Registration(Class<?> eventType, DomainEventHandler<?> handler) {
     }
 }
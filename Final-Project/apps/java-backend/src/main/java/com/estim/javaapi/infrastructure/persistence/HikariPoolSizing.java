@@ -0,0 +1,55 @@
+package com.estim.javaapi.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Sizes the Hikari pool from the number of cores instead of Hikari's fixed
+ * default of 10 connections.
+ *
+ * Uses the usual {@code cores * connectionsPerCore + spindles} rule: beyond
+ * that, extra connections only queue up inside Postgres. An explicit
+ * {@code spring.datasource.hikari.maximum-pool-size} always wins.
+ */
+@Component
+@ConditionalOnProperty(name = "persistence.pool.derive-size", havingValue = "true")
+public class HikariPoolSizing implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(HikariPoolSizing.class);
+
+    private static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+    private final Environment environment;
+
+    public HikariPoolSizing(Environment environment) {
+        this.environment = Objects.requireNonNull(environment, "environment must not be null");
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+            int poolSize = poolSize(
+                Runtime.getRuntime().availableProcessors(),
+                environment.getProperty("persistence.pool.connections-per-core", Integer.class, 2),
+                environment.getProperty("persistence.pool.spindles", Integer.class, 1)
+            );
+            dataSource.setMaximumPoolSize(poolSize);
+            log.info("Sized connection pool {} to {} connections", beanName, poolSize);
+        }
+        return bean;
+    }
+
+    static int poolSize(int cores, int connectionsPerCore, int spindles) {
+        if (connectionsPerCore <= 0 || spindles < 0) {
+            throw new IllegalArgumentException("Invalid connection pool sizing parameters");
+        }
+        return cores * connectionsPerCore + spindles;
+    }
+}
@@ -0,0 +1,47 @@
+package com.estim.javaapi.infrastructure.persistence;
+
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.cache.ExpiringCache;
+import com.estim.javaapi.infrastructure.security.SecurityContext;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Remembers which users committed a read-write transaction in the last few
+ * seconds, so their reads stay on the primary until replicas have caught up.
+ *
+ * Registered as a transaction listener: every committed read-write
+ * transaction marks the user authenticated on the committing thread. Writes
+ * made on behalf of nobody (registration, background work) are not tracked;
+ * work that reads back such writes loads users through
+ * {@code UserRepositoryImpl}, whose loaders use the primary.
+ * The window is per instance, so it only holds while a user's requests reach
+ * the same instance.
+ */
+public class RecentWriters implements TransactionExecutionListener {
+
+    private final ExpiringCache<UserId, Boolean> writers;
+
+    public RecentWriters(int maxSize, Duration window) {
+        Objects.requireNonNull(window, "window must not be null");
+        this.writers = new ExpiringCache<>(maxSize, window);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            SecurityContext.getCurrentUserId().ifPresent(this::recordWrite);
+        }
+    }
+
+    public void recordWrite(UserId userId) {
+        writers.put(Objects.requireNonNull(userId, "userId must not be null"), Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(UserId userId) {
+        return writers.get(userId) != null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.estim.javaapi.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to a read replica and everything else to
+ * the primary. Only active when {@code persistence.replica.url} is set;
+ * otherwise the single auto-configured DataSource is used.
+ *
+ * The exposed DataSource is a {@link LazyConnectionDataSourceProxy}: it
+ * picks the physical connection only when the first statement runs, by
+ * which time a {@code @Transactional(readOnly = true)} transaction has
+ * flagged the connection read-only. Read-only connections then go through
+ * {@link ReplicaRoutingDataSource}, which keeps users who just wrote on the
+ * primary (see {@link RecentWriters}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "persistence.replica.url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("persistence.replica.hikari")
+    public HikariDataSource replicaDataSource(
+        DataSourceProperties properties,
+        @Value("${persistence.replica.url}") String url,
+        @Value("${persistence.replica.username:}") String username,
+        @Value("${persistence.replica.password:}") String password
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+        dataSource.setPoolName("estim-db-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public RecentWriters recentWriters(
+        @Value("${persistence.replica.read-your-writes.max-users:100000}") int maxUsers,
+        @Value("${persistence.replica.read-your-writes.window:PT5S}") Duration window
+    ) {
+        return new RecentWriters(maxUsers, window);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primary,
+        @Qualifier("replicaDataSource") DataSource replica,
+        RecentWriters recentWriters,
+        MeterRegistry meterRegistry
+    ) {
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(primary, replica, recentWriters, meterRegistry);
+        readOnly.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(readOnly);
+        return proxy;
+    }
+}
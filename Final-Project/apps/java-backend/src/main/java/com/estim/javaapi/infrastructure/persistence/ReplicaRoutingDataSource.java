@@ -0,0 +1,55 @@
+package com.estim.javaapi.infrastructure.persistence;
+
+import com.estim.javaapi.infrastructure.security.SecurityContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DataSource for read-only connections: the replica, unless the current
+ * user wrote within the read-your-writes window, in which case the primary.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final RecentWriters recentWriters;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    ReplicaRoutingDataSource(DataSource primary,
+                             DataSource replica,
+                             RecentWriters recentWriters,
+                             MeterRegistry meterRegistry) {
+        this.recentWriters = Objects.requireNonNull(recentWriters, "recentWriters must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        setTargetDataSources(Map.of(
+            Target.PRIMARY, Objects.requireNonNull(primary, "primary must not be null"),
+            Target.REPLICA, Objects.requireNonNull(replica, "replica must not be null")
+        ));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.primaryReads = Counter.builder("datasource.reads").tag("target", "primary").register(meterRegistry);
+        this.replicaReads = Counter.builder("datasource.reads").tag("target", "replica").register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readYourWrites = SecurityContext.getCurrentUserId()
+            .map(recentWriters::wroteRecently)
+            .orElse(false);
+
+        if (readYourWrites) {
+            primaryReads.increment();
+            return Target.PRIMARY;
+        }
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+}
@@ -5,18 +5,53 @@ import com.estim.javaapi.domain.library.LibraryEntry;
 import com.estim.javaapi.domain.library.LibraryEntryId;
 import com.estim.javaapi.domain.library.LibraryRepository;
 import com.estim.javaapi.domain.user.UserId;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Repository
 public class LibraryRepositoryImpl implements LibraryRepository {
 
+    private static final String INSERT_IF_ABSENT_SQL = """
+        INSERT INTO libraries (id, user_id, game_id, source, added_at)
+        VALUES (?, ?, ?, ?, ?)
+        ON CONFLICT (user_id, game_id) DO NOTHING
+        RETURNING id
+        """;
+
+    private static final String INSERT_ALL_IF_ABSENT_SQL = """
+        INSERT INTO libraries (id, user_id, game_id, source, added_at)
+        SELECT t.id, t.user_id, t.game_id, t.source, ?
+        FROM unnest(?::uuid[], ?::uuid[], ?::uuid[], ?::varchar[]) AS t(id, user_id, game_id, source)
+        ON CONFLICT (user_id, game_id) DO NOTHING
+        RETURNING id
+        """;
+
+    private static final String FIND_GAME_IDS_IN_SQL = """
+        SELECT game_id
+        FROM libraries
+        WHERE user_id = ? AND game_id = ANY(?::uuid[])
+        """;
+
     private final LibraryEntryJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public LibraryRepositoryImpl(LibraryEntryJpaRepository jpaRepository) {
+    public LibraryRepositoryImpl(LibraryEntryJpaRepository jpaRepository,
+                                 JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -37,4 +72,101 @@ public class LibraryRepositoryImpl implements LibraryRepository {
         LibraryEntryJpaEntity saved = jpaRepository.save(entity);
         return LibraryEntryMapper.toDomain(saved);
     }
+
+    /**
+     * RETURNING yields a row only when the insert happened, so the outcome
+     * is known without a prior lookup or a constraint violation.
+     */
+    @Override
+    public Optional<LibraryEntry> insertIfAbsent(LibraryEntry entry) {
+        List<UUID> inserted = jdbcTemplate.queryForList(
+            INSERT_IF_ABSENT_SQL,
+            UUID.class,
+            entry.getId().getValue(),
+            entry.getUserId().value(),
+            entry.getGameId().getValue(),
+            entry.getSource() != null ? entry.getSource().toDatabaseValue() : null,
+            Timestamp.from(entry.getAddedAt())
+        );
+        return inserted.isEmpty() ? Optional.empty() : Optional.of(entry);
+    }
+
+    /**
+     * One multi-row INSERT fed by parallel arrays, so the statement text and
+     * its bind parameters stay the same whatever the number of entries.
+     */
+    @Override
+    public List<LibraryEntry> insertAllIfAbsent(List<LibraryEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        Instant addedAt = entries.get(0).getAddedAt();
+        int size = entries.size();
+        UUID[] ids = new UUID[size];
+        UUID[] userIds = new UUID[size];
+        UUID[] gameIds = new UUID[size];
+        String[] sources = new String[size];
+        Map<UUID, LibraryEntry> byId = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            LibraryEntry entry = entries.get(i);
+            if (!entry.getAddedAt().equals(addedAt)) {
+                throw new IllegalArgumentException("All entries must share the same addedAt");
+            }
+            ids[i] = entry.getId().getValue();
+            userIds[i] = entry.getUserId().value();
+            gameIds[i] = entry.getGameId().getValue();
+            sources[i] = entry.getSource() != null ? entry.getSource().toDatabaseValue() : null;
+            byId.put(ids[i], entry);
+        }
+
+        List<UUID> inserted = jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_ALL_IF_ABSENT_SQL);
+                ps.setTimestamp(1, Timestamp.from(addedAt));
+                ps.setArray(2, con.createArrayOf("uuid", ids));
+                ps.setArray(3, con.createArrayOf("uuid", userIds));
+                ps.setArray(4, con.createArrayOf("uuid", gameIds));
+                ps.setArray(5, con.createArrayOf("varchar", sources));
+                return ps;
+            },
+            (rs, rowNum) -> rs.getObject(1, UUID.class)
+        );
+
+        List<LibraryEntry> result = new ArrayList<>(inserted.size());
+        for (UUID id : inserted) {
+            result.add(byId.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * One lookup for the whole set, served by the UNIQUE (user_id, game_id) index.
+     */
+    @Override
+    public Set<GameId> findGameIdsIn(UserId userId, Collection<GameId> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Set.of();
+        }
+        UUID[] ids = gameIds.stream()
+            .map(GameId::getValue)
+            .distinct()
+            .toArray(UUID[]::new);
+
+        List<UUID> found = jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(FIND_GAME_IDS_IN_SQL);
+                ps.setObject(1, userId.value());
+                ps.setArray(2, con.createArrayOf("uuid", ids));
+                return ps;
+            },
+            (rs, rowNum) -> rs.getObject(1, UUID.class)
+        );
+
+        Set<GameId> result = new HashSet<>(found.size() * 2);
+        for (UUID gameId : found) {
+            result.add(GameId.of(gameId));
+        }
+        return result;
+    }
 }
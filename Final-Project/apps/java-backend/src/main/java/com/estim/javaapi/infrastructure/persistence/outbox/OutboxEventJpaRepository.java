@@ -0,0 +1,24 @@
+package com.estim.javaapi.infrastructure.persistence.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * The oldest pending events. Takes no row locks: the relay holds an
+     * advisory lock, so only one instance reads the outbox at a time.
+     */
+    @Query(value = """
+        SELECT *
+        FROM outbox_events
+        ORDER BY id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<OutboxEventJpaEntity> findNextBatch(@Param("limit") int limit);
+}
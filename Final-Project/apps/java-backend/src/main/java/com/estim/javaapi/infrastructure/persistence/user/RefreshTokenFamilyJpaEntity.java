@@ -0,0 +1,76 @@
+package com.estim.javaapi.infrastructure.persistence.user;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "refresh_token_families")
+public class RefreshTokenFamilyJpaEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "current_token_hash", nullable = false, length = 64)
+    private String currentTokenHash;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    protected RefreshTokenFamilyJpaEntity() {
+    }
+
+    public RefreshTokenFamilyJpaEntity(UUID id,
+                                       UUID userId,
+                                       String currentTokenHash,
+                                       Instant createdAt,
+                                       Instant expiresAt) {
+        this.id = id;
+        this.userId = userId;
+        this.currentTokenHash = currentTokenHash;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getCurrentTokenHash() {
+        return currentTokenHash;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getRotatedAt() {
+        return rotatedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+}
@@ -0,0 +1,55 @@
+package com.estim.javaapi.infrastructure.persistence.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenFamilyJpaRepository extends JpaRepository<RefreshTokenFamilyJpaEntity, UUID> {
+
+    /**
+     * Compare-and-set rotation: succeeds only if the presented hash is still
+     * the current one and the family is live.
+     *
+     * @return 1 if the family was rotated, 0 otherwise
+     */
+    @Modifying
+    @Query("""
+        UPDATE RefreshTokenFamilyJpaEntity f
+        SET f.currentTokenHash = :newHash,
+            f.rotatedAt = :now,
+            f.expiresAt = :expiresAt
+        WHERE f.id = :familyId
+          AND f.currentTokenHash = :presentedHash
+          AND f.revokedAt IS NULL
+          AND f.expiresAt > :now
+    """)
+    int rotate(@Param("familyId") UUID familyId,
+               @Param("presentedHash") String presentedHash,
+               @Param("newHash") String newHash,
+               @Param("now") Instant now,
+               @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("""
+        UPDATE RefreshTokenFamilyJpaEntity f
+        SET f.revokedAt = :now
+        WHERE f.id = :familyId
+          AND f.revokedAt IS NULL
+    """)
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        UPDATE RefreshTokenFamilyJpaEntity f
+        SET f.revokedAt = :now
+        WHERE f.userId = :userId
+          AND f.revokedAt IS NULL
+    """)
+    int revokeAllForUser(@Param("userId") UUID userId, @Param("now") Instant now);
+}
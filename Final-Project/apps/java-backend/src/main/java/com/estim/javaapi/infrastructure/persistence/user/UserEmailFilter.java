@@ -0,0 +1,227 @@
+package com.estim.javaapi.infrastructure.persistence.user;
+
+import com.estim.javaapi.infrastructure.cache.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory Bloom filter over {@code users.email}, so lookups of emails
+ * that are certainly not registered skip the database.
+ *
+ * The filter is built in the background once the application is ready;
+ * until then every lookup goes to the database. Emails saved through this
+ * instance are added immediately, and emails registered through other
+ * instances are picked up by a periodic sync on {@code created_at}, so a
+ * brand-new account may be reported missing by another instance for at
+ * most one sync interval. That window is accepted for login and password
+ * reset: a sign-in or reset request routed to another instance right after
+ * registering is answered as for an unknown email, and succeeds once that
+ * instance's next sync has run; shorten the sync interval to narrow it.
+ *
+ * The filter is rebuilt with more room when the number of emails outgrows
+ * its expected size; emails added while a rebuild is scanning are recorded
+ * and replayed into the new filter before it replaces the old one, so they
+ * are never reported missing.
+ */
+@Component
+public class UserEmailFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserEmailFilter.class);
+
+    private static final int LOAD_BATCH_SIZE = 5_000;
+    // Catches rows committed late or written by instances with a skewed clock
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final UserJpaRepository repository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Duration syncInterval;
+
+    private final Counter skipped;
+    private final Counter passed;
+    private final Counter falsePositives;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Object addLock = new Object();
+
+    private volatile BloomFilter filter;
+    private volatile Instant syncedSince;
+    // Emails added since the running rebuild started; null when none is running
+    private List<String> addedDuringRebuild;
+
+    public UserEmailFilter(
+        UserJpaRepository repository,
+        @Value("${security.email-filter.enabled:true}") boolean enabled,
+        @Value("${security.email-filter.expected-insertions:1000000}") long expectedInsertions,
+        @Value("${security.email-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+        @Value("${security.email-filter.sync-interval:PT30S}") Duration syncInterval,
+        MeterRegistry meterRegistry
+    ) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.syncInterval = Objects.requireNonNull(syncInterval, "syncInterval must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+
+        this.skipped = Counter.builder("users.email-filter.lookups")
+            .tag("result", "skipped")
+            .register(meterRegistry);
+        this.passed = Counter.builder("users.email-filter.lookups")
+            .tag("result", "passed")
+            .register(meterRegistry);
+        this.falsePositives = Counter.builder("users.email-filter.false-positives")
+            .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-email-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns {@code false} only if no user with this email exists.
+     */
+    public boolean mightExist(String email) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return true;
+        }
+        if (current.mightContain(email)) {
+            passed.increment();
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    /**
+     * Records that a lookup let through by the filter found no user.
+     */
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    public void add(String email) {
+        synchronized (addLock) {
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(email);
+            }
+            BloomFilter current = filter;
+            if (current != null) {
+                current.add(email);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler.execute(() -> rebuild(expectedInsertions));
+        scheduler.scheduleWithFixedDelay(this::sync, syncInterval.toMillis(), syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void rebuild(long capacity) {
+        Instant startedAt = Instant.now();
+        synchronized (addLock) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveProbability);
+
+            // The nil UUID sorts first in PostgreSQL and is never generated
+            UUID after = new UUID(0L, 0L);
+            List<UserJpaRepository.EmailView> page;
+            do {
+                page = repository.findEmailsAfter(after, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (UserJpaRepository.EmailView row : page) {
+                    rebuilt.add(row.getEmail());
+                }
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == LOAD_BATCH_SIZE);
+
+            // Rows other instances committed behind the scan's position
+            for (String email : repository.findEmailsCreatedSince(startedAt.minus(SYNC_OVERLAP))) {
+                rebuilt.add(email);
+            }
+
+            synchronized (addLock) {
+                for (String email : addedDuringRebuild) {
+                    rebuilt.add(email);
+                }
+                filter = rebuilt;
+            }
+            syncedSince = startedAt;
+            log.info("Built user email filter with {} emails", rebuilt.insertionCount());
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Could not build user email filter; all email lookups will hit the database", ex);
+        } finally {
+            synchronized (addLock) {
+                addedDuringRebuild = null;
+            }
+        }
+    }
+
+    void sync() {
+        Instant startedAt = Instant.now();
+        try {
+            BloomFilter current = filter;
+            if (current == null) {
+                rebuild(expectedInsertions);
+                return;
+            }
+            if (current.insertionCount() > current.expectedInsertions()) {
+                rebuild(current.expectedInsertions() * 2);
+                return;
+            }
+
+            for (String email : repository.findEmailsCreatedSince(syncedSince.minus(SYNC_OVERLAP))) {
+                current.add(email);
+            }
+            syncedSince = startedAt;
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Could not sync user email filter", ex);
+        } catch (RuntimeException ex) {
+            // Keep the scheduled sync alive
+            log.error("Unexpected error while syncing user email filter", ex);
+        }
+    }
+}
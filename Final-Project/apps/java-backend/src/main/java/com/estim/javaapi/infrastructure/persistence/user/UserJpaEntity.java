@@ -2,6 +2,7 @@ package com.estim.javaapi.infrastructure.persistence.user;
 
 import com.estim.javaapi.domain.user.UserStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -9,6 +10,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "users")
 public class UserJpaEntity {
 
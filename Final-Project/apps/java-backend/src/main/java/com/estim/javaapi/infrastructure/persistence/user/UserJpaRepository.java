@@ -1,11 +1,17 @@
 package com.estim.javaapi.infrastructure.persistence.user;
 
 import com.estim.javaapi.domain.user.OAuthProvider;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,5 +34,56 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {
         @Param("provider") OAuthProvider provider,
         @Param("externalUserId") String externalUserId
     );
-}
 
+    // Each query fetches at most one collection: fetching both bags in one
+    // query is rejected by Hibernate and would multiply the rows anyway.
+
+    @Query("SELECT u FROM UserJpaEntity u LEFT JOIN FETCH u.paymentMethods WHERE u.id = :id")
+    Optional<UserJpaEntity> findWithPaymentMethodsById(@Param("id") UUID id);
+
+    @Query("SELECT u FROM UserJpaEntity u LEFT JOIN FETCH u.linkedAccounts WHERE u.id = :id")
+    Optional<UserJpaEntity> findWithLinkedAccountsById(@Param("id") UUID id);
+
+    @Query("SELECT DISTINCT u FROM UserJpaEntity u LEFT JOIN FETCH u.paymentMethods WHERE u.id IN :ids")
+    List<UserJpaEntity> findAllWithPaymentMethodsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT u FROM UserJpaEntity u LEFT JOIN FETCH u.linkedAccounts WHERE u.id IN :ids")
+    List<UserJpaEntity> findAllWithLinkedAccountsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Keyset page of (id, email) pairs ordered by id, used to build the
+     * in-memory email filter without loading whole user entities.
+     */
+    @Query("""
+        SELECT u.id AS id, u.email AS email
+        FROM UserJpaEntity u
+        WHERE u.id > :after
+        ORDER BY u.id
+    """)
+    List<EmailView> findEmailsAfter(@Param("after") UUID after, Pageable page);
+
+    @Query("SELECT u.email FROM UserJpaEntity u WHERE u.createdAt >= :since")
+    List<String> findEmailsCreatedSince(@Param("since") Instant since);
+
+    /**
+     * Compare-and-set on the password hash.
+     *
+     * @return 1 if the hash was replaced, 0 if it no longer equals {@code expected}
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE users
+        SET password_hash = :replacement,
+            updated_at = NOW()
+        WHERE id = :id AND password_hash = :expected
+    """, nativeQuery = true)
+    int replacePasswordHash(@Param("id") UUID id,
+                            @Param("expected") String expected,
+                            @Param("replacement") String replacement);
+
+    interface EmailView {
+        UUID getId();
+        String getEmail();
+    }
+}
@@ -1,9 +1,9 @@
 package com.estim.javaapi.infrastructure.persistence.user;
 
 import com.estim.javaapi.domain.user.*;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Constructor;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,6 +11,13 @@ import java.util.List;
 @Component
 public class UserMapper {
 
+    // Privacy settings are not persisted anymore; every user gets the same defaults.
+    private static final PrivacySettings DEFAULT_PRIVACY = new PrivacySettings(
+        true,  // showProfile
+        true,  // showActivity
+        true   // showWishlist
+    );
+
     public UserJpaEntity toEntity(User user) {
         UserJpaEntity entity = new UserJpaEntity();
 
@@ -32,33 +39,41 @@ public class UserMapper {
 
         List<PaymentMethodJpaEntity> paymentMethodEntities = new ArrayList<>();
         for (PaymentMethod pm : user.paymentMethods()) {
-            PaymentMethodJpaEntity pmEntity = new PaymentMethodJpaEntity();
-            pmEntity.setId(pm.id().value());
-            pmEntity.setProvider(pm.provider());
-            pmEntity.setExternalToken(pm.externalToken());
-            pmEntity.setLast4(pm.last4());
-            pmEntity.setDefault(pm.isDefault());
-            pmEntity.setUser(entity);
-            paymentMethodEntities.add(pmEntity);
+            paymentMethodEntities.add(toEntity(pm, entity));
         }
         entity.setPaymentMethods(paymentMethodEntities);
 
         List<OAuthAccountJpaEntity> oauthEntities = new ArrayList<>();
         for (OAuthAccount oa : user.linkedAccounts()) {
-            OAuthAccountJpaEntity oaEntity = new OAuthAccountJpaEntity();
-            oaEntity.setId(oa.id().value());
-            oaEntity.setProvider(oa.provider());
-            oaEntity.setExternalUserId(oa.externalUserId());
-            oaEntity.setEmail(oa.email());
-            oaEntity.setLinkedAt(oa.linkedAt());
-            oaEntity.setUser(entity);
-            oauthEntities.add(oaEntity);
+            oauthEntities.add(toEntity(oa, entity));
         }
         entity.setLinkedAccounts(oauthEntities);
 
         return entity;
     }
 
+    public PaymentMethodJpaEntity toEntity(PaymentMethod pm, UserJpaEntity owner) {
+        PaymentMethodJpaEntity pmEntity = new PaymentMethodJpaEntity();
+        pmEntity.setId(pm.id().value());
+        pmEntity.setProvider(pm.provider());
+        pmEntity.setExternalToken(pm.externalToken());
+        pmEntity.setLast4(pm.last4());
+        pmEntity.setDefault(pm.isDefault());
+        pmEntity.setUser(owner);
+        return pmEntity;
+    }
+
+    public OAuthAccountJpaEntity toEntity(OAuthAccount oa, UserJpaEntity owner) {
+        OAuthAccountJpaEntity oaEntity = new OAuthAccountJpaEntity();
+        oaEntity.setId(oa.id().value());
+        oaEntity.setProvider(oa.provider());
+        oaEntity.setExternalUserId(oa.externalUserId());
+        oaEntity.setEmail(oa.email());
+        oaEntity.setLinkedAt(oa.linkedAt());
+        oaEntity.setUser(owner);
+        return oaEntity;
+    }
+
     public User toDomain(UserJpaEntity entity) {
         UserId id = new UserId(entity.getId());
         Email email = new Email(entity.getEmail());
@@ -71,50 +86,50 @@ public class UserMapper {
 
         boolean emailVerified = entity.isEmailVerified();
 
-        // Privacy settings are not persisted anymore; choose a sensible default.
-        PrivacySettings privacy = new PrivacySettings(
-            true,  // showProfile
-            true,  // showActivity
-            true   // showWishlist
-        );
-
         UserProfile profile = new UserProfile(
             entity.getDisplayName(),
             entity.getAvatarUrl(),
-            privacy
+            DEFAULT_PRIVACY
         );
 
-        List<PaymentMethod> paymentMethods = new ArrayList<>();
-        for (PaymentMethodJpaEntity pmEntity : entity.getPaymentMethods()) {
-            PaymentMethod pm = new PaymentMethod(
-                new PaymentMethodId(pmEntity.getId()),
-                pmEntity.getProvider(),
-                pmEntity.getExternalToken(),
-                pmEntity.getLast4(),
-                pmEntity.isDefault()
-            );
-            paymentMethods.add(pm);
+        // Collections the query did not fetch stay unloaded on the aggregate
+        // instead of being lazily loaded one query at a time
+        List<PaymentMethod> paymentMethods = null;
+        if (Hibernate.isInitialized(entity.getPaymentMethods())) {
+            paymentMethods = new ArrayList<>();
+            for (PaymentMethodJpaEntity pmEntity : entity.getPaymentMethods()) {
+                PaymentMethod pm = new PaymentMethod(
+                    new PaymentMethodId(pmEntity.getId()),
+                    pmEntity.getProvider(),
+                    pmEntity.getExternalToken(),
+                    pmEntity.getLast4(),
+                    pmEntity.isDefault()
+                );
+                paymentMethods.add(pm);
+            }
         }
 
-        List<OAuthAccount> oauthAccounts = new ArrayList<>();
-        for (OAuthAccountJpaEntity oaEntity : entity.getLinkedAccounts()) {
-            OAuthAccount oa = new OAuthAccount(
-                new OAuthAccountId(oaEntity.getId()),
-                new UserId(entity.getId()),
-                oaEntity.getProvider(),
-                oaEntity.getExternalUserId(),
-                oaEntity.getEmail(),
-                oaEntity.getLinkedAt()
-            );
-            oauthAccounts.add(oa);
+        List<OAuthAccount> oauthAccounts = null;
+        if (Hibernate.isInitialized(entity.getLinkedAccounts())) {
+            oauthAccounts = new ArrayList<>();
+            for (OAuthAccountJpaEntity oaEntity : entity.getLinkedAccounts()) {
+                OAuthAccount oa = new OAuthAccount(
+                    new OAuthAccountId(oaEntity.getId()),
+                    id,
+                    oaEntity.getProvider(),
+                    oaEntity.getExternalUserId(),
+                    oaEntity.getEmail(),
+                    oaEntity.getLinkedAt()
+                );
+                oauthAccounts.add(oa);
+            }
         }
 
-
         Instant createdAt = entity.getCreatedAt();
         Instant updatedAt = entity.getUpdatedAt();
         Instant lastLoginAt = entity.getLastLoginAt();
 
-        return instantiateUser(
+        return User.rehydrate(
             id,
             email,
             passwordHash,
@@ -128,50 +143,4 @@ public class UserMapper {
             lastLoginAt
         );
     }
-
-    private User instantiateUser(
-        UserId id,
-        Email email,
-        PasswordHash passwordHash,
-        UserStatus status,
-        boolean emailVerified,
-        UserProfile profile,
-        List<PaymentMethod> paymentMethods,
-        List<OAuthAccount> linkedAccounts,
-        Instant createdAt,
-        Instant updatedAt,
-        Instant lastLoginAt
-    ) {
-        try {
-            Constructor<User> ctor = User.class.getDeclaredConstructor(
-                UserId.class,
-                Email.class,
-                PasswordHash.class,
-                UserStatus.class,
-                boolean.class,
-                UserProfile.class,
-                List.class,
-                List.class,
-                Instant.class,
-                Instant.class,
-                Instant.class
-            );
-            ctor.setAccessible(true);
-            return ctor.newInstance(
-                id,
-                email,
-                passwordHash,
-                status,
-                emailVerified,
-                profile,
-                paymentMethods,
-                linkedAccounts,
-                createdAt,
-                updatedAt,
-                lastLoginAt
-            );
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to instantiate User from JPA entity via reflection", e);
-        }
-    }
 }
@@ -1,42 +1,280 @@
 package com.estim.javaapi.infrastructure.persistence.user;
 
 import com.estim.javaapi.domain.user.Email;
+import com.estim.javaapi.domain.user.OAuthAccount;
 import com.estim.javaapi.domain.user.OAuthProvider;
+import com.estim.javaapi.domain.user.PasswordHash;
+import com.estim.javaapi.domain.user.PaymentMethod;
+import com.estim.javaapi.domain.user.PaymentMethodId;
 import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.domain.user.UserRepository;
+import com.estim.javaapi.domain.user.UserWriteTracking;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * Users are loaded to be changed, so the single-user loaders run in a
+ * read-write transaction when the caller has none: with a read replica
+ * configured they read from the primary and see the caller's own writes,
+ * also from event handlers and background work that have no authenticated
+ * user for {@link com.estim.javaapi.infrastructure.persistence.RecentWriters}
+ * to key on. Inside a caller's transaction they join it and follow its
+ * routing.
+ */
 @Repository
 public class UserRepositoryImpl implements UserRepository {
 
+    // Keeps IN lists well below the driver's bind parameter limit
+    private static final int FIND_ALL_CHUNK_SIZE = 500;
+
     private final UserJpaRepository jpaRepository;
     private final UserMapper mapper;
+    private final UserEmailFilter emailFilter;
+    private final EntityManager entityManager;
 
-    public UserRepositoryImpl(UserJpaRepository jpaRepository, UserMapper mapper) {
+    public UserRepositoryImpl(UserJpaRepository jpaRepository,
+                              UserMapper mapper,
+                              UserEmailFilter emailFilter,
+                              EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.emailFilter = emailFilter;
+        this.entityManager = entityManager;
     }
 
+    /**
+     * Two queries, one per collection; the second fills in the entity the
+     * first one left managed in the persistence context.
+     */
     @Override
+    @Transactional
     public Optional<User> findById(UserId id) {
+        Optional<UserJpaEntity> entity = jpaRepository.findWithPaymentMethodsById(id.value());
+        if (entity.isEmpty()) {
+            return Optional.empty();
+        }
+        jpaRepository.findWithLinkedAccountsById(id.value());
+        return entity.map(mapper::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public Optional<User> findByIdCore(UserId id) {
         return jpaRepository.findById(id.value())
             .map(mapper::toDomain);
     }
 
     @Override
+    @Transactional
+    public Optional<User> findByIdWithPaymentMethods(UserId id) {
+        return jpaRepository.findWithPaymentMethodsById(id.value())
+            .map(mapper::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public Optional<User> findByIdWithLinkedAccounts(UserId id) {
+        return jpaRepository.findWithLinkedAccountsById(id.value())
+            .map(mapper::toDomain);
+    }
+
+    /**
+     * Two queries per chunk of ids, one per collection, however many users
+     * are requested. Results follow the order of {@code ids}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllById(Collection<UserId> ids) {
+        List<UUID> uuids = ids.stream()
+            .map(UserId::value)
+            .distinct()
+            .toList();
+
+        Map<UUID, UserJpaEntity> entities = new HashMap<>();
+        for (int from = 0; from < uuids.size(); from += FIND_ALL_CHUNK_SIZE) {
+            List<UUID> chunk = uuids.subList(from, Math.min(uuids.size(), from + FIND_ALL_CHUNK_SIZE));
+            for (UserJpaEntity entity : jpaRepository.findAllWithPaymentMethodsByIdIn(chunk)) {
+                entities.put(entity.getId(), entity);
+            }
+            jpaRepository.findAllWithLinkedAccountsByIdIn(chunk);
+        }
+
+        List<User> users = new ArrayList<>(entities.size());
+        for (UUID id : uuids) {
+            UserJpaEntity entity = entities.get(id);
+            if (entity != null) {
+                users.add(mapper.toDomain(entity));
+            }
+        }
+        return users;
+    }
+
+    @Override
+    @Transactional
     public Optional<User> findByEmail(Email email) {
-        return jpaRepository.findByEmail(email.value())
+        if (!emailFilter.mightExist(email.value())) {
+            return Optional.empty();
+        }
+
+        Optional<User> user = jpaRepository.findByEmail(email.value())
             .map(mapper::toDomain);
+        if (user.isEmpty()) {
+            emailFilter.recordFalsePositive();
+        }
+        return user;
     }
 
+    /**
+     * New users are inserted with their whole graph. Existing users only
+     * write what changed since they were loaded: one UPDATE for the changed
+     * columns, inserts for added children and one DELETE for removed
+     * payment methods, all flushed together with the transaction.
+     *
+     * The user's change tracking is only cleared once the transaction
+     * commits; if it rolls back, the changes are pending again.
+     */
     @Override
+    @Transactional
     public User save(User user) {
-        UserJpaEntity entity = mapper.toEntity(user);
-        UserJpaEntity saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        if (user.isNew()) {
+            // persist rather than merge: a new id needs no existence check
+            UserJpaEntity entity = mapper.toEntity(user);
+            entityManager.persist(entity);
+            emailFilter.add(entity.getEmail());
+            trackCompletion(user);
+            return mapper.toDomain(entity);
+        }
+
+        if (user.hasChanges()) {
+            writeChanges(user);
+            trackCompletion(user);
+        }
+        return user;
+    }
+
+    private static void trackCompletion(User user) {
+        UserWriteTracking.markWritten(user);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            UserWriteTracking.markPersisted(user);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    UserWriteTracking.markPersisted(user);
+                } else {
+                    UserWriteTracking.markWriteRolledBack(user);
+                }
+            }
+        });
+    }
+
+    private void writeChanges(User user) {
+        UUID id = user.id().value();
+        // Returns the managed instance if this transaction already loaded the
+        // user, otherwise an uninitialized proxy, without querying either way
+        UserJpaEntity reference = entityManager.getReference(UserJpaEntity.class, id);
+
+        boolean managed = Hibernate.isInitialized(reference);
+        if (managed) {
+            // Dirty checking writes only the changed columns at flush (@DynamicUpdate)
+            applyTo(reference, user, user.changedFields());
+        } else {
+            updateColumns(user, user.changedFields());
+        }
+
+        List<UUID> removedIds = user.removedPaymentMethodIds().stream()
+            .map(PaymentMethodId::value)
+            .toList();
+        if (managed && Hibernate.isInitialized(reference.getPaymentMethods())) {
+            // Change the loaded collection so it stays in step with the rows;
+            // cascade and orphan removal write them at flush
+            Set<UUID> removed = new HashSet<>(removedIds);
+            reference.getPaymentMethods().removeIf(pm -> removed.contains(pm.getId()));
+            for (PaymentMethod added : user.addedPaymentMethods()) {
+                reference.getPaymentMethods().add(mapper.toEntity(added, reference));
+            }
+        } else {
+            for (PaymentMethod added : user.addedPaymentMethods()) {
+                entityManager.persist(mapper.toEntity(added, reference));
+            }
+            if (!removedIds.isEmpty()) {
+                entityManager.createQuery(
+                        "DELETE FROM PaymentMethodJpaEntity p WHERE p.user.id = :userId AND p.id IN :ids")
+                    .setParameter("userId", id)
+                    .setParameter("ids", removedIds)
+                    .executeUpdate();
+            }
+        }
+
+        boolean linkedAccountsLoaded = managed && Hibernate.isInitialized(reference.getLinkedAccounts());
+        for (OAuthAccount added : user.addedLinkedAccounts()) {
+            // May already have been stored through OAuthAccountRepository
+            OAuthAccountJpaEntity merged = entityManager.merge(mapper.toEntity(added, reference));
+            if (linkedAccountsLoaded && !reference.getLinkedAccounts().contains(merged)) {
+                reference.getLinkedAccounts().add(merged);
+            }
+        }
+    }
+
+    private void applyTo(UserJpaEntity entity, User user, Set<User.ChangedField> changedFields) {
+        entity.setUpdatedAt(user.updatedAt());
+        if (changedFields.contains(User.ChangedField.PASSWORD_HASH)) {
+            entity.setPasswordHash(user.passwordHash().value());
+        }
+        if (changedFields.contains(User.ChangedField.PROFILE) && user.profile() != null) {
+            entity.setDisplayName(user.profile().displayName());
+            entity.setAvatarUrl(user.profile().avatarUrl());
+        }
+        if (changedFields.contains(User.ChangedField.LAST_LOGIN)) {
+            entity.setLastLoginAt(user.lastLoginAt());
+        }
+    }
+
+    private void updateColumns(User user, Set<User.ChangedField> changedFields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<UserJpaEntity> update = cb.createCriteriaUpdate(UserJpaEntity.class);
+        Root<UserJpaEntity> root = update.from(UserJpaEntity.class);
+
+        update.set(root.<Instant>get("updatedAt"), user.updatedAt());
+        if (changedFields.contains(User.ChangedField.PASSWORD_HASH)) {
+            update.set(root.<String>get("passwordHash"), user.passwordHash().value());
+        }
+        if (changedFields.contains(User.ChangedField.PROFILE) && user.profile() != null) {
+            update.set(root.<String>get("displayName"), user.profile().displayName());
+            update.set(root.<String>get("avatarUrl"), user.profile().avatarUrl());
+        }
+        if (changedFields.contains(User.ChangedField.LAST_LOGIN)) {
+            update.set(root.<Instant>get("lastLoginAt"), user.lastLoginAt());
+        }
+        update.where(cb.equal(root.get("id"), user.id().value()));
+
+        entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public boolean replacePasswordHash(UserId id, PasswordHash expected, PasswordHash replacement) {
+        return jpaRepository.replacePasswordHash(id.value(), expected.value(), replacement.value()) == 1;
     }
 
     @Override
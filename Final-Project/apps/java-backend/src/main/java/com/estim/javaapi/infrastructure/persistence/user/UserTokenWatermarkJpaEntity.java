@@ -0,0 +1,34 @@
+package com.estim.javaapi.infrastructure.persistence.user;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "user_token_watermarks")
+public class UserTokenWatermarkJpaEntity {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "not_before", nullable = false)
+    private Instant notBefore;
+
+    protected UserTokenWatermarkJpaEntity() {
+    }
+
+    public UserTokenWatermarkJpaEntity(UUID userId, Instant notBefore) {
+        this.userId = userId;
+        this.notBefore = notBefore;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Instant getNotBefore() {
+        return notBefore;
+    }
+}
@@ -0,0 +1,14 @@
+package com.estim.javaapi.infrastructure.persistence.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserTokenWatermarkJpaRepository extends JpaRepository<UserTokenWatermarkJpaEntity, UUID> {
+
+    List<UserTokenWatermarkJpaEntity> findByNotBeforeAfter(Instant since);
+}
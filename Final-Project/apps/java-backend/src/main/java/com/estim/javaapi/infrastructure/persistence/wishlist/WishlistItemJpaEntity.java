@@ -1,8 +1,12 @@
 package com.estim.javaapi.infrastructure.persistence.wishlist;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -22,6 +26,10 @@ public class WishlistItemJpaEntity {
     @Column(name = "added_at", nullable = false)
     private Instant addedAt;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "notification_preferences", nullable = false)
+    private Map<String, Boolean> notificationPreferences = new HashMap<>();
+
     protected WishlistItemJpaEntity() {
     }
 
@@ -49,6 +57,10 @@ public class WishlistItemJpaEntity {
         return addedAt;
     }
 
+    public Map<String, Boolean> getNotificationPreferences() {
+        return notificationPreferences;
+    }
+
     public void setUserId(UUID userId) {
         this.userId = userId;
     }
@@ -1,7 +1,12 @@
 package com.estim.javaapi.infrastructure.persistence.wishlist;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,4 +20,41 @@ public interface WishlistItemJpaRepository extends JpaRepository<WishlistItemJpa
     boolean existsByUserIdAndGameId(UUID userId, UUID gameId);
 
     List<WishlistItemJpaEntity> findByGameId(UUID gameId);
+
+    // The statements below rely on UNIQUE (user_id, game_id) and each take a
+    // single round trip, without reading the row first.
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO wishlists (user_id, game_id, added_at, notification_preferences)
+        VALUES (:userId, :gameId, :addedAt, CAST(:preferences AS jsonb))
+        ON CONFLICT (user_id, game_id) DO UPDATE
+        SET added_at = EXCLUDED.added_at,
+            notification_preferences = EXCLUDED.notification_preferences
+    """, nativeQuery = true)
+    int upsert(@Param("userId") UUID userId,
+               @Param("gameId") UUID gameId,
+               @Param("addedAt") Instant addedAt,
+               @Param("preferences") String preferencesJson);
+
+    /**
+     * @return 1 if the row was inserted, 0 if the game was already wishlisted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO wishlists (user_id, game_id, added_at, notification_preferences)
+        VALUES (:userId, :gameId, :addedAt, CAST(:preferences AS jsonb))
+        ON CONFLICT (user_id, game_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId,
+                       @Param("gameId") UUID gameId,
+                       @Param("addedAt") Instant addedAt,
+                       @Param("preferences") String preferencesJson);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM wishlists WHERE user_id = :userId AND game_id = :gameId", nativeQuery = true)
+    int deleteByUserIdAndGameId(@Param("userId") UUID userId, @Param("gameId") UUID gameId);
 }
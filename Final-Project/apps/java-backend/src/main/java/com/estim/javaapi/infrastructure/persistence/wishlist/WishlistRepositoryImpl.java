@@ -4,20 +4,53 @@ import com.estim.javaapi.domain.library.GameId;
 import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.domain.wishlist.WishlistItem;
 import com.estim.javaapi.domain.wishlist.WishlistRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.util.Collections;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public class WishlistRepositoryImpl implements WishlistRepository {
 
+    private static final String ADD_ALL_SQL = """
+        INSERT INTO wishlists (user_id, game_id)
+        SELECT ?, game_id
+        FROM unnest(?::uuid[]) AS game_id
+        ON CONFLICT (user_id, game_id) DO NOTHING
+        RETURNING game_id
+        """;
+
+    private static final String REMOVE_ALL_SQL = """
+        DELETE FROM wishlists
+        WHERE user_id = ? AND game_id = ANY(?::uuid[])
+        RETURNING game_id
+        """;
+
+    private static final String FIND_GAME_IDS_IN_SQL = """
+        SELECT game_id
+        FROM wishlists
+        WHERE user_id = ? AND game_id = ANY(?::uuid[])
+        """;
+
     private final WishlistItemJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
 
-    public WishlistRepositoryImpl(WishlistItemJpaRepository jpaRepository) {
+    public WishlistRepositoryImpl(WishlistItemJpaRepository jpaRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  ObjectMapper objectMapper) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -50,29 +83,61 @@ public class WishlistRepositoryImpl implements WishlistRepository {
 
     @Override
     public void save(WishlistItem item) {
-        UUID userUuid = item.getUserId().value();
-        UUID gameUuid = item.getGameId().getValue();
-
-        var existing = jpaRepository.findByUserIdAndGameId(userUuid, gameUuid);
-
-        WishlistItemJpaEntity entity = existing.orElseGet(() ->
-            new WishlistItemJpaEntity(
-                userUuid,
-                gameUuid,
-                item.getAddedAt()
-            )
+        jpaRepository.upsert(
+            item.getUserId().value(),
+            item.getGameId().getValue(),
+            item.getAddedAt(),
+            toJson(item.getNotificationPreferences())
         );
-        entity.setAddedAt(item.getAddedAt());
-        jpaRepository.save(entity);
+    }
+
+    @Override
+    public boolean addIfAbsent(WishlistItem item) {
+        return jpaRepository.insertIfAbsent(
+            item.getUserId().value(),
+            item.getGameId().getValue(),
+            item.getAddedAt(),
+            toJson(item.getNotificationPreferences())
+        ) > 0;
     }
 
     @Override
     public void delete(WishlistItem item) {
-        UUID userUuid = item.getUserId().value();
-        UUID gameUuid = item.getGameId().getValue();
+        delete(item.getUserId(), item.getGameId());
+    }
+
+    @Override
+    public boolean delete(UserId userId, GameId gameId) {
+        return jpaRepository.deleteByUserIdAndGameId(userId.value(), gameId.getValue()) > 0;
+    }
+
+    /**
+     * One INSERT for the whole set, unnesting a uuid[] parameter; games
+     * already in the wishlist are skipped.
+     */
+    @Override
+    public List<GameId> addAll(UserId userId, Collection<GameId> gameIds) {
+        return updateReturningGameIds(ADD_ALL_SQL, userId, gameIds);
+    }
 
-        jpaRepository.findByUserIdAndGameId(userUuid, gameUuid)
-            .ifPresent(jpaRepository::delete);
+    @Override
+    public List<GameId> removeAll(UserId userId, Collection<GameId> gameIds) {
+        return updateReturningGameIds(REMOVE_ALL_SQL, userId, gameIds);
+    }
+
+    private List<GameId> updateReturningGameIds(String sql, UserId userId, Collection<GameId> gameIds) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(sql);
+                ps.setObject(1, userId.value());
+                ps.setArray(2, con.createArrayOf("uuid", toUuidArray(gameIds)));
+                return ps;
+            },
+            (rs, rowNum) -> GameId.of(rs.getObject(1, UUID.class))
+        );
     }
 
     @Override
@@ -83,13 +148,53 @@ public class WishlistRepositoryImpl implements WishlistRepository {
         );
     }
 
+    /**
+     * One lookup for the whole set, served by the UNIQUE (user_id, game_id) index.
+     */
+    @Override
+    public Set<GameId> findGameIdsIn(UserId userId, Collection<GameId> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> found = jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(FIND_GAME_IDS_IN_SQL);
+                ps.setObject(1, userId.value());
+                ps.setArray(2, con.createArrayOf("uuid", toUuidArray(gameIds)));
+                return ps;
+            },
+            (rs, rowNum) -> rs.getObject(1, UUID.class)
+        );
+
+        Set<GameId> result = new HashSet<>(found.size() * 2);
+        for (UUID gameId : found) {
+            result.add(GameId.of(gameId));
+        }
+        return result;
+    }
+
+    private static Object[] toUuidArray(Collection<GameId> gameIds) {
+        return gameIds.stream()
+            .map(GameId::getValue)
+            .distinct()
+            .toArray();
+    }
+
     private WishlistItem toDomain(WishlistItemJpaEntity entity) {
         return WishlistItem.of(
             new UserId(entity.getUserId()),
             new GameId(entity.getGameId()),
             entity.getAddedAt(),
             null,
-            Collections.emptyMap()
+            entity.getNotificationPreferences()
         );
     }
+
+    private String toJson(Map<String, Boolean> preferences) {
+        try {
+            return objectMapper.writeValueAsString(preferences);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize notification preferences", ex);
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.cache.ExpiringCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Caches verified access tokens so that repeat requests carrying the same
+ * bearer token skip signature verification and claim decoding.
+ *
+ * Entries are keyed by the SHA-256 digest of the token (raw tokens are never
+ * retained) and expire together with the token itself.
+ */
+@Component
+public class AccessTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    });
+
+    private final ExpiringCache<String, VerifiedAccessToken> cache;
+
+    public AccessTokenCache(
+        @Value("${security.jwt.cache.max-size:10000}") int maxSize,
+        @Value("${security.jwt.access-token-ttl:PT15M}") Duration accessTokenTtl,
+        MeterRegistry meterRegistry
+    ) {
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.cache = new ExpiringCache<String, VerifiedAccessToken>(maxSize, accessTokenTtl)
+            .bindTo(meterRegistry, "jwt.access-tokens");
+    }
+
+    /**
+     * Returns the cached verification result for this token, or {@code null}
+     * if the token has not been seen or has expired.
+     */
+    public VerifiedAccessToken get(String token) {
+        return cache.get(digest(token));
+    }
+
+    public void put(String token, VerifiedAccessToken verified) {
+        Objects.requireNonNull(verified, "verified must not be null");
+        cache.put(digest(token), verified, verified.expiresAt().toEpochMilli());
+    }
+
+    /**
+     * Drops every cached token belonging to the given user.
+     */
+    public void evictUser(UserId userId) {
+        Objects.requireNonNull(userId, "userId must not be null");
+        cache.invalidateIf((key, verified) -> verified.userId().equals(userId));
+    }
+
+    private static String digest(String token) {
+        Objects.requireNonNull(token, "token must not be null");
+        MessageDigest sha256 = SHA_256.get();
+        byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+}
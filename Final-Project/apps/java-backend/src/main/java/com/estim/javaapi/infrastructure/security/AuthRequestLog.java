@@ -0,0 +1,118 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.domain.user.UserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Off-thread log channel for request authentication outcomes.
+ *
+ * Every outcome is counted in Micrometer. Only a configurable sample of
+ * requests is logged, and those records are handed to a background thread
+ * through a bounded queue, so request threads never wait on log I/O.
+ * Records are dropped (and counted) when the queue is full. Tokens and
+ * Authorization headers are never logged.
+ */
+@Component
+public class AuthRequestLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthRequestLog.class);
+
+    public enum Outcome {
+        AUTHENTICATED,
+        NO_TOKEN,
+        MALFORMED,
+        INVALID_SIGNATURE,
+        EXPIRED,
+        REVOKED
+    }
+
+    private final double sampleRate;
+    private final BlockingQueue<Entry> queue;
+    private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
+    private final Counter dropped;
+    private final Thread writer;
+
+    public AuthRequestLog(
+        @Value("${security.auth-log.sample-rate:0.01}") double sampleRate,
+        @Value("${security.auth-log.queue-capacity:1024}") int queueCapacity,
+        MeterRegistry meterRegistry
+    ) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        }
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        this.sampleRate = sampleRate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        for (Outcome outcome : Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("security.jwt.authentications")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        this.dropped = Counter.builder("security.auth-log.dropped").register(meterRegistry);
+
+        this.writer = new Thread(this::drain, "auth-request-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Records the authentication outcome of a request. Allocates nothing
+     * unless the request is sampled.
+     */
+    public void record(String method, String path, Outcome outcome, UserId userId) {
+        outcomeCounters.get(outcome).increment();
+
+        if (sampleRate == 0.0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        if (!queue.offer(new Entry(method, path, outcome, userId))) {
+            dropped.increment();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writer.interrupt();
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                write(queue.take());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        Entry remaining;
+        while ((remaining = queue.poll()) != null) {
+            write(remaining);
+        }
+    }
+
+    private void write(Entry entry) {
+        log.info("auth method={} path={} outcome={} user={}",
+            entry.method(),
+            entry.path(),
+            entry.outcome(),
+            entry.userId() != null ? entry.userId().value() : "-");
+    }
+
+    private record Entry(String method, String path, Outcome outcome, UserId userId) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.estim.javaapi.infrastructure.security;
+
+import org.mindrot.jbcrypt.BCrypt;
+
+/**
+ * BCrypt hashing scheme ({@code $2a$<cost>$...}).
+ *
+ * Hashes of any cost are verified; new hashes use the configured cost.
+ *
+ * Requires dependency:
+ *   implementation "org.mindrot:jbcrypt:0.4"
+ */
+class BCryptHashingScheme implements PasswordHashingScheme {
+
+    static final String ID = "bcrypt";
+
+    private final int strength;
+
+    /**
+     * @param strength the log rounds to use, e.g., 10-14
+     */
+    BCryptHashingScheme(int strength) {
+        if (strength < 4 || strength > 31) {
+            throw new IllegalArgumentException("BCrypt strength must be between 4 and 31");
+        }
+        this.strength = strength;
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public boolean supports(String encodedHash) {
+        // jBCrypt 0.4 only understands the 2 and 2a revisions
+        return encodedHash.startsWith("$2a$") || encodedHash.startsWith("$2$");
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return BCrypt.hashpw(rawPassword, BCrypt.gensalt(strength));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedHash) {
+        return BCrypt.checkpw(rawPassword, encodedHash);
+    }
+
+    @Override
+    public boolean hasCurrentParameters(String encodedHash) {
+        return costOf(encodedHash) == strength;
+    }
+
+    private static int costOf(String encodedHash) {
+        int start = encodedHash.startsWith("$2a$") ? 4 : 3;
+        try {
+            return Integer.parseInt(encodedHash.substring(start, start + 2));
+        } catch (RuntimeException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.application.auth.PasswordHashUpgrader;
+import com.estim.javaapi.domain.user.PasswordHash;
+import com.estim.javaapi.domain.user.User;
+import com.estim.javaapi.domain.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upgrades outdated password hashes in the background after a successful
+ * login, so the login response never waits for the extra hash.
+ *
+ * Upgrades run on their own single thread with a small bounded queue, not
+ * on {@link PasswordHashingExecutor}, so they never take capacity from
+ * logins; when the queue is full the upgrade is skipped and retried on a
+ * later login. The new hash is stored with a compare-and-set on the hash
+ * that was verified, so a concurrent password change or reset is never
+ * overwritten.
+ */
+@Component
+public class BackgroundPasswordHashUpgrader implements PasswordHashUpgrader {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundPasswordHashUpgrader.class);
+
+    private final DelegatingPasswordHasher passwordHasher;
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor executor;
+    private final Counter skipped;
+
+    public BackgroundPasswordHashUpgrader(
+        DelegatingPasswordHasher passwordHasher,
+        UserRepository userRepository,
+        @Value("${security.password-hashing.upgrade-queue-capacity:32}") int queueCapacity,
+        MeterRegistry meterRegistry
+    ) {
+        this.passwordHasher = Objects.requireNonNull(passwordHasher, "passwordHasher must not be null");
+        this.userRepository = Objects.requireNonNull(userRepository, "userRepository must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        this.executor = new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-upgrade");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.skipped = Counter.builder("password.hashing.upgrades.skipped").register(meterRegistry);
+    }
+
+    @Override
+    public void upgradeIfNeeded(User user, String rawPassword) {
+        Objects.requireNonNull(user, "user must not be null");
+        Objects.requireNonNull(rawPassword, "rawPassword must not be null");
+
+        PasswordHash verifiedHash = user.passwordHash();
+        if (!passwordHasher.needsRehash(verifiedHash)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> upgrade(user, verifiedHash, rawPassword));
+        } catch (RejectedExecutionException ex) {
+            skipped.increment();
+            log.debug("Skipped password hash upgrade for user {}: upgrade queue is full", user.id().value());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void upgrade(User user, PasswordHash verifiedHash, String rawPassword) {
+        try {
+            PasswordHash upgradedHash = passwordHasher.hashOnCurrentThread(rawPassword);
+
+            if (!userRepository.replacePasswordHash(user.id(), verifiedHash, upgradedHash)) {
+                log.debug("Abandoned password hash upgrade for user {}: the password changed", user.id().value());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Password hash upgrade failed for user {}", user.id().value(), ex);
+        }
+    }
+}
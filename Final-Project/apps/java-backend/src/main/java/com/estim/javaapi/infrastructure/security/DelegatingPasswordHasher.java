@@ -0,0 +1,101 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.application.auth.PasswordHasher;
+import com.estim.javaapi.domain.user.PasswordHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Versioned, multi-algorithm implementation of PasswordHasher.
+ *
+ * Every stored hash identifies its scheme (and parameters) through its
+ * prefix, e.g. {@code $2a$12$...} or {@code $scrypt$ln=14,r=8,p=1$...}, so
+ * hashes from every supported scheme keep verifying while new hashes use
+ * the configured target scheme. {@link #needsRehash(PasswordHash)} reports
+ * hashes that should be upgraded once the raw password is known.
+ *
+ * Hashing and verification run on {@link PasswordHashingExecutor}, never on
+ * the calling request thread.
+ */
+@Component
+public class DelegatingPasswordHasher implements PasswordHasher {
+
+    private final PasswordHashingScheme target;
+    private final List<PasswordHashingScheme> schemes;
+    private final PasswordHashingExecutor executor;
+    private final String dummyHash;
+
+    public DelegatingPasswordHasher(
+        @Value("${security.password-hashing.algorithm:bcrypt}") String algorithm,
+        @Value("${bcrypt.strength:12}") int bcryptStrength,
+        @Value("${security.password-hashing.scrypt.log-n:14}") int scryptLogN,
+        @Value("${security.password-hashing.scrypt.r:8}") int scryptR,
+        @Value("${security.password-hashing.scrypt.p:1}") int scryptP,
+        PasswordHashingExecutor executor
+    ) {
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.schemes = List.of(
+            new BCryptHashingScheme(bcryptStrength),
+            new ScryptHashingScheme(scryptLogN, scryptR, scryptP)
+        );
+        this.target = schemes.stream()
+            .filter(scheme -> scheme.id().equalsIgnoreCase(algorithm))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm));
+
+        // Same scheme and cost as real hashes, so verifying it takes as long
+        this.dummyHash = target.hash(UUID.randomUUID().toString());
+    }
+
+    @Override
+    public PasswordHash hash(String rawPassword) {
+        Objects.requireNonNull(rawPassword, "rawPassword must not be null");
+        return executor.execute(() -> hashOnCurrentThread(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, PasswordHash hash) {
+        Objects.requireNonNull(rawPassword, "rawPassword must not be null");
+        Objects.requireNonNull(hash, "hash must not be null");
+
+        PasswordHashingScheme scheme = schemeFor(hash.value());
+        if (scheme == null) {
+            return false;
+        }
+        return executor.execute(() -> scheme.matches(rawPassword, hash.value()));
+    }
+
+    @Override
+    public void verifyAgainstDummyHash(String rawPassword) {
+        Objects.requireNonNull(rawPassword, "rawPassword must not be null");
+        executor.execute(() -> target.matches(rawPassword, dummyHash));
+    }
+
+    @Override
+    public boolean needsRehash(PasswordHash hash) {
+        Objects.requireNonNull(hash, "hash must not be null");
+        String encoded = hash.value();
+        return !target.supports(encoded) || !target.hasCurrentParameters(encoded);
+    }
+
+    /**
+     * Hashes with the target scheme on the calling thread. Only for code
+     * that already runs off the request threads, such as background upgrades.
+     */
+    PasswordHash hashOnCurrentThread(String rawPassword) {
+        return new PasswordHash(target.hash(rawPassword));
+    }
+
+    private PasswordHashingScheme schemeFor(String encodedHash) {
+        for (PasswordHashingScheme scheme : schemes) {
+            if (scheme.supports(encodedHash)) {
+                return scheme;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,373 @@
+package com.estim.javaapi.infrastructure.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Specialized encoder/verifier for the compact HS256 tokens issued by
+ * {@link JwtTokenService}.
+ *
+ * The header is constant, so its Base64URL form is computed once. Claims are
+ * written straight into a per-thread scratch buffer and signed with a
+ * per-thread {@link Mac}, avoiding the JSON mapper, {@code Date} objects and
+ * builder allocations of the generic jjwt path.
+ *
+ * {@link #decode(String)} only understands the flat claim set this class
+ * produces. For anything else it returns {@code null} and the caller falls
+ * back to the full jjwt parser.
+ */
+final class Hs256JwtCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int SCRATCH_SIZE = 1024;
+
+    private static final byte[] BASE64_URL =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final int[] BASE64_URL_INVERSE = new int[128];
+
+    static {
+        Arrays.fill(BASE64_URL_INVERSE, -1);
+        for (int i = 0; i < BASE64_URL.length; i++) {
+            BASE64_URL_INVERSE[BASE64_URL[i]] = i;
+        }
+    }
+
+    /** Header written by this codec. */
+    private static final String HEADER = base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}");
+    /** Header written by jjwt for tokens issued before the fast path existed. */
+    private static final String LEGACY_HEADER = base64Url("{\"alg\":\"HS256\"}");
+
+    private static final byte[] HEADER_BYTES = (HEADER + ".").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SUB = "{\"sub\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IAT = "\",\"iat\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EXP = ",\"exp\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TYP = ",\"typ\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END = "\"}".getBytes(StandardCharsets.US_ASCII);
+
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[SCRATCH_SIZE]);
+
+    Hs256JwtCodec(byte[] secretKeyBytes) {
+        Objects.requireNonNull(secretKeyBytes, "secretKeyBytes must not be null");
+        SecretKeySpec key = new SecretKeySpec(secretKeyBytes.clone(), ALGORITHM);
+
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("HmacSHA256 is not available", ex);
+            }
+        });
+        macs.get();
+    }
+
+    /**
+     * Encodes and signs {@code {"sub","iat","exp","typ"}}.
+     */
+    String encode(UUID subject, long issuedAtSeconds, long expiresAtSeconds, String type) {
+        byte[] buf = scratch.get();
+
+        int claimsLength = 0;
+        claimsLength = put(buf, claimsLength, SUB);
+        claimsLength = putAscii(buf, claimsLength, subject.toString());
+        claimsLength = put(buf, claimsLength, IAT);
+        claimsLength = putAscii(buf, claimsLength, Long.toString(issuedAtSeconds));
+        claimsLength = put(buf, claimsLength, EXP);
+        claimsLength = putAscii(buf, claimsLength, Long.toString(expiresAtSeconds));
+        claimsLength = put(buf, claimsLength, TYP);
+        claimsLength = putAscii(buf, claimsLength, type);
+        claimsLength = put(buf, claimsLength, END);
+
+        int payloadLength = encodedLength(claimsLength);
+        int signingInputLength = HEADER_BYTES.length + payloadLength;
+        byte[] token = new byte[signingInputLength + 1 + encodedLength(SIGNATURE_LENGTH)];
+
+        System.arraycopy(HEADER_BYTES, 0, token, 0, HEADER_BYTES.length);
+        encodeBase64Url(buf, 0, claimsLength, token, HEADER_BYTES.length);
+        token[signingInputLength] = '.';
+
+        Mac mac = macs.get();
+        mac.update(token, 0, signingInputLength);
+        try {
+            mac.doFinal(buf, 0);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to sign token", ex);
+        }
+        encodeBase64Url(buf, 0, SIGNATURE_LENGTH, token, signingInputLength + 1);
+
+        return new String(token, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Verifies the signature and decodes the claims of a token issued by this codec.
+     *
+     * @return the decoded claims, or {@code null} if the token does not have the
+     *         shape this codec understands and must go through the generic parser
+     * @throws InvalidAccessTokenException if the signature does not match, or
+     *         with {@code MALFORMED} for any other failure to read the token
+     */
+    DecodedClaims decode(String token) {
+        try {
+            return decodeUnchecked(token);
+        } catch (InvalidAccessTokenException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new InvalidAccessTokenException(InvalidAccessTokenException.Reason.MALFORMED, ex);
+        }
+    }
+
+    private DecodedClaims decodeUnchecked(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+        if (!isKnownHeader(token, firstDot)) {
+            return null;
+        }
+
+        int signatureLength = token.length() - secondDot - 1;
+        int payloadLength = secondDot - firstDot - 1;
+        if (signatureLength != encodedLength(SIGNATURE_LENGTH)
+            || secondDot > SCRATCH_SIZE
+            || decodedLength(payloadLength) > SCRATCH_SIZE - 2 * SIGNATURE_LENGTH) {
+            return null;
+        }
+
+        byte[] buf = scratch.get();
+
+        // Signing input, copied as ASCII into the scratch buffer.
+        for (int i = 0; i < secondDot; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7F) {
+                return null;
+            }
+            buf[i] = (byte) c;
+        }
+        Mac mac = macs.get();
+        mac.update(buf, 0, secondDot);
+        try {
+            mac.doFinal(buf, 0);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to verify token", ex);
+        }
+
+        if (decodeBase64Url(token, secondDot + 1, token.length(), buf, SIGNATURE_LENGTH) != SIGNATURE_LENGTH
+            || !constantTimeEquals(buf, 0, buf, SIGNATURE_LENGTH, SIGNATURE_LENGTH)) {
+            throw new InvalidAccessTokenException(InvalidAccessTokenException.Reason.INVALID_SIGNATURE);
+        }
+
+        int claimsOffset = 2 * SIGNATURE_LENGTH;
+        int claimsLength = decodeBase64Url(token, firstDot + 1, secondDot, buf, claimsOffset);
+        if (claimsLength < 0) {
+            return null;
+        }
+        return ClaimsReader.read(buf, claimsOffset, claimsOffset + claimsLength);
+    }
+
+    /**
+     * Claims understood by the fast path.
+     */
+    record DecodedClaims(UUID subject, long issuedAtSeconds, long expiresAtSeconds, String type) {
+    }
+
+    private static boolean isKnownHeader(String token, int headerEnd) {
+        return (headerEnd == HEADER.length() && token.startsWith(HEADER))
+            || (headerEnd == LEGACY_HEADER.length() && token.startsWith(LEGACY_HEADER));
+    }
+
+    private static boolean constantTimeEquals(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        int diff = 0;
+        for (int i = 0; i < length; i++) {
+            diff |= a[aOffset + i] ^ b[bOffset + i];
+        }
+        return diff == 0;
+    }
+
+    private static int put(byte[] dst, int offset, byte[] src) {
+        System.arraycopy(src, 0, dst, offset, src.length);
+        return offset + src.length;
+    }
+
+    private static int putAscii(byte[] dst, int offset, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            dst[offset + i] = (byte) value.charAt(i);
+        }
+        return offset + value.length();
+    }
+
+    private static int encodedLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    private static int decodedLength(int encodedLength) {
+        return encodedLength * 3 / 4;
+    }
+
+    private static void encodeBase64Url(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        int end = offset + length;
+        int d = dstOffset;
+        int i = offset;
+        for (; i + 2 < end; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[d++] = BASE64_URL[(bits >>> 18) & 0x3F];
+            dst[d++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[d++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            dst[d++] = BASE64_URL[bits & 0x3F];
+        }
+        int remaining = end - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            dst[d++] = BASE64_URL[(bits >>> 18) & 0x3F];
+            dst[d] = BASE64_URL[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[d++] = BASE64_URL[(bits >>> 18) & 0x3F];
+            dst[d++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[d] = BASE64_URL[(bits >>> 6) & 0x3F];
+        }
+    }
+
+    /**
+     * Decodes unpadded Base64URL characters {@code [start, end)} of {@code src}.
+     *
+     * @return number of bytes written, or -1 if the input is not valid Base64URL
+     */
+    private static int decodeBase64Url(String src, int start, int end, byte[] dst, int dstOffset) {
+        if ((end - start) % 4 == 1) {
+            return -1;
+        }
+        int d = dstOffset;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            char c = src.charAt(i);
+            int value = c < 128 ? BASE64_URL_INVERSE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[d++] = (byte) (bits >>> bitCount);
+            }
+        }
+        return d - dstOffset;
+    }
+
+    private static String base64Url(String json) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(json.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Minimal reader for a flat JSON object of string and integer values
+     * without escapes. Returns {@code null} for anything else.
+     */
+    private static final class ClaimsReader {
+
+        private final byte[] buf;
+        private final int end;
+        private int pos;
+
+        private ClaimsReader(byte[] buf, int start, int end) {
+            this.buf = buf;
+            this.pos = start;
+            this.end = end;
+        }
+
+        static DecodedClaims read(byte[] buf, int start, int end) {
+            return new ClaimsReader(buf, start, end).read();
+        }
+
+        private DecodedClaims read() {
+            String subject = null;
+            String type = null;
+            long issuedAt = -1;
+            long expiresAt = -1;
+
+            if (!consume('{')) {
+                return null;
+            }
+            if (consume('}')) {
+                return null;
+            }
+
+            do {
+                String key = readString();
+                if (key == null || !consume(':')) {
+                    return null;
+                }
+                switch (key) {
+                    case "sub" -> subject = readString();
+                    case "typ" -> type = readString();
+                    case "iat" -> issuedAt = readLong();
+                    case "exp" -> expiresAt = readLong();
+                    default -> {
+                        // Unknown claims (nbf, aud, ...) need the full parser's validation.
+                        return null;
+                    }
+                }
+            } while (consume(','));
+
+            if (!consume('}') || pos != end
+                || subject == null || type == null || issuedAt < 0 || expiresAt < 0) {
+                return null;
+            }
+
+            try {
+                return new DecodedClaims(UUID.fromString(subject), issuedAt, expiresAt, type);
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+
+        private boolean consume(char expected) {
+            if (pos < end && buf[pos] == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private String readString() {
+            if (!consume('"')) {
+                return null;
+            }
+            int start = pos;
+            while (pos < end && buf[pos] != '"') {
+                byte b = buf[pos];
+                if (b == '\\' || b < 0x20) {
+                    return null;
+                }
+                pos++;
+            }
+            if (pos >= end) {
+                return null;
+            }
+            String value = new String(buf, start, pos - start, StandardCharsets.US_ASCII);
+            pos++;
+            return value;
+        }
+
+        private long readLong() {
+            int start = pos;
+            long value = 0;
+            while (pos < end && buf[pos] >= '0' && buf[pos] <= '9' && pos - start < 18) {
+                value = value * 10 + (buf[pos] - '0');
+                pos++;
+            }
+            return pos == start ? -1 : value;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.estim.javaapi.infrastructure.security;
+
+import java.util.Objects;
+
+/**
+ * Thrown when an access token cannot be accepted. The reason is kept
+ * separate from the message so callers can count failures without
+ * inspecting exception text.
+ */
+public class InvalidAccessTokenException extends IllegalArgumentException {
+
+    public enum Reason {
+        MALFORMED,
+        INVALID_SIGNATURE,
+        EXPIRED,
+        REVOKED
+    }
+
+    private final Reason reason;
+
+    public InvalidAccessTokenException(Reason reason) {
+        this(reason, null);
+    }
+
+    public InvalidAccessTokenException(Reason reason, Throwable cause) {
+        super("Invalid or expired access token", cause);
+        this.reason = Objects.requireNonNull(reason, "reason must not be null");
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+}
@@ -19,9 +19,12 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService jwtTokenService;
+    private final AuthRequestLog authRequestLog;
 
-    public JwtAuthenticationFilter(JwtTokenService jwtTokenService) {
+    public JwtAuthenticationFilter(JwtTokenService jwtTokenService,
+                                   AuthRequestLog authRequestLog) {
         this.jwtTokenService = jwtTokenService;
+        this.authRequestLog = authRequestLog;
     }
 
     @Override
@@ -32,15 +35,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String authorizationHeader = request.getHeader("Authorization");
-            System.out.println("[JWT] Incoming request " + request.getMethod() + " " + request.getRequestURI());
-            System.out.println("[JWT] Authorization header = " + authorizationHeader);
 
             if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
                 String token = authorizationHeader.substring("Bearer ".length()).trim();
 
                 if (SecurityContextHolder.getContext().getAuthentication() == null) {
                     try {
-                        UserId userId = jwtTokenService.parseUserIdFromAccessToken(token);
+                        UserId userId = jwtTokenService.verifyAccessToken(token).userId();
 
                         AuthenticatedUser principal = new AuthenticatedUser(userId);
 
@@ -61,14 +62,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         // Your custom thread-local context for controllers that use it
                         SecurityContext.setCurrentUser(principal);
 
-                        System.out.println("[JWT] Authenticated user " + userId.value());
-                    } catch (IllegalArgumentException ex) {
+                        authRequestLog.record(request.getMethod(), request.getRequestURI(),
+                            AuthRequestLog.Outcome.AUTHENTICATED, userId);
+                    } catch (InvalidAccessTokenException ex) {
                         // Invalid / expired / malformed token: leave request unauthenticated
-                        System.out.println("[JWT] Token validation failed: " + ex.getMessage());
+                        authRequestLog.record(request.getMethod(), request.getRequestURI(),
+                            outcomeOf(ex.reason()), null);
                         SecurityContext.clear();
                     }
                 }
             } else {
+                authRequestLog.record(request.getMethod(), request.getRequestURI(),
+                    AuthRequestLog.Outcome.NO_TOKEN, null);
                 SecurityContext.clear();
             }
 
@@ -77,4 +82,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityContext.clear();
         }
     }
+
+    private static AuthRequestLog.Outcome outcomeOf(InvalidAccessTokenException.Reason reason) {
+        return switch (reason) {
+            case MALFORMED -> AuthRequestLog.Outcome.MALFORMED;
+            case INVALID_SIGNATURE -> AuthRequestLog.Outcome.INVALID_SIGNATURE;
+            case EXPIRED -> AuthRequestLog.Outcome.EXPIRED;
+            case REVOKED -> AuthRequestLog.Outcome.REVOKED;
+        };
+    }
 }
@@ -1,12 +1,14 @@
 package com.estim.javaapi.infrastructure.security;
 
+import com.estim.javaapi.application.auth.TokenPair;
 import com.estim.javaapi.application.auth.TokenService;
 import com.estim.javaapi.domain.user.UserId;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -18,18 +20,33 @@ import java.util.Date;
 import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * Issues short-lived HS256 access tokens and opaque, rotating refresh tokens.
+ *
+ * Access-token revocation is enforced through {@link TokenRevocationWatermarks},
+ * checked after the verification cache, so revoked tokens are rejected
+ * without a database round trip.
+ */
 @Component
 public class JwtTokenService implements TokenService {
 
+    private static final String ACCESS_TOKEN_TYPE = "access";
+
     private final byte[] secretKeyBytes;
     private final SecretKey signingKey;   // <-- use SecretKey
+    private final JwtParser parser;
+    private final Hs256JwtCodec codec;
     private final Duration accessTokenTtl;
-    private final Duration refreshTokenTtl;
+    private final AccessTokenCache accessTokenCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationWatermarks revocationWatermarks;
 
     public JwtTokenService(
         @Value("${security.jwt.secret:dev-secret-change-me}") String secret,
         @Value("${security.jwt.access-token-ttl:PT15M}") Duration accessTokenTtl,
-        @Value("${security.jwt.refresh-token-ttl:P7D}") Duration refreshTokenTtl
+        AccessTokenCache accessTokenCache,
+        RefreshTokenStore refreshTokenStore,
+        TokenRevocationWatermarks revocationWatermarks
     ) {
         this.secretKeyBytes = Objects.requireNonNull(secret, "secret must not be null")
             .getBytes(StandardCharsets.UTF_8);
@@ -37,47 +54,134 @@ public class JwtTokenService implements TokenService {
         // HS256 key
         this.signingKey = Keys.hmacShaKeyFor(this.secretKeyBytes);
 
+        // Parsers are immutable and thread-safe: build once, reuse for every request
+        this.parser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+        this.codec = new Hs256JwtCodec(this.secretKeyBytes);
+
         this.accessTokenTtl = Objects.requireNonNull(accessTokenTtl, "accessTokenTtl must not be null");
-        this.refreshTokenTtl = Objects.requireNonNull(refreshTokenTtl, "refreshTokenTtl must not be null");
+        this.accessTokenCache = Objects.requireNonNull(accessTokenCache, "accessTokenCache must not be null");
+        this.refreshTokenStore = Objects.requireNonNull(refreshTokenStore, "refreshTokenStore must not be null");
+        this.revocationWatermarks = Objects.requireNonNull(revocationWatermarks, "revocationWatermarks must not be null");
     }
 
     @Override
     public String generateAccessToken(UserId userId) {
-        return generateToken(userId, accessTokenTtl, "access");
+        return generateToken(userId, accessTokenTtl, ACCESS_TOKEN_TYPE);
     }
 
     @Override
     public String generateRefreshToken(UserId userId) {
-        return generateToken(userId, refreshTokenTtl, "refresh");
+        return refreshTokenStore.issue(userId);
+    }
+
+    @Override
+    public TokenPair refresh(String refreshToken) {
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(refreshToken);
+        return new TokenPair(
+            rotation.userId(),
+            generateAccessToken(rotation.userId()),
+            rotation.refreshToken()
+        );
     }
 
     private String generateToken(UserId userId, Duration ttl, String type) {
-        Instant now = Instant.now();
-        Instant expiry = now.plus(ttl);
-
-        return Jwts.builder()
-            .setSubject(userId.value().toString())
-            .setIssuedAt(Date.from(now))
-            .setExpiration(Date.from(expiry))
-            .claim("typ", type)
-            .signWith(signingKey, SignatureAlgorithm.HS256)
-            .compact();
+        long issuedAt = System.currentTimeMillis() / 1000;
+        long expiresAt = issuedAt + ttl.toSeconds();
+
+        return codec.encode(userId.value(), issuedAt, expiresAt, type);
     }
 
     @Override
     public UserId parseUserIdFromAccessToken(String token) {
+        return verifyAccessToken(token).userId();
+    }
+
+    /**
+     * Verifies an access token, answering repeat tokens from {@link AccessTokenCache}.
+     *
+     * @throws InvalidAccessTokenException if the token is malformed, tampered with, expired or revoked
+     */
+    public VerifiedAccessToken verifyAccessToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidAccessTokenException(InvalidAccessTokenException.Reason.MALFORMED);
+        }
+
+        VerifiedAccessToken verified = accessTokenCache.get(token);
+        if (verified == null) {
+            verified = parseAccessToken(token);
+            accessTokenCache.put(token, verified);
+        }
+
+        if (revocationWatermarks.isRevoked(verified.userId(), verified.issuedAt())) {
+            throw new InvalidAccessTokenException(InvalidAccessTokenException.Reason.REVOKED);
+        }
+        return verified;
+    }
+
+    @Override
+    public void revokeRefreshToken(String refreshToken) {
+        refreshTokenStore.revoke(refreshToken);
+    }
+
+    @Override
+    public void revokeAccessTokens(UserId userId) {
+        revocationWatermarks.revokeIssuedBefore(userId, Instant.now());
+        accessTokenCache.evictUser(userId);
+    }
+
+    @Override
+    public void revokeAllForUser(UserId userId) {
+        refreshTokenStore.revokeAllForUser(userId);
+        revokeAccessTokens(userId);
+    }
+
+    private VerifiedAccessToken parseAccessToken(String token) {
+        Hs256JwtCodec.DecodedClaims decoded = codec.decode(token);
+        if (decoded != null) {
+            if (!ACCESS_TOKEN_TYPE.equals(decoded.type())) {
+                throw new InvalidAccessTokenException(InvalidAccessTokenException.Reason.MALFORMED);
+            }
+            if (decoded.expiresAtSeconds() * 1000 <= System.currentTimeMillis()) {
+                throw new InvalidAccessTokenException(InvalidAccessTokenException.Reason.EXPIRED);
+            }
+            return new VerifiedAccessToken(
+                new UserId(decoded.subject()),
+                Instant.ofEpochSecond(decoded.issuedAtSeconds()),
+                Instant.ofEpochSecond(decoded.expiresAtSeconds())
+            );
+        }
+
+        // Tokens the fast path does not understand go through the full jjwt validation
         try {
-            Claims claims = Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
+            Claims claims = parser
                 .parseClaimsJws(token)
                 .getBody();
 
             String subject = claims.getSubject();
-            return new UserId(UUID.fromString(subject));
+            Date issuedAt = claims.getIssuedAt();
+            Date expiration = claims.getExpiration();
+            if (subject == null || issuedAt == null || expiration == null) {
+                throw new IllegalArgumentException("Access token is missing required claims");
+            }
+            if (!ACCESS_TOKEN_TYPE.equals(claims.get("typ", String.class))) {
+                throw new IllegalArgumentException("Not an access token");
+            }
+
+            return new VerifiedAccessToken(
+                new UserId(UUID.fromString(subject)),
+                issuedAt.toInstant(),
+                expiration.toInstant()
+            );
 
-        } catch (JwtException | IllegalArgumentException ex) {
-            throw new IllegalArgumentException("Invalid or expired access token", ex);
+        } catch (ExpiredJwtException ex) {
+            throw new InvalidAccessTokenException(InvalidAccessTokenException.Reason.EXPIRED, ex);
+        } catch (SignatureException ex) {
+            throw new InvalidAccessTokenException(InvalidAccessTokenException.Reason.INVALID_SIGNATURE, ex);
+        } catch (RuntimeException ex) {
+            // JwtException, missing claims, or anything else the parser trips over
+            throw new InvalidAccessTokenException(InvalidAccessTokenException.Reason.MALFORMED, ex);
         }
     }
 }
@@ -0,0 +1,124 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.application.auth.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated, core-sized pool for CPU-heavy password hashing and verification.
+ *
+ * Hashing is bounded to one task per core so a burst of logins can not take
+ * CPU away from cheap requests, and the queue in front of the pool is
+ * bounded: when it is full, callers are rejected immediately with
+ * {@link PasswordHashingUnavailableException} instead of piling up on
+ * servlet threads.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    private final Timer queueWait;
+    private final Timer execution;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(
+        @Value("${security.password-hashing.threads:0}") int threads,
+        @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+        @Value("${security.password-hashing.timeout:PT5S}") Duration timeout,
+        MeterRegistry meterRegistry
+    ) {
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeout = Objects.requireNonNull(timeout, "timeout must not be null");
+
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+            .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+            .register(meterRegistry);
+        this.queueWait = Timer.builder("password.hashing.queue.wait").register(meterRegistry);
+        this.execution = Timer.builder("password.hashing.duration").register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected").register(meterRegistry);
+    }
+
+    /**
+     * Runs the task on the hashing pool and waits for its result.
+     *
+     * @throws PasswordHashingUnavailableException if the pool is saturated or the task times out
+     */
+    public <T> T execute(Callable<T> task) {
+        Objects.requireNonNull(task, "task must not be null");
+
+        Future<T> future;
+        try {
+            future = executor.submit(timed(task));
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new PasswordHashingUnavailableException("Too many concurrent password operations, retry later", ex);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingUnavailableException("Password operation timed out, retry later", ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while waiting for password operation", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password operation failed", cause);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Callable<T> timed(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        return () -> {
+            queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            return execution.recordCallable(task);
+        };
+    }
+}
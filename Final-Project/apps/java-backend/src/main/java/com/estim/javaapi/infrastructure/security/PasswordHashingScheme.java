@@ -0,0 +1,28 @@
+package com.estim.javaapi.infrastructure.security;
+
+/**
+ * One password hashing algorithm, identified by the prefix of the encoded
+ * hashes it produces. Implementations are pure CPU work and are expected to
+ * be called from {@link PasswordHashingExecutor}.
+ */
+interface PasswordHashingScheme {
+
+    /**
+     * Short identifier used in configuration, e.g. {@code bcrypt}.
+     */
+    String id();
+
+    /**
+     * Whether the encoded hash was produced by this scheme, whatever its parameters.
+     */
+    boolean supports(String encodedHash);
+
+    String hash(String rawPassword);
+
+    boolean matches(String rawPassword, String encodedHash);
+
+    /**
+     * Whether the encoded hash uses exactly this scheme's configured parameters.
+     */
+    boolean hasCurrentParameters(String encodedHash);
+}
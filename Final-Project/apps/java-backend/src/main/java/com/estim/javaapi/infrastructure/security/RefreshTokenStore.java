@@ -0,0 +1,185 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.persistence.user.RefreshTokenFamilyJpaEntity;
+import com.estim.javaapi.infrastructure.persistence.user.RefreshTokenFamilyJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Postgres-backed store for opaque, rotating refresh tokens.
+ *
+ * A token has the form {@code <familyId>.<secret>}. Only the SHA-256 hash of
+ * the current token of each family is stored. Refreshing swaps that hash with
+ * a compare-and-set update, so a token can be exchanged exactly once;
+ * presenting an already-rotated token is treated as theft and revokes the
+ * whole family.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenStore.class);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int SECRET_BYTES = 32;
+
+    private final RefreshTokenFamilyJpaRepository repository;
+    private final Duration refreshTokenTtl;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenStore(
+        RefreshTokenFamilyJpaRepository repository,
+        @Value("${security.jwt.refresh-token-ttl:P7D}") Duration refreshTokenTtl
+    ) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.refreshTokenTtl = Objects.requireNonNull(refreshTokenTtl, "refreshTokenTtl must not be null");
+    }
+
+    /**
+     * Result of a successful rotation.
+     */
+    public record Rotation(UserId userId, String refreshToken) {
+    }
+
+    /**
+     * Starts a new token family for the user and returns its first token.
+     */
+    @Transactional
+    public String issue(UserId userId) {
+        Objects.requireNonNull(userId, "userId must not be null");
+
+        UUID familyId = UUID.randomUUID();
+        String token = newToken(familyId);
+        Instant now = Instant.now();
+
+        repository.save(new RefreshTokenFamilyJpaEntity(
+            familyId,
+            userId.value(),
+            hash(token),
+            now,
+            now.plus(refreshTokenTtl)
+        ));
+        return token;
+    }
+
+    /**
+     * Exchanges a refresh token for the next token of the same family.
+     *
+     * @throws IllegalArgumentException if the token is unknown, expired, revoked or was already used
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public Rotation rotate(String refreshToken) {
+        UUID familyId = familyIdOf(refreshToken);
+        String presentedHash = hash(refreshToken);
+        String nextToken = newToken(familyId);
+        Instant now = Instant.now();
+
+        int rotated = repository.rotate(familyId, presentedHash, hash(nextToken), now, now.plus(refreshTokenTtl));
+        if (rotated == 1) {
+            UUID userId = repository.findById(familyId)
+                .map(RefreshTokenFamilyJpaEntity::getUserId)
+                .orElseThrow(() -> new IllegalStateException("Refresh token family vanished during rotation"));
+            return new Rotation(new UserId(userId), nextToken);
+        }
+
+        RefreshTokenFamilyJpaEntity family = repository.findById(familyId)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        boolean live = family.getRevokedAt() == null && family.getExpiresAt().isAfter(now);
+        if (live && !MessageDigest.isEqual(
+                family.getCurrentTokenHash().getBytes(StandardCharsets.US_ASCII),
+                presentedHash.getBytes(StandardCharsets.US_ASCII))) {
+            // A superseded token of a live family was replayed: assume it was stolen.
+            repository.revokeFamily(familyId, now);
+            log.warn("Refresh token reuse detected; revoked token family {} of user {}",
+                familyId, family.getUserId());
+            throw new IllegalArgumentException("Refresh token reuse detected");
+        }
+
+        throw new IllegalArgumentException("Invalid refresh token");
+    }
+
+    /**
+     * Revokes the family of the given token. Unknown tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        UUID familyId;
+        try {
+            familyId = familyIdOf(refreshToken);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        repository.findById(familyId)
+            .filter(family -> MessageDigest.isEqual(
+                family.getCurrentTokenHash().getBytes(StandardCharsets.US_ASCII),
+                hash(refreshToken).getBytes(StandardCharsets.US_ASCII)))
+            .ifPresent(family -> repository.revokeFamily(familyId, Instant.now()));
+    }
+
+    @Transactional
+    public void revokeAllForUser(UserId userId) {
+        Objects.requireNonNull(userId, "userId must not be null");
+        repository.revokeAllForUser(userId.value(), Instant.now());
+    }
+
+    private String newToken(UUID familyId) {
+        byte[] secret = new byte[SECRET_BYTES];
+        random.nextBytes(secret);
+
+        ByteBuffer family = ByteBuffer.allocate(16)
+            .putLong(familyId.getMostSignificantBits())
+            .putLong(familyId.getLeastSignificantBits());
+
+        return ENCODER.encodeToString(family.array()) + "." + ENCODER.encodeToString(secret);
+    }
+
+    private static UUID familyIdOf(String refreshToken) {
+        if (refreshToken == null) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        int dot = refreshToken.indexOf('.');
+        if (dot <= 0 || dot == refreshToken.length() - 1) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+
+        byte[] family;
+        try {
+            family = DECODER.decode(refreshToken.substring(0, dot));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid refresh token", ex);
+        }
+        if (family.length != 16) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(family);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.estim.javaapi.infrastructure.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+
+/**
+ * Pure-Java scrypt key derivation (RFC 7914).
+ *
+ * The JDK ships no memory-hard KDF and the build has no crypto provider
+ * that does, so this is a straightforward port of the reference algorithm
+ * on top of the JDK's HMAC-SHA256.
+ */
+final class Scrypt {
+
+    private Scrypt() {
+    }
+
+    /**
+     * @param n   CPU/memory cost, a power of two greater than 1
+     * @param r   block size
+     * @param p   parallelization
+     * @param dkLen derived key length in bytes
+     */
+    static byte[] derive(byte[] password, byte[] salt, int n, int r, int p, int dkLen) {
+        if (n < 2 || (n & (n - 1)) != 0) {
+            throw new IllegalArgumentException("N must be a power of 2 greater than 1");
+        }
+        if (r < 1 || p < 1 || (long) r * p >= 1 << 30) {
+            throw new IllegalArgumentException("Invalid scrypt parameters");
+        }
+        if (n > Integer.MAX_VALUE / 128 / r) {
+            throw new IllegalArgumentException("N is too large for r");
+        }
+
+        Mac mac = hmacSha256(password);
+        int blockSize = 128 * r;
+
+        byte[] b = pbkdf2(mac, salt, p * blockSize);
+        int[] xy = new int[64 * r];
+        int[] v = new int[32 * r * n];
+
+        for (int i = 0; i < p; i++) {
+            smix(b, i * blockSize, r, n, v, xy);
+        }
+
+        return pbkdf2(mac, b, dkLen);
+    }
+
+    private static Mac hmacSha256(byte[] key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            // HMAC zero-pads keys, so an empty key is equivalent to a single zero byte
+            mac.init(new SecretKeySpec(key.length == 0 ? new byte[1] : key, "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+
+    /**
+     * PBKDF2-HMAC-SHA256 with a single iteration, which is all scrypt needs.
+     */
+    private static byte[] pbkdf2(Mac mac, byte[] salt, int length) {
+        byte[] out = new byte[length];
+        byte[] counter = new byte[4];
+        int blocks = (length + 31) / 32;
+
+        for (int i = 1; i <= blocks; i++) {
+            counter[0] = (byte) (i >>> 24);
+            counter[1] = (byte) (i >>> 16);
+            counter[2] = (byte) (i >>> 8);
+            counter[3] = (byte) i;
+
+            mac.update(salt);
+            byte[] t = mac.doFinal(counter);
+            int offset = (i - 1) * 32;
+            System.arraycopy(t, 0, out, offset, Math.min(32, length - offset));
+        }
+        return out;
+    }
+
+    private static void smix(byte[] b, int offset, int r, int n, int[] v, int[] xy) {
+        int words = 32 * r;
+        int[] x = new int[words];
+
+        for (int k = 0; k < words; k++) {
+            int o = offset + k * 4;
+            x[k] = (b[o] & 0xFF) | (b[o + 1] & 0xFF) << 8 | (b[o + 2] & 0xFF) << 16 | (b[o + 3] & 0xFF) << 24;
+        }
+
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(x, 0, v, i * words, words);
+            blockMix(x, xy, r);
+        }
+
+        for (int i = 0; i < n; i++) {
+            int j = x[(2 * r - 1) * 16] & (n - 1);
+            int vOffset = j * words;
+            for (int k = 0; k < words; k++) {
+                x[k] ^= v[vOffset + k];
+            }
+            blockMix(x, xy, r);
+        }
+
+        for (int k = 0; k < words; k++) {
+            int o = offset + k * 4;
+            int w = x[k];
+            b[o] = (byte) w;
+            b[o + 1] = (byte) (w >>> 8);
+            b[o + 2] = (byte) (w >>> 16);
+            b[o + 3] = (byte) (w >>> 24);
+        }
+    }
+
+    /**
+     * BlockMix with Salsa20/8. {@code xy} is scratch space of 64 * r words.
+     */
+    private static void blockMix(int[] b, int[] xy, int r) {
+        int[] t = new int[16];
+        System.arraycopy(b, (2 * r - 1) * 16, t, 0, 16);
+
+        for (int i = 0; i < 2 * r; i++) {
+            for (int k = 0; k < 16; k++) {
+                t[k] ^= b[i * 16 + k];
+            }
+            salsa20_8(t);
+            System.arraycopy(t, 0, xy, i * 16, 16);
+        }
+
+        // Even blocks first, then odd blocks
+        for (int i = 0; i < r; i++) {
+            System.arraycopy(xy, (2 * i) * 16, b, i * 16, 16);
+            System.arraycopy(xy, (2 * i + 1) * 16, b, (r + i) * 16, 16);
+        }
+    }
+
+    private static void salsa20_8(int[] b) {
+        int x0 = b[0], x1 = b[1], x2 = b[2], x3 = b[3];
+        int x4 = b[4], x5 = b[5], x6 = b[6], x7 = b[7];
+        int x8 = b[8], x9 = b[9], x10 = b[10], x11 = b[11];
+        int x12 = b[12], x13 = b[13], x14 = b[14], x15 = b[15];
+
+        for (int i = 0; i < 8; i += 2) {
+            x4 ^= Integer.rotateLeft(x0 + x12, 7);
+            x8 ^= Integer.rotateLeft(x4 + x0, 9);
+            x12 ^= Integer.rotateLeft(x8 + x4, 13);
+            x0 ^= Integer.rotateLeft(x12 + x8, 18);
+            x9 ^= Integer.rotateLeft(x5 + x1, 7);
+            x13 ^= Integer.rotateLeft(x9 + x5, 9);
+            x1 ^= Integer.rotateLeft(x13 + x9, 13);
+            x5 ^= Integer.rotateLeft(x1 + x13, 18);
+            x14 ^= Integer.rotateLeft(x10 + x6, 7);
+            x2 ^= Integer.rotateLeft(x14 + x10, 9);
+            x6 ^= Integer.rotateLeft(x2 + x14, 13);
+            x10 ^= Integer.rotateLeft(x6 + x2, 18);
+            x3 ^= Integer.rotateLeft(x15 + x11, 7);
+            x7 ^= Integer.rotateLeft(x3 + x15, 9);
+            x11 ^= Integer.rotateLeft(x7 + x3, 13);
+            x15 ^= Integer.rotateLeft(x11 + x7, 18);
+
+            x1 ^= Integer.rotateLeft(x0 + x3, 7);
+            x2 ^= Integer.rotateLeft(x1 + x0, 9);
+            x3 ^= Integer.rotateLeft(x2 + x1, 13);
+            x0 ^= Integer.rotateLeft(x3 + x2, 18);
+            x6 ^= Integer.rotateLeft(x5 + x4, 7);
+            x7 ^= Integer.rotateLeft(x6 + x5, 9);
+            x4 ^= Integer.rotateLeft(x7 + x6, 13);
+            x5 ^= Integer.rotateLeft(x4 + x7, 18);
+            x11 ^= Integer.rotateLeft(x10 + x9, 7);
+            x8 ^= Integer.rotateLeft(x11 + x10, 9);
+            x9 ^= Integer.rotateLeft(x8 + x11, 13);
+            x10 ^= Integer.rotateLeft(x9 + x8, 18);
+            x12 ^= Integer.rotateLeft(x15 + x14, 7);
+            x13 ^= Integer.rotateLeft(x12 + x15, 9);
+            x14 ^= Integer.rotateLeft(x13 + x12, 13);
+            x15 ^= Integer.rotateLeft(x14 + x13, 18);
+        }
+
+        b[0] += x0; b[1] += x1; b[2] += x2; b[3] += x3;
+        b[4] += x4; b[5] += x5; b[6] += x6; b[7] += x7;
+        b[8] += x8; b[9] += x9; b[10] += x10; b[11] += x11;
+        b[12] += x12; b[13] += x13; b[14] += x14; b[15] += x15;
+    }
+}
@@ -0,0 +1,124 @@
+package com.estim.javaapi.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Memory-hard scrypt hashing scheme.
+ *
+ * Encoded as {@code $scrypt$ln=<log2 N>,r=<r>,p=<p>$<salt>$<hash>} with
+ * unpadded Base64 salt and hash, so the parameters travel with each hash
+ * and can be tuned without breaking existing ones. Memory per hash is
+ * {@code 128 * r * 2^ln} bytes (16 MiB for ln=14, r=8).
+ */
+class ScryptHashingScheme implements PasswordHashingScheme {
+
+    static final String ID = "scrypt";
+
+    private static final String PREFIX = "$scrypt$";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final int logN;
+    private final int r;
+    private final int p;
+    private final SecureRandom random = new SecureRandom();
+
+    ScryptHashingScheme(int logN, int r, int p) {
+        if (logN < 1 || logN > 24 || r < 1 || p < 1) {
+            throw new IllegalArgumentException("Invalid scrypt parameters");
+        }
+        this.logN = logN;
+        this.r = r;
+        this.p = p;
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public boolean supports(String encodedHash) {
+        return encodedHash.startsWith(PREFIX);
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+
+        byte[] hash = Scrypt.derive(rawPassword.getBytes(StandardCharsets.UTF_8), salt, 1 << logN, r, p, HASH_BYTES);
+        return PREFIX + "ln=" + logN + ",r=" + r + ",p=" + p
+            + "$" + ENCODER.encodeToString(salt)
+            + "$" + ENCODER.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedHash) {
+        Parsed parsed = parse(encodedHash);
+        if (parsed == null) {
+            return false;
+        }
+
+        byte[] candidate = Scrypt.derive(
+            rawPassword.getBytes(StandardCharsets.UTF_8),
+            parsed.salt(),
+            1 << parsed.logN(),
+            parsed.r(),
+            parsed.p(),
+            parsed.hash().length
+        );
+        return MessageDigest.isEqual(candidate, parsed.hash());
+    }
+
+    @Override
+    public boolean hasCurrentParameters(String encodedHash) {
+        Parsed parsed = parse(encodedHash);
+        return parsed != null && parsed.logN() == logN && parsed.r() == r && parsed.p() == p;
+    }
+
+    private record Parsed(int logN, int r, int p, byte[] salt, byte[] hash) {
+    }
+
+    private static Parsed parse(String encodedHash) {
+        if (!encodedHash.startsWith(PREFIX)) {
+            return null;
+        }
+        String[] parts = encodedHash.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            return null;
+        }
+
+        int logN = -1;
+        int r = -1;
+        int p = -1;
+        try {
+            for (String param : parts[0].split(",")) {
+                int eq = param.indexOf('=');
+                if (eq < 0) {
+                    return null;
+                }
+                int value = Integer.parseInt(param.substring(eq + 1));
+                switch (param.substring(0, eq)) {
+                    case "ln" -> logN = value;
+                    case "r" -> r = value;
+                    case "p" -> p = value;
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+            if (logN < 1 || logN > 24 || r < 1 || p < 1) {
+                return null;
+            }
+            return new Parsed(logN, r, p, DECODER.decode(parts[1]), DECODER.decode(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -34,7 +34,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
                 // Public auth endpoints (password-based)
-                .requestMatchers("/auth/register", "/auth/login").permitAll()
+                .requestMatchers("/auth/register", "/auth/login", "/auth/refresh").permitAll()
                 .requestMatchers("/auth/oauth/login", "/auth/oauth/register").permitAll()
 
                 // 🔓 Public OAuth endpoints (NO JWT required)
@@ -0,0 +1,117 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.persistence.user.UserTokenWatermarkJpaEntity;
+import com.estim.javaapi.infrastructure.persistence.user.UserTokenWatermarkJpaRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user "access tokens issued before this instant are revoked" watermarks.
+ *
+ * Checks are served from a {@link ConcurrentHashMap} (lock-striped per bin)
+ * so validating an access token never touches the database and costs one
+ * map lookup regardless of how many tokens are outstanding. Watermarks are
+ * persisted, and the ones younger than the access-token TTL (older ones
+ * cannot reject anything) are loaded on startup and re-read periodically,
+ * so a revocation made through another instance is enforced here within
+ * one sync interval.
+ *
+ * JWT {@code iat} has one-second resolution, so a token issued in the same
+ * second as the revocation is still accepted.
+ */
+@Component
+public class TokenRevocationWatermarks {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationWatermarks.class);
+
+    private final ConcurrentHashMap<UUID, Long> notBeforeSeconds = new ConcurrentHashMap<>();
+    private final UserTokenWatermarkJpaRepository repository;
+    private final Duration accessTokenTtl;
+    private final Duration syncInterval;
+    private final ScheduledExecutorService scheduler;
+
+    public TokenRevocationWatermarks(
+        UserTokenWatermarkJpaRepository repository,
+        @Value("${security.jwt.access-token-ttl:PT15M}") Duration accessTokenTtl,
+        @Value("${security.jwt.revocation-sync-interval:PT5S}") Duration syncInterval
+    ) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.accessTokenTtl = Objects.requireNonNull(accessTokenTtl, "accessTokenTtl must not be null");
+        this.syncInterval = Objects.requireNonNull(syncInterval, "syncInterval must not be null");
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Rejects every access token of the user issued before now.
+     */
+    public void revokeIssuedBefore(UserId userId, Instant instant) {
+        Objects.requireNonNull(userId, "userId must not be null");
+        Instant notBefore = instant.truncatedTo(ChronoUnit.SECONDS);
+
+        notBeforeSeconds.merge(userId.value(), notBefore.getEpochSecond(), Math::max);
+        repository.save(new UserTokenWatermarkJpaEntity(userId.value(), notBefore));
+    }
+
+    public boolean isRevoked(UserId userId, Instant issuedAt) {
+        Long notBefore = notBeforeSeconds.get(userId.value());
+        if (notBefore == null) {
+            return false;
+        }
+        if (notBefore < Instant.now().minus(accessTokenTtl).getEpochSecond()) {
+            // Every token this watermark could reject has expired on its own
+            notBeforeSeconds.remove(userId.value(), notBefore);
+            return false;
+        }
+        return issuedAt.getEpochSecond() < notBefore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::sync, 0, syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Merges in every persisted watermark that can still reject a token.
+     */
+    void sync() {
+        Instant since = Instant.now().minus(accessTokenTtl);
+        try {
+            for (UserTokenWatermarkJpaEntity watermark : repository.findByNotBeforeAfter(since)) {
+                notBeforeSeconds.merge(watermark.getUserId(), watermark.getNotBefore().getEpochSecond(), Math::max);
+            }
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Could not sync token revocation watermarks", ex);
+        } catch (RuntimeException ex) {
+            // Keep the scheduled sync alive
+            log.error("Unexpected error while syncing token revocation watermarks", ex);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.domain.user.UserId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Outcome of a successful access-token verification.
+ */
+public record VerifiedAccessToken(UserId userId, Instant issuedAt, Instant expiresAt) {
+
+    public VerifiedAccessToken {
+        Objects.requireNonNull(userId, "userId must not be null");
+        Objects.requireNonNull(issuedAt, "issuedAt must not be null");
+        Objects.requireNonNull(expiresAt, "expiresAt must not be null");
+    }
+}
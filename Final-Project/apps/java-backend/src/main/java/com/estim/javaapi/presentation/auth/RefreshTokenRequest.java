@@ -0,0 +1,5 @@
+package com.estim.javaapi.presentation.auth;
+
+public record RefreshTokenRequest(
+    String refreshToken
+) {}
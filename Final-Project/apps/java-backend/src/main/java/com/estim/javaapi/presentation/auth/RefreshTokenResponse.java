@@ -0,0 +1,6 @@
+package com.estim.javaapi.presentation.auth;
+
+public record RefreshTokenResponse(
+    String accessToken,
+    String refreshToken
+) {}
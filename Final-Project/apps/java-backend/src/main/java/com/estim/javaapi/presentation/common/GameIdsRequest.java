@@ -0,0 +1,40 @@
+package com.estim.javaapi.presentation.common;
+
+import com.estim.javaapi.domain.library.GameId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request body for endpoints that check many games at once.
+ *
+ * Example JSON:
+ * {
+ *   "gameIds": [
+ *     "b9e8b7b2-9cfe-4f2a-8b5a-2a4b731c1234",
+ *     "0f0c5a35-6b1e-4f4e-9d07-0d7b2f3f9a10"
+ *   ]
+ * }
+ */
+public record GameIdsRequest(
+    List<UUID> gameIds
+) {
+
+    /**
+     * @throws IllegalArgumentException if the list is missing or contains null
+     */
+    public List<GameId> toGameIds() {
+        if (gameIds == null) {
+            throw new IllegalArgumentException("gameIds must not be null");
+        }
+        List<GameId> result = new ArrayList<>(gameIds.size());
+        for (UUID gameId : gameIds) {
+            if (gameId == null) {
+                throw new IllegalArgumentException("gameIds must not contain null");
+            }
+            result.add(GameId.of(gameId));
+        }
+        return result;
+    }
+}
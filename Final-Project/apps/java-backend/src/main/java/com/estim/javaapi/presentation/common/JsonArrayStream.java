@@ -0,0 +1,42 @@
+package com.estim.javaapi.presentation.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes a JSON array element by element, so a response body can be
+ * produced from a row source without collecting it first.
+ */
+public final class JsonArrayStream {
+
+    private JsonArrayStream() {
+    }
+
+    /**
+     * Opens the array on {@code out}, lets {@code producer} push elements
+     * into the given sink, then closes the array and the stream.
+     */
+    public static <T> void write(ObjectMapper objectMapper,
+                                 OutputStream out,
+                                 Consumer<Consumer<T>> producer) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartArray();
+            producer.accept(element -> {
+                try {
+                    json.writeObject(element);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            json.writeEndArray();
+        } catch (UncheckedIOException ex) {
+            // Typically the client went away; the producer has stopped at this point
+            throw ex.getCause();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.estim.javaapi.presentation.common;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list. {@code nextCursor} is null on the
+ * last page; otherwise it is passed back as {@code cursor} to get the next one.
+ */
+public record PageResponse<T>(
+    List<T> items,
+    String nextCursor
+) {}
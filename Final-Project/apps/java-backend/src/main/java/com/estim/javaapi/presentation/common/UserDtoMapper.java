@@ -1,7 +1,6 @@
 package com.estim.javaapi.presentation.common;
 
 import com.estim.javaapi.domain.user.User;
-import com.estim.javaapi.domain.user.UserProfile;
 import com.estim.javaapi.domain.user.PrivacySettings;
 import com.estim.javaapi.presentation.auth.AuthenticatedUserSummary;
 import com.estim.javaapi.presentation.auth.CurrentUserResponse;
@@ -10,6 +9,7 @@ import com.estim.javaapi.presentation.profile.UserProfileResponse;
 import com.estim.javaapi.presentation.auth.LoginResponse;
 import com.estim.javaapi.presentation.auth.RegisterUserResponse;
 import com.estim.javaapi.application.auth.AuthenticationResult;
+import com.estim.javaapi.application.profile.UserSummary;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -18,12 +18,12 @@ public final class UserDtoMapper {
     private UserDtoMapper() {
     }
 
-    public static CurrentUserResponse toCurrentUserResponse(User user) {
+    public static CurrentUserResponse toCurrentUserResponse(UserSummary user) {
         return new CurrentUserResponse(
-            user.id().toString(),
-            user.email().value(),
-            user.profile() != null ? user.profile().displayName() : null,
-            user.profile() != null ? user.profile().avatarUrl() : null,
+            user.userId().toString(),
+            user.email(),
+            user.displayName(),
+            user.avatarUrl(),
             user.emailVerified()
         );
     }
@@ -37,21 +37,17 @@ public final class UserDtoMapper {
         );
     }
 
-    public static UserProfileResponse toUserProfileResponse(User user) {
-        UserProfile profile = user.profile();
-        PrivacySettings privacy = profile != null ? profile.privacySettings() : null;
-
+    public static UserProfileResponse toUserProfileResponse(UserSummary user) {
         return new UserProfileResponse(
-            user.id().toString(),
-            profile != null ? profile.displayName() : null,
-            profile != null ? profile.avatarUrl() : null,
+            user.userId().toString(),
+            user.displayName(),
+            user.avatarUrl(),
             null,  // bio no longer stored
             null,  // location no longer stored
-            toPrivacySettingsResponse(privacy)
+            toPrivacySettingsResponse(user.privacy())
         );
     }
 
-
     private static PrivacySettingsResponse toPrivacySettingsResponse(PrivacySettings privacy) {
         if (privacy == null) {
             return null;
@@ -0,0 +1,14 @@
+package com.estim.javaapi.presentation.library;
+
+import java.util.UUID;
+
+/**
+ * API response telling whether a game is in the current user's library
+ * and in their wishlist, for "owned" / "wishlisted" badges.
+ */
+public record GameMembershipResponse(
+    UUID gameId,
+    boolean owned,
+    boolean wishlisted
+) {
+}
@@ -0,0 +1,219 @@
+package com.estim.javaapi.application.catalog;
+
+import com.estim.javaapi.domain.library.GameId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameCardCacheTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+    private final GameId first = GameId.of(UUID.randomUUID());
+    private final GameId second = GameId.of(UUID.randomUUID());
+
+    private GameCardCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GameCardCache(
+            jdbcTemplate,
+            transactionManager,
+            100,
+            Duration.ofMinutes(10),
+            Duration.ofSeconds(5),
+            new SimpleMeterRegistry()
+        );
+        jdbcTemplate.save(card(first, "19.99"));
+        jdbcTemplate.save(card(second, "29.99"));
+    }
+
+    @Test
+    void getAll_loadsMissesInOneQuery_andServesThemFromTheCacheAfterwards() {
+        // Act
+        Map<GameId, GameCard> loaded = cache.getAll(List.of(first, second));
+        Map<GameId, GameCard> cached = cache.getAll(List.of(first, second));
+
+        // Assert
+        assertEquals(1, jdbcTemplate.loads);
+        assertEquals(loaded, cached);
+        assertEquals(new BigDecimal("19.99"), cached.get(first).price());
+    }
+
+    @Test
+    void getAll_leavesOutGamesThatDoNotExist() {
+        // Arrange
+        GameId unknown = GameId.of(UUID.randomUUID());
+
+        // Act
+        Map<GameId, GameCard> cards = cache.getAll(List.of(first, unknown));
+
+        // Assert
+        assertEquals(Map.of(first, card(first, "19.99")), cards);
+    }
+
+    @Test
+    void sync_refreshesCachedCardsInPlace() {
+        // Arrange
+        cache.getAll(List.of(first));
+        jdbcTemplate.change(card(first, "9.99"));
+
+        // Act
+        cache.sync();
+
+        // Assert
+        assertEquals(new BigDecimal("9.99"), cache.getAll(List.of(first)).get(first).price());
+        assertEquals(1, jdbcTemplate.loads);
+    }
+
+    @Test
+    void sync_doesNotCacheChangedGamesNobodyListed() {
+        // Arrange
+        jdbcTemplate.change(card(first, "9.99"));
+
+        // Act
+        cache.sync();
+        cache.getAll(List.of(first));
+
+        // Assert
+        assertEquals(1, jdbcTemplate.loads);
+    }
+
+    @Test
+    void getAll_doesNotCacheALoadThatRacedWithASync() {
+        // Arrange
+        jdbcTemplate.duringLoad = () -> {
+            jdbcTemplate.duringLoad = () -> { };
+            jdbcTemplate.change(card(first, "9.99"));
+            cache.sync();
+        };
+
+        // Act
+        cache.getAll(List.of(first));
+        Map<GameId, GameCard> cards = cache.getAll(List.of(first));
+
+        // Assert
+        assertEquals(2, jdbcTemplate.loads);
+        assertEquals(new BigDecimal("9.99"), cards.get(first).price());
+    }
+
+    @Test
+    void sync_dropsCardsOfDeletedGames() {
+        // Arrange
+        cache.getAll(List.of(first, second));
+        jdbcTemplate.delete(second);
+
+        // Act
+        cache.sync();
+        Map<GameId, GameCard> cards = cache.getAll(List.of(first, second));
+
+        // Assert
+        assertEquals(Map.of(first, card(first, "19.99")), cards);
+        assertEquals(2, jdbcTemplate.loads);
+    }
+
+    private static GameCard card(GameId gameId, String price) {
+        return new GameCard(gameId, "Game", new BigDecimal(price), new BigDecimal("29.99"), null);
+    }
+
+    /**
+     * Answers the cache's queries from an in-memory games table, telling
+     * them apart by their SQL.
+     */
+    private static final class StubJdbcTemplate extends JdbcTemplate {
+
+        private final Map<GameId, GameCard> games = new HashMap<>();
+        private final List<GameCard> changed = new ArrayList<>();
+        private Runnable duringLoad = () -> { };
+        private int loads;
+
+        void save(GameCard card) {
+            games.put(card.gameId(), card);
+        }
+
+        void change(GameCard card) {
+            games.put(card.gameId(), card);
+            changed.add(card);
+        }
+
+        void delete(GameId gameId) {
+            games.remove(gameId);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            List<GameCard> result = List.copyOf(changed);
+            changed.clear();
+            return (List<T>) result;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> query(PreparedStatementCreator psc, RowMapper<T> rowMapper) {
+            String[] sql = new String[1];
+            Object[][] ids = new Object[1][];
+            try {
+                Connection con = mock(Connection.class);
+                when(con.createArrayOf(eq("uuid"), any())).thenAnswer(invocation -> {
+                    ids[0] = invocation.getArgument(1);
+                    return mock(Array.class);
+                });
+                when(con.prepareStatement(anyString())).thenAnswer(invocation -> {
+                    sql[0] = invocation.getArgument(0);
+                    return mock(PreparedStatement.class);
+                });
+                psc.createPreparedStatement(con);
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+
+            List<GameId> requested = Arrays.stream(ids[0])
+                .map(id -> GameId.of((UUID) id))
+                .toList();
+            if (!sql[0].contains("title")) {
+                return (List<T>) requested.stream()
+                    .filter(games::containsKey)
+                    .map(GameId::getValue)
+                    .toList();
+            }
+
+            loads++;
+            duringLoad.run();
+            return (List<T>) requested.stream()
+                .map(games::get)
+                .filter(Objects::nonNull)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.estim.javaapi.application.library;
+
+import com.estim.javaapi.domain.common.DomainEventPublisher;
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.library.LibraryEntry;
+import com.estim.javaapi.domain.library.LibraryEntrySource;
+import com.estim.javaapi.domain.library.LibraryRepository;
+import com.estim.javaapi.domain.library.events.GameAddedToLibrary;
+import com.estim.javaapi.domain.user.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkGrantLibraryServiceTest {
+
+    @Mock
+    private LibraryRepository libraryRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserId userId = new UserId(UUID.randomUUID());
+    private final GameId owned = GameId.of(UUID.randomUUID());
+
+    private BulkGrantLibraryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkGrantLibraryService(libraryRepository, eventPublisher, transactionManager, 2, meterRegistry);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // The repository skips games the user already owns
+        lenient().when(libraryRepository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<LibraryEntry> entries = invocation.getArgument(0);
+            return entries.stream()
+                .filter(entry -> !entry.getGameId().equals(owned))
+                .toList();
+        });
+    }
+
+    @Test
+    void grant_countsRequestedAndInsertedEntriesAcrossChunks() {
+        // Arrange
+        List<AddGameToLibraryCommand> grants = new ArrayList<>();
+        grants.add(grant(owned));
+        for (int i = 0; i < 4; i++) {
+            grants.add(grant(GameId.of(UUID.randomUUID())));
+        }
+
+        // Act
+        BulkGrantResult result = service.grant(grants.stream());
+
+        // Assert
+        assertEquals(5, result.requested());
+        assertEquals(4, result.inserted());
+        verify(libraryRepository, times(3)).insertAllIfAbsent(anyList());
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(4.0, meterRegistry.get("library.bulk-grant.rows").tag("result", "inserted").counter().count());
+        assertEquals(1.0, meterRegistry.get("library.bulk-grant.rows").tag("result", "skipped").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void grant_publishesEventsOnlyForInsertedEntries() {
+        // Arrange
+        GameId granted = GameId.of(UUID.randomUUID());
+        ArgumentCaptor<List<GameAddedToLibrary>> events = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        service.grant(Stream.of(grant(owned), grant(granted)));
+
+        // Assert
+        verify(eventPublisher).publishAll(events.capture());
+        assertEquals(List.of(granted), events.getValue().stream().map(GameAddedToLibrary::getGameId).toList());
+    }
+
+    @Test
+    void grant_ofNothing_insertsNothing() {
+        // Act
+        BulkGrantResult result = service.grant(Stream.empty());
+
+        // Assert
+        assertEquals(0, result.requested());
+        assertEquals(0, result.inserted());
+        verifyNoInteractions(libraryRepository);
+    }
+
+    private AddGameToLibraryCommand grant(GameId gameId) {
+        return new AddGameToLibraryCommand(userId, gameId, LibraryEntrySource.GIFT);
+    }
+}
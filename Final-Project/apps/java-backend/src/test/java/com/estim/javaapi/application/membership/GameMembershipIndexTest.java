@@ -0,0 +1,194 @@
+package com.estim.javaapi.application.membership;
+
+import com.estim.javaapi.application.catalog.GameDictionary;
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.user.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameMembershipIndexTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+    private final UserId userId = new UserId(UUID.randomUUID());
+    private final GameId owned = GameId.of(UUID.randomUUID());
+    private final GameId wishlisted = GameId.of(UUID.randomUUID());
+    private final GameId ownedAndWishlisted = GameId.of(UUID.randomUUID());
+    private final GameId other = GameId.of(UUID.randomUUID());
+
+    private GameMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GameMembershipIndex(
+            jdbcTemplate,
+            transactionManager,
+            new GameDictionary(new SimpleMeterRegistry()),
+            100,
+            Duration.ofMinutes(10),
+            new SimpleMeterRegistry()
+        );
+        jdbcTemplate.owns(userId, owned);
+        jdbcTemplate.wishlists(userId, wishlisted);
+        jdbcTemplate.owns(userId, ownedAndWishlisted);
+        jdbcTemplate.wishlists(userId, ownedAndWishlisted);
+    }
+
+    @Test
+    void membershipOf_readsBothBitmaps_inTheOrderGiven() {
+        // Act
+        Map<GameId, GameMembership> result = index.membershipOf(
+            userId, List.of(other, ownedAndWishlisted, wishlisted, owned, other));
+
+        // Assert
+        assertEquals(List.of(other, ownedAndWishlisted, wishlisted, owned), List.copyOf(result.keySet()));
+        assertEquals(new GameMembership(true, false), result.get(owned));
+        assertEquals(new GameMembership(false, true), result.get(wishlisted));
+        assertEquals(new GameMembership(true, true), result.get(ownedAndWishlisted));
+        assertEquals(GameMembership.NONE, result.get(other));
+    }
+
+    @Test
+    void membershipOf_loadsAUserOnFirstUseOnly() {
+        // Arrange
+        assertEquals(0, jdbcTemplate.queries);
+
+        // Act
+        index.membershipOf(userId, List.of(owned));
+        index.membershipOf(userId, List.of(wishlisted, other));
+
+        // Assert
+        assertEquals(1, jdbcTemplate.queries);
+    }
+
+    @Test
+    void changes_updateACachedUserInPlace() {
+        // Arrange
+        index.membershipOf(userId, List.of(owned));
+
+        // Act
+        index.addedToLibrary(userId, other);
+        index.addedToWishlist(userId, owned);
+        index.removedFromWishlist(userId, wishlisted);
+        Map<GameId, GameMembership> result = index.membershipOf(userId, List.of(other, owned, wishlisted));
+
+        // Assert
+        assertEquals(new GameMembership(true, false), result.get(other));
+        assertEquals(new GameMembership(true, true), result.get(owned));
+        assertEquals(GameMembership.NONE, result.get(wishlisted));
+        assertEquals(1, jdbcTemplate.queries);
+    }
+
+    @Test
+    void changes_toAnUncachedUser_loadNothing() {
+        // Act
+        index.addedToLibrary(userId, other);
+        index.addedToWishlist(userId, other);
+        index.removedFromWishlist(userId, wishlisted);
+
+        // Assert
+        assertEquals(0, jdbcTemplate.queries);
+    }
+
+    @Test
+    void load_thatRacedWithAChangeOfTheSameUser_isNotCached() {
+        // Arrange: the game is wishlisted after the load has read its rows
+        jdbcTemplate.duringQuery = () -> {
+            jdbcTemplate.wishlists(userId, other);
+            index.addedToWishlist(userId, other);
+        };
+        index.membershipOf(userId, List.of(other));
+
+        // Act
+        Map<GameId, GameMembership> result = index.membershipOf(userId, List.of(other));
+
+        // Assert
+        assertEquals(new GameMembership(false, true), result.get(other));
+        assertEquals(2, jdbcTemplate.queries);
+    }
+
+    @Test
+    void load_thatRacedWithAChangeOfAnotherUser_isStillCached() {
+        // Arrange
+        UserId otherUser = new UserId(UUID.randomUUID());
+        jdbcTemplate.duringQuery = () -> index.addedToWishlist(otherUser, other);
+        index.membershipOf(userId, List.of(owned));
+
+        // Act
+        index.membershipOf(userId, List.of(owned));
+
+        // Assert
+        assertEquals(1, jdbcTemplate.queries);
+    }
+
+    @Test
+    void membershipOf_rejectsOversizedBatches() {
+        List<GameId> gameIds = new ArrayList<>();
+        for (int i = 0; i <= GameMembershipIndex.MAX_BATCH_SIZE; i++) {
+            gameIds.add(GameId.of(UUID.randomUUID()));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> index.membershipOf(userId, gameIds));
+    }
+
+    /**
+     * Serves the membership query from in-memory rows.
+     */
+    private static final class StubJdbcTemplate extends JdbcTemplate {
+
+        private final Map<UUID, List<Object[]>> rows = new HashMap<>();
+        private int queries;
+        private Runnable duringQuery;
+
+        void owns(UserId userId, GameId gameId) {
+            rows.computeIfAbsent(userId.value(), id -> new ArrayList<>()).add(new Object[] {gameId.getValue(), true});
+        }
+
+        void wishlists(UserId userId, GameId gameId) {
+            rows.computeIfAbsent(userId.value(), id -> new ArrayList<>()).add(new Object[] {gameId.getValue(), false});
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            queries++;
+            List<Object[]> snapshot = List.copyOf(rows.getOrDefault((UUID) args[0], List.of()));
+            if (duringQuery != null) {
+                Runnable hook = duringQuery;
+                duringQuery = null;
+                hook.run();
+            }
+            try {
+                for (Object[] row : snapshot) {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getObject("game_id", UUID.class)).thenReturn((UUID) row[0]);
+                    when(rs.getBoolean("owned")).thenReturn((Boolean) row[1]);
+                    rch.processRow(rs);
+                }
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.estim.javaapi.application.profile;
+
+import com.estim.javaapi.domain.user.PrivacySettings;
+import com.estim.javaapi.domain.user.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryReaderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<UUID, Runnable> duringLoad = new HashMap<>();
+    private UserSummaryReader reader;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object.class))).thenAnswer(invocation -> {
+            UUID id = invocation.getArgument(2);
+            Runnable hook = duringLoad.remove(id);
+            if (hook != null) {
+                hook.run();
+            }
+            return id.getLeastSignificantBits() == 0L ? List.of() : List.of(summary(id));
+        });
+        reader = new UserSummaryReader(jdbcTemplate, transactionManager, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void findById_servesRepeatedLookupsFromTheCache() {
+        // Arrange
+        UserId userId = new UserId(UUID.randomUUID());
+
+        // Act
+        Optional<UserSummary> first = reader.findById(userId);
+        Optional<UserSummary> second = reader.findById(userId);
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals(userId, second.orElseThrow().userId());
+        verifyLoads(1);
+    }
+
+    @Test
+    void evict_makesTheNextLookupReload() {
+        // Arrange
+        UserId userId = new UserId(UUID.randomUUID());
+        reader.findById(userId);
+
+        // Act
+        reader.evict(userId);
+        reader.findById(userId);
+
+        // Assert
+        verifyLoads(2);
+    }
+
+    @Test
+    void findById_doesNotCacheALoadThatRacedWithAnEvictionOfTheSameUser() {
+        // Arrange
+        UserId userId = new UserId(UUID.randomUUID());
+        duringLoad.put(userId.value(), () -> reader.evict(userId));
+
+        // Act
+        reader.findById(userId);
+        reader.findById(userId);
+
+        // Assert
+        verifyLoads(2);
+    }
+
+    @Test
+    void findById_stillCaches_whenAnotherUserIsEvictedDuringTheLoad() {
+        // Arrange
+        UserId userId = new UserId(UUID.randomUUID());
+        UserId otherUser = new UserId(UUID.randomUUID());
+        duringLoad.put(userId.value(), () -> reader.evict(otherUser));
+
+        // Act
+        reader.findById(userId);
+        reader.findById(userId);
+
+        // Assert
+        verifyLoads(1);
+    }
+
+    @Test
+    void findById_ofAMissingUser_isEmptyAndNotCached() {
+        // Arrange
+        UserId missing = new UserId(new UUID(1L, 0L));
+
+        // Act
+        Optional<UserSummary> first = reader.findById(missing);
+        reader.findById(missing);
+
+        // Assert
+        assertTrue(first.isEmpty());
+        verifyLoads(2);
+    }
+
+    private void verifyLoads(int times) {
+        verify(jdbcTemplate, times(times)).query(anyString(), any(RowMapper.class), any(Object.class));
+    }
+
+    private static UserSummary summary(UUID id) {
+        return new UserSummary(
+            new UserId(id),
+            "player@example.com",
+            "player",
+            null,
+            true,
+            new PrivacySettings(true, true, true)
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package com.estim.javaapi.application.wishlist;
+
+import com.estim.javaapi.domain.common.DomainEvent;
+import com.estim.javaapi.domain.common.DomainEventPublisher;
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.library.LibraryRepository;
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.domain.wishlist.WishlistRepository;
+import com.estim.javaapi.domain.wishlist.events.GameAddedToWishlist;
+import com.estim.javaapi.domain.wishlist.events.GameRemovedFromWishlist;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Bulk wishlist changes publish one event per game the statement actually
+ * changed, and nothing for games it skipped.
+ */
+@ExtendWith(MockitoExtension.class)
+class AddGamesToWishlistServiceTest {
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+
+    @Mock
+    private LibraryRepository libraryRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private final UserId userId = new UserId(UUID.randomUUID());
+    private final GameId owned = GameId.of(UUID.randomUUID());
+    private final GameId alreadyWishlisted = GameId.of(UUID.randomUUID());
+    private final GameId fresh = GameId.of(UUID.randomUUID());
+
+    private AddGamesToWishlistService addService;
+    private RemoveGamesFromWishlistService removeService;
+
+    @BeforeEach
+    void setUp() {
+        addService = new AddGamesToWishlistService(wishlistRepository, libraryRepository, eventPublisher);
+        removeService = new RemoveGamesFromWishlistService(wishlistRepository, eventPublisher);
+    }
+
+    @Test
+    void addToWishlist_skipsOwnedGames_andPublishesOnlyForAddedOnes() {
+        // Arrange
+        List<GameId> requested = List.of(owned, alreadyWishlisted, fresh);
+        when(libraryRepository.findGameIdsIn(userId, requested)).thenReturn(Set.of(owned));
+        when(wishlistRepository.addAll(userId, List.of(alreadyWishlisted, fresh))).thenReturn(List.of(fresh));
+
+        // Act
+        List<GameId> added = addService.addToWishlist(new AddGamesToWishlistCommand(userId, requested));
+
+        // Assert
+        assertEquals(List.of(fresh), added);
+        List<DomainEvent> events = publishedEvents();
+        assertEquals(1, events.size());
+        GameAddedToWishlist event = (GameAddedToWishlist) events.get(0);
+        assertEquals(userId, event.getUserId());
+        assertEquals(fresh, event.getGameId());
+    }
+
+    @Test
+    void addToWishlist_rejectsOversizedBatches() {
+        // Arrange
+        List<GameId> requested = new ArrayList<>();
+        for (int i = 0; i <= AddGamesToWishlistService.MAX_GAMES; i++) {
+            requested.add(GameId.of(UUID.randomUUID()));
+        }
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> addService.addToWishlist(new AddGamesToWishlistCommand(userId, requested)));
+        verifyNoInteractions(wishlistRepository, eventPublisher);
+    }
+
+    @Test
+    void removeFromWishlist_publishesOnlyForRemovedGames() {
+        // Arrange
+        List<GameId> requested = List.of(alreadyWishlisted, fresh);
+        when(wishlistRepository.removeAll(userId, requested)).thenReturn(List.of(alreadyWishlisted));
+
+        // Act
+        List<GameId> removed = removeService.removeFromWishlist(new RemoveGamesFromWishlistCommand(userId, requested));
+
+        // Assert
+        assertEquals(List.of(alreadyWishlisted), removed);
+        List<DomainEvent> events = publishedEvents();
+        assertEquals(1, events.size());
+        assertEquals(alreadyWishlisted, ((GameRemovedFromWishlist) events.get(0)).getGameId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DomainEvent> publishedEvents() {
+        ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,181 @@
+package com.estim.javaapi.application.wishlist;
+
+import com.estim.javaapi.domain.common.DomainEventPublisher;
+import com.estim.javaapi.domain.wishlist.events.WishlistNotificationTriggered;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WishlistNotificationEngineTest {
+
+    private static final UUID FIRST_USER = new UUID(0L, 0L);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private final UUID gameId = UUID.randomUUID();
+    private final Deque<ResultSet> pendingJobs = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenAnswer(invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(1);
+            ResultSet row = pendingJobs.poll();
+            return row == null ? List.of() : List.of(mapper.mapRow(row, 0));
+        });
+    }
+
+    @Test
+    void poll_notifiesEveryWishlistingUserAndCompletesTheJob() throws Exception {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        pendingJobs.add(jobRow(7L, "PRICE_DROP", null));
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(gameId), eq(FIRST_USER), eq("priceDrop"), eq(3)))
+            .thenReturn(List.of(first, second));
+
+        // Act
+        engine(3, true).poll();
+
+        // Assert
+        List<WishlistNotificationTriggered> events = publishedEvents();
+        assertEquals(2, events.size());
+        assertEquals(first, events.get(0).getUserId().value());
+        assertEquals(second, events.get(1).getUserId().value());
+        assertEquals(gameId, events.get(0).getGameId().getValue());
+        assertEquals(new BigDecimal("50.00"), events.get(0).getPreviousPrice());
+        assertEquals(new BigDecimal("40.00"), events.get(0).getCurrentPrice());
+        assertEquals(new BigDecimal("20.00"), events.get(0).getDiscountPercentage());
+        verify(jdbcTemplate).update(anyString(), eq(second), eq(true), eq(7L));
+    }
+
+    @Test
+    void poll_resumesAfterTheLastNotifiedUserOneBatchAtATime() throws Exception {
+        // Arrange
+        UUID alreadyNotified = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        pendingJobs.add(jobRow(7L, "PRICE_DROP", alreadyNotified));
+        pendingJobs.add(jobRow(7L, "PRICE_DROP", second));
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(gameId), eq(alreadyNotified), eq("priceDrop"), eq(2)))
+            .thenReturn(List.of(first, second));
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(gameId), eq(second), eq("priceDrop"), eq(2)))
+            .thenReturn(List.of());
+
+        // Act
+        engine(2, true).poll();
+
+        // Assert
+        verify(jdbcTemplate).update(anyString(), eq(second), eq(false), eq(7L));
+        verify(jdbcTemplate).update(anyString(), eq(second), eq(true), eq(7L));
+        verify(eventPublisher, times(2)).awaitCapacity();
+    }
+
+    @Test
+    void poll_honoursThePromotionPreferenceForPromotionJobs() {
+        // Arrange
+        pendingJobs.add(jobRow(8L, "PROMOTION", null));
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(gameId), eq(FIRST_USER), eq("newPromotion"), eq(3)))
+            .thenReturn(List.of());
+
+        // Act
+        engine(3, true).poll();
+
+        // Assert
+        verify(jdbcTemplate).update(anyString(), isNull(), eq(true), eq(8L));
+    }
+
+    @Test
+    void poll_keepsRunningWhenTheDatabaseFails() {
+        // Arrange
+        when(jdbcTemplate.update(anyString())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        // Act / Assert
+        assertDoesNotThrow(() -> engine(3, true).poll());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void start_doesNotPollWithoutTheOutbox() {
+        // Arrange
+        WishlistNotificationEngine engine = engine(3, false);
+
+        // Act
+        engine.start();
+
+        // Assert
+        try {
+            verify(jdbcTemplate, after(100).never()).update(anyString());
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    private WishlistNotificationEngine engine(int batchSize, boolean outboxEnabled) {
+        return new WishlistNotificationEngine(
+            jdbcTemplate,
+            transactionManager,
+            eventPublisher,
+            true,
+            outboxEnabled,
+            batchSize,
+            Duration.ofMillis(1),
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WishlistNotificationTriggered> publishedEvents() {
+        ArgumentCaptor<List<WishlistNotificationTriggered>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private ResultSet jobRow(long id, String kind, UUID lastUserId) {
+        try {
+            ResultSet row = mock(ResultSet.class);
+            when(row.getLong("id")).thenReturn(id);
+            when(row.getObject("game_id", UUID.class)).thenReturn(gameId);
+            when(row.getString("kind")).thenReturn(kind);
+            when(row.getBigDecimal("previous_price")).thenReturn(new BigDecimal("50.00"));
+            when(row.getBigDecimal("current_price")).thenReturn(new BigDecimal("40.00"));
+            when(row.getBigDecimal("discount_percentage")).thenReturn(new BigDecimal("20.00"));
+            when(row.getObject("last_user_id", UUID.class)).thenReturn(lastUserId);
+            return row;
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
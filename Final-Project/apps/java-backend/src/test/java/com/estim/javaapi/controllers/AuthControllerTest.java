@@ -1,6 +1,7 @@
 package com.estim.javaapi.controllers;
 
 import com.estim.javaapi.application.auth.*;
+import com.estim.javaapi.application.profile.UserSummary;
 import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.domain.user.Email;
@@ -10,6 +11,7 @@ import com.estim.javaapi.presentation.auth.CurrentUserResponse;
 import com.estim.javaapi.presentation.common.UserDtoMapper;
 import com.estim.javaapi.infrastructure.security.AuthenticatedUser;
 import com.estim.javaapi.presentation.auth.LoginRequest;
+import com.estim.javaapi.presentation.auth.RefreshTokenRequest;
 import com.estim.javaapi.presentation.auth.RegisterUserRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -62,6 +64,9 @@ class AuthControllerTest {
     @MockitoBean
     private LogoutUserService logoutUserService;
 
+    @MockitoBean
+    private RefreshAccessTokenService refreshAccessTokenService;
+
     @MockitoBean
     private GetCurrentUserService getCurrentUserService;
 
@@ -278,6 +283,28 @@ class AuthControllerTest {
 
             verify(authenticateUserService).authenticate(any(AuthenticateUserCommand.class));
         }
+
+        @Test
+        @DisplayName("should return 503 SERVICE_BUSY with Retry-After when password hashing is saturated")
+        void loginRejectedWhenHashingSaturated() throws Exception {
+            // Given
+            LoginRequest request = new LoginRequest(
+                "john@example.com",
+                "StrongPass123!"
+            );
+
+            when(authenticateUserService.authenticate(any(AuthenticateUserCommand.class)))
+                .thenThrow(new PasswordHashingUnavailableException("Too many concurrent password operations, retry later"));
+
+            // When / Then
+            mockMvc.perform(post("/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("SERVICE_BUSY"));
+        }
     }
 
     // ======================================================
@@ -350,6 +377,73 @@ class AuthControllerTest {
                 cmd != null && cmd.accessToken() == null
             ));
         }
+
+        @Test
+        @DisplayName("should pass refresh token from the body to LogoutUserService and return 204")
+        void logoutWithRefreshToken() throws Exception {
+            // When / Then
+            mockMvc.perform(post("/auth/logout")
+                    .header("Authorization", "Bearer jwt-token-123")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh-token-456"))))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+            verify(logoutUserService).logout(argThat(cmd ->
+                cmd != null
+                    && "jwt-token-123".equals(cmd.accessToken())
+                    && "refresh-token-456".equals(cmd.refreshToken())
+            ));
+        }
+    }
+
+    // ======================================================
+    //                  /auth/refresh
+    // ======================================================
+
+    @Nested
+    @DisplayName("POST /auth/refresh")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("should exchange refresh token and return 200 + new token pair")
+        void refreshSuccess() throws Exception {
+            // Given
+            UserId userId = new UserId(UUID.randomUUID());
+            when(refreshAccessTokenService.refresh(any(RefreshAccessTokenCommand.class)))
+                .thenReturn(new TokenPair(userId, "new-access-token", "new-refresh-token"));
+
+            // When / Then
+            mockMvc.perform(post("/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh-token-456"))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.accessToken").value("new-access-token"))
+                .andExpect(jsonPath("$.refreshToken").value("new-refresh-token"));
+
+            verify(refreshAccessTokenService).refresh(argThat(cmd ->
+                cmd != null && "refresh-token-456".equals(cmd.refreshToken())
+            ));
+        }
+
+        @Test
+        @DisplayName("should return 401 AUTH_FAILED when the refresh token was already used")
+        void refreshReuseDetected() throws Exception {
+            // Given
+            when(refreshAccessTokenService.refresh(any(RefreshAccessTokenCommand.class)))
+                .thenThrow(new IllegalArgumentException("Refresh token reuse detected"));
+
+            // When / Then
+            mockMvc.perform(post("/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new RefreshTokenRequest("old-refresh-token"))))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("AUTH_FAILED"))
+                .andExpect(jsonPath("$.message").value("Refresh token reuse detected"));
+        }
     }
 
     // ======================================================
@@ -367,9 +461,9 @@ class AuthControllerTest {
             UserId userId = new UserId(rawUserId);
             AuthenticatedUser currentUser = new AuthenticatedUser(userId);
 
-            // Domain user (mock; we just pipe it to the mapper)
-            User domainUser = mock(User.class);
-            when(getCurrentUserService.getCurrentUser(userId)).thenReturn(domainUser);
+            // Read model (mock; we just pipe it to the mapper)
+            UserSummary summary = mock(UserSummary.class);
+            when(getCurrentUserService.getCurrentUser(userId)).thenReturn(summary);
 
             // Mock the static mapper to return a canned response
             CurrentUserResponse expectedResponse = new CurrentUserResponse(
@@ -381,7 +475,7 @@ class AuthControllerTest {
             );
 
             try (MockedStatic<UserDtoMapper> mapperMock = mockStatic(UserDtoMapper.class)) {
-                mapperMock.when(() -> UserDtoMapper.toCurrentUserResponse(domainUser))
+                mapperMock.when(() -> UserDtoMapper.toCurrentUserResponse(summary))
                     .thenReturn(expectedResponse);
 
                 // Act
@@ -1,18 +1,28 @@
 package com.estim.javaapi.controllers;
 
+import com.estim.javaapi.application.common.KeysetCursor;
 import com.estim.javaapi.application.library.AddGameToLibraryCommand;
 import com.estim.javaapi.application.library.AddGameToLibraryService;
+import com.estim.javaapi.application.library.AreGamesInLibraryQuery;
+import com.estim.javaapi.application.library.LibraryContainsService;
 import com.estim.javaapi.application.library.ListUserLibraryQuery;
 import com.estim.javaapi.application.library.ListUserLibraryService;
 import com.estim.javaapi.application.library.UpdateLibraryEntryService;
+import com.estim.javaapi.application.membership.GameMembership;
+import com.estim.javaapi.application.membership.GameMembershipIndex;
 import com.estim.javaapi.domain.library.GameId;
 import com.estim.javaapi.domain.library.LibraryEntry;
 import com.estim.javaapi.domain.library.LibraryEntryId;
 import com.estim.javaapi.domain.library.LibraryEntrySource;
 import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.infrastructure.security.AuthenticatedUser;
+import com.estim.javaapi.presentation.common.ErrorResponse;
+import com.estim.javaapi.presentation.common.GameIdsRequest;
+import com.estim.javaapi.presentation.common.PageResponse;
 import com.estim.javaapi.presentation.library.AddGameToLibraryRequest;
+import com.estim.javaapi.presentation.library.GameMembershipResponse;
 import com.estim.javaapi.presentation.library.LibraryEntryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,7 +33,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,6 +61,12 @@ class LibraryControllerTest {
     @Mock
     private AddGameToLibraryService addGameToLibraryService;
 
+    @Mock
+    private LibraryContainsService libraryContainsService;
+
+    @Mock
+    private GameMembershipIndex gameMembershipIndex;
+
     private LibraryController controller;
 
     @BeforeEach
@@ -56,7 +74,10 @@ class LibraryControllerTest {
         controller = new LibraryController(
             listUserLibraryService,
             updateLibraryEntryService,
-            addGameToLibraryService
+            addGameToLibraryService,
+            libraryContainsService,
+            gameMembershipIndex,
+            new ObjectMapper()
         );
     }
 
@@ -170,6 +191,102 @@ class LibraryControllerTest {
         verifyNoInteractions(listUserLibraryService, updateLibraryEntryService, addGameToLibraryService);
     }
 
+    @Test
+    void getMyLibraryPage_decodesCursorAndReturnsPage() {
+        // Arrange
+        UserId userId = new UserId(UUID.randomUUID());
+        AuthenticatedUser principal = new AuthenticatedUser(userId);
+
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-01-01T00:00:00Z"), UUID.randomUUID());
+        PageResponse<LibraryEntryResponse> page = new PageResponse<>(List.of(), null);
+
+        ListUserLibraryQuery expectedQuery = new ListUserLibraryQuery(userId);
+        when(listUserLibraryService.listUserLibraryPage(expectedQuery, cursor, 50))
+            .thenReturn(page);
+
+        // Act
+        ResponseEntity<?> response = controller.getMyLibraryPage(principal, 50, cursor.encode());
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(page, response.getBody());
+        verify(listUserLibraryService).listUserLibraryPage(expectedQuery, cursor, 50);
+    }
+
+    @Test
+    void getMyLibraryPage_returnsBadRequestForMalformedCursor() {
+        // Arrange
+        AuthenticatedUser principal = new AuthenticatedUser(new UserId(UUID.randomUUID()));
+
+        // Act
+        ResponseEntity<?> response = controller.getMyLibraryPage(principal, 50, "not-a-cursor");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(response.getBody() instanceof ErrorResponse);
+        verifyNoInteractions(listUserLibraryService);
+    }
+
+    @Test
+    void libraryContains_returnsOwnedFlagPerRequestedGame() {
+        // Arrange
+        UserId userId = new UserId(UUID.randomUUID());
+        AuthenticatedUser principal = new AuthenticatedUser(userId);
+
+        UUID ownedGame = UUID.randomUUID();
+        UUID otherGame = UUID.randomUUID();
+
+        Map<GameId, Boolean> owned = new LinkedHashMap<>();
+        owned.put(GameId.of(ownedGame), true);
+        owned.put(GameId.of(otherGame), false);
+
+        AreGamesInLibraryQuery expectedQuery =
+            new AreGamesInLibraryQuery(userId, List.of(GameId.of(ownedGame), GameId.of(otherGame)));
+        when(libraryContainsService.contains(expectedQuery)).thenReturn(owned);
+
+        // Act
+        ResponseEntity<?> response = controller.libraryContains(
+            principal, new GameIdsRequest(List.of(ownedGame, otherGame)));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Map.of(ownedGame, true, otherGame, false), response.getBody());
+        verify(libraryContainsService).contains(expectedQuery);
+        verifyNoInteractions(listUserLibraryService, updateLibraryEntryService, addGameToLibraryService);
+    }
+
+    @Test
+    void getMyGameMemberships_returnsMembershipPerRequestedGame() {
+        // Arrange
+        UserId userId = new UserId(UUID.randomUUID());
+        AuthenticatedUser principal = new AuthenticatedUser(userId);
+
+        UUID ownedGame = UUID.randomUUID();
+        UUID wishlistedGame = UUID.randomUUID();
+
+        Map<GameId, GameMembership> memberships = new LinkedHashMap<>();
+        memberships.put(GameId.of(ownedGame), new GameMembership(true, false));
+        memberships.put(GameId.of(wishlistedGame), new GameMembership(false, true));
+
+        when(gameMembershipIndex.membershipOf(userId, List.of(GameId.of(ownedGame), GameId.of(wishlistedGame))))
+            .thenReturn(memberships);
+
+        // Act
+        ResponseEntity<?> response = controller.getMyGameMemberships(
+            principal, new GameIdsRequest(List.of(ownedGame, wishlistedGame)));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(
+            List.of(
+                new GameMembershipResponse(ownedGame, true, false),
+                new GameMembershipResponse(wishlistedGame, false, true)
+            ),
+            response.getBody()
+        );
+        verifyNoInteractions(listUserLibraryService, updateLibraryEntryService, addGameToLibraryService);
+    }
+
     @Test
     void addGameToLibrary_returnsUnauthorizedWhenPrincipalIsNull() {
         // Arrange
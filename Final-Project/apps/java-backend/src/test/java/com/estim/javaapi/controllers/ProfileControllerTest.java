@@ -4,11 +4,9 @@ import com.estim.javaapi.application.profile.GetUserProfileQuery;
 import com.estim.javaapi.application.profile.GetUserProfileService;
 import com.estim.javaapi.application.profile.UpdateUserProfileCommand;
 import com.estim.javaapi.application.profile.UpdateUserProfileService;
-import com.estim.javaapi.domain.user.Email;
+import com.estim.javaapi.application.profile.UserSummary;
 import com.estim.javaapi.domain.user.PrivacySettings;
-import com.estim.javaapi.domain.user.User;
 import com.estim.javaapi.domain.user.UserId;
-import com.estim.javaapi.domain.user.UserProfile;
 import com.estim.javaapi.infrastructure.security.JwtAuthenticationProvider;
 import com.estim.javaapi.infrastructure.security.SecurityContext;
 import com.estim.javaapi.presentation.profile.UpdateUserProfileRequest;
@@ -58,40 +56,20 @@ class ProfileControllerTest {
     // ---------- Helper fixtures ----------
 
     /**
-     * Build a fully stubbed User with profile & privacy so UserDtoMapper works.
-     *
-     * NOTE: The "new" backend no longer exposes bio/location at domain level.
-     * UserProfile has: displayName, avatarUrl, PrivacySettings.
+     * Build a UserSummary with profile & privacy so UserDtoMapper works.
      */
-    private User buildTestUserWithProfile() {
-        User user = mock(User.class);
+    private UserSummary buildTestUserWithProfile() {
         UserId userId = mock(UserId.class);
-        Email email = mock(Email.class);
-        UserProfile profile = mock(UserProfile.class);
-        PrivacySettings privacy = mock(PrivacySettings.class);
-
-        // id
-        when(user.id()).thenReturn(userId);
         when(userId.toString()).thenReturn("user-123");
 
-        // email
-        when(user.email()).thenReturn(email);
-        when(email.value()).thenReturn("john@example.com");
-
-        // profile
-        when(user.profile()).thenReturn(profile);
-        when(profile.displayName()).thenReturn("John Doe");
-        when(profile.avatarUrl()).thenReturn("https://example.com/avatar.png");
-        // bio/location methods no longer exist on UserProfile in the new model
-
-        when(profile.privacySettings()).thenReturn(privacy);
-
-        // privacy
-        when(privacy.showProfile()).thenReturn(true);
-        when(privacy.showActivity()).thenReturn(false);
-        when(privacy.showWishlist()).thenReturn(true);
-
-        return user;
+        return new UserSummary(
+            userId,
+            "john@example.com",
+            "John Doe",
+            "https://example.com/avatar.png",
+            false,
+            new PrivacySettings(true, false, true)
+        );
     }
 
     // ======================================================
@@ -117,7 +95,7 @@ class ProfileControllerTest {
             UUID requesterUuid = UUID.fromString("11111111-1111-1111-1111-111111111111");
             when(currentUserId.value()).thenReturn(requesterUuid);
 
-            User user = buildTestUserWithProfile();
+            UserSummary user = buildTestUserWithProfile();
             when(getUserProfileService.getProfile(any(GetUserProfileQuery.class)))
                 .thenReturn(user);
 
@@ -167,7 +145,7 @@ class ProfileControllerTest {
                 .when(authenticationProvider)
                 .authenticateFromAuthorizationHeader(null);
 
-            User user = buildTestUserWithProfile();
+            UserSummary user = buildTestUserWithProfile();
             when(getUserProfileService.getProfile(any(GetUserProfileQuery.class)))
                 .thenReturn(user);
 
@@ -2,26 +2,39 @@ package com.estim.javaapi.controllers;
 
 import com.estim.javaapi.application.wishlist.AddToWishlistCommand;
 import com.estim.javaapi.application.wishlist.AddToWishlistService;
+import com.estim.javaapi.application.wishlist.AddGamesToWishlistCommand;
+import com.estim.javaapi.application.wishlist.AddGamesToWishlistService;
+import com.estim.javaapi.application.wishlist.AreGamesInWishlistQuery;
 import com.estim.javaapi.application.wishlist.ListWishlistForUserQuery;
 import com.estim.javaapi.application.wishlist.ListWishlistService;
 import com.estim.javaapi.application.wishlist.RemoveFromWishlistCommand;
 import com.estim.javaapi.application.wishlist.RemoveFromWishlistService;
+import com.estim.javaapi.application.wishlist.RemoveGamesFromWishlistCommand;
+import com.estim.javaapi.application.wishlist.RemoveGamesFromWishlistService;
 import com.estim.javaapi.application.wishlist.UpdateWishlistItemCommand;
 import com.estim.javaapi.application.wishlist.UpdateWishlistItemService;
+import com.estim.javaapi.application.wishlist.WishlistContainsService;
 import com.estim.javaapi.domain.library.GameId;
 import com.estim.javaapi.domain.user.UserId;
 import com.estim.javaapi.infrastructure.security.AuthenticatedUser;
+import com.estim.javaapi.presentation.common.ErrorResponse;
+import com.estim.javaapi.presentation.common.GameIdsRequest;
 import com.estim.javaapi.presentation.wishlist.WishlistItemRequest;
 import com.estim.javaapi.presentation.wishlist.WishlistItemResponse;
 import com.estim.javaapi.presentation.wishlist.WishlistMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -57,6 +70,15 @@ class WishlistControllerTest {
     @Mock
     private UpdateWishlistItemService updateWishlistItemService;
 
+    @Mock
+    private WishlistContainsService wishlistContainsService;
+
+    @Mock
+    private AddGamesToWishlistService addGamesToWishlistService;
+
+    @Mock
+    private RemoveGamesFromWishlistService removeGamesFromWishlistService;
+
     // Still injected in the controller, but no longer used in its logic
     @Mock
     private WishlistMapper wishlistMapper;
@@ -74,7 +96,11 @@ class WishlistControllerTest {
             removeFromWishlistService,
             listWishlistService,
             updateWishlistItemService,
-            wishlistMapper
+            wishlistContainsService,
+            addGamesToWishlistService,
+            removeGamesFromWishlistService,
+            wishlistMapper,
+            new ObjectMapper()
         );
 
         userId = new UserId(RAW_USER_ID);
@@ -268,4 +294,89 @@ class WishlistControllerTest {
         verifyNoInteractions(listWishlistService);
         verifyNoInteractions(wishlistMapper);
     }
+
+    @Test
+    void wishlistContains_returnsWishlistedFlagPerRequestedGame() {
+        // Arrange
+        UUID otherGameId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+        Map<GameId, Boolean> wishlisted = new LinkedHashMap<>();
+        wishlisted.put(gameId, true);
+        wishlisted.put(GameId.of(otherGameId), false);
+
+        when(wishlistContainsService.contains(any(AreGamesInWishlistQuery.class)))
+            .thenReturn(wishlisted);
+
+        // Act
+        ResponseEntity<?> response = controller.wishlistContains(
+            authenticatedUser, new GameIdsRequest(List.of(RAW_GAME_ID, otherGameId)));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Map.of(RAW_GAME_ID, true, otherGameId, false), response.getBody());
+
+        ArgumentCaptor<AreGamesInWishlistQuery> captor =
+            ArgumentCaptor.forClass(AreGamesInWishlistQuery.class);
+        verify(wishlistContainsService).contains(captor.capture());
+
+        AreGamesInWishlistQuery query = captor.getValue();
+        assertEquals(userId, query.userId());
+        assertEquals(List.of(gameId, GameId.of(otherGameId)), query.gameIds());
+    }
+
+    @Test
+    void wishlistContains_returnsBadRequestForNullGameId() {
+        // Act
+        ResponseEntity<?> response = controller.wishlistContains(
+            authenticatedUser, new GameIdsRequest(Arrays.asList(RAW_GAME_ID, null)));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(response.getBody() instanceof ErrorResponse);
+        verifyNoInteractions(wishlistContainsService);
+    }
+
+    @Test
+    void addGamesToWishlist_returnsTheIdsThatWereAdded() {
+        // Arrange
+        UUID otherGameId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+        when(addGamesToWishlistService.addToWishlist(any(AddGamesToWishlistCommand.class)))
+            .thenReturn(List.of(gameId));
+
+        // Act
+        ResponseEntity<?> response = controller.addGamesToWishlist(
+            authenticatedUser, new GameIdsRequest(List.of(RAW_GAME_ID, otherGameId)));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(RAW_GAME_ID), response.getBody());
+        verify(addGamesToWishlistService).addToWishlist(
+            new AddGamesToWishlistCommand(userId, List.of(gameId, GameId.of(otherGameId))));
+    }
+
+    @Test
+    void removeGamesFromWishlist_returnsTheIdsThatWereRemoved() {
+        // Arrange
+        when(removeGamesFromWishlistService.removeFromWishlist(any(RemoveGamesFromWishlistCommand.class)))
+            .thenReturn(List.of(gameId));
+
+        // Act
+        ResponseEntity<?> response = controller.removeGamesFromWishlist(
+            authenticatedUser, new GameIdsRequest(List.of(RAW_GAME_ID)));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(RAW_GAME_ID), response.getBody());
+    }
+
+    @Test
+    void addGamesToWishlist_returnsBadRequestForNullGameId() {
+        // Act
+        ResponseEntity<?> response = controller.addGamesToWishlist(
+            authenticatedUser, new GameIdsRequest(Arrays.asList(RAW_GAME_ID, null)));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(addGamesToWishlistService);
+    }
 }
@@ -0,0 +1,127 @@
+package com.estim.javaapi.infrastructure.audit;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.estim.javaapi.application.handlers.AuditEntry;
+import com.estim.javaapi.domain.user.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcAuditLoggerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private JdbcAuditLogger auditLogger;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(JdbcAuditLogger.class)).addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        ((Logger) LoggerFactory.getLogger(JdbcAuditLogger.class)).detachAppender(appender);
+        if (auditLogger != null) {
+            auditLogger.shutdown();
+        }
+    }
+
+    @Test
+    void start_writesQueuedEntriesInBatchesOfAtMostTheBatchSize() {
+        // Arrange
+        auditLogger = auditLogger(10, 2);
+        List<Integer> batchSizes = recordBatchSizes();
+        for (int i = 0; i < 5; i++) {
+            auditLogger.log(entry("LOGIN_SUCCEEDED"));
+        }
+
+        // Act
+        auditLogger.start();
+
+        // Assert
+        verify(jdbcTemplate, timeout(2_000).times(3)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        assertEquals(List.of(2, 2, 1), batchSizes);
+    }
+
+    @Test
+    void log_whenTheQueueIsFull_dropsTheEntryWithoutBlocking() {
+        // Arrange
+        auditLogger = auditLogger(2, 2);
+
+        // Act
+        auditLogger.log(entry("LOGIN_SUCCEEDED"));
+        auditLogger.log(entry("LOGIN_SUCCEEDED"));
+        auditLogger.log(entry("LOGIN_FAILED"));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.counter("audit.entries", "result", "dropped").count());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void start_whenABatchFails_writesItToTheApplicationLogAndKeepsWriting() {
+        // Arrange
+        auditLogger = auditLogger(10, 2);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+            .thenThrow(new IllegalStateException("boom"))
+            .thenReturn(new int[0][]);
+        auditLogger.log(entry("PASSWORD_CHANGED"));
+        auditLogger.start();
+        verify(jdbcTemplate, timeout(2_000)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+
+        // Act
+        auditLogger.log(entry("LOGIN_SUCCEEDED"));
+
+        // Assert
+        verify(jdbcTemplate, timeout(2_000).times(2)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        assertEquals(1.0, meterRegistry.counter("audit.entries", "result", "failed").count());
+        assertTrue(appender.list.stream()
+            .map(ILoggingEvent::getFormattedMessage)
+            .anyMatch(message -> message.startsWith("[AUDIT]") && message.contains("PASSWORD_CHANGED")));
+    }
+
+    private JdbcAuditLogger auditLogger(int queueCapacity, int batchSize) {
+        return new JdbcAuditLogger(jdbcTemplate, queueCapacity, batchSize, Duration.ofMillis(50), meterRegistry);
+    }
+
+    private List<Integer> recordBatchSizes() {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+            // The writer reuses its batch list, so record the size while it is being written
+            batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+            return new int[0][];
+        });
+        return batchSizes;
+    }
+
+    private static AuditEntry entry(String action) {
+        return new AuditEntry(Instant.now(), action, UserId.newId(), null);
+    }
+}
@@ -0,0 +1,110 @@
+package com.estim.javaapi.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_isTrueForEveryAddedValue() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // Act / Assert
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"), "user" + i);
+        }
+    }
+
+    @Test
+    void mightContain_isTrueForEveryAddedValue_evenPastTheExpectedSize() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        for (int i = 0; i < 5_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // Act / Assert
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"), "user" + i);
+        }
+    }
+
+    @Test
+    void mightContain_isTrueForValuesAddedConcurrently() throws Exception {
+        // Arrange
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        filter.add("t" + thread + "-user" + i + "@example.com");
+                    }
+                }));
+            }
+
+            // Act
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 10_000; i++) {
+                assertTrue(filter.mightContain("t" + t + "-user" + i + "@example.com"), "t" + t + "-user" + i);
+            }
+        }
+        assertEquals(40_000, filter.insertionCount());
+    }
+
+    @Test
+    void mightContain_staysNearTheConfiguredFalsePositiveRate() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void mightContain_isFalseOnAnEmptyFilter() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertFalse(filter.mightContain("someone@example.com"));
+        assertFalse(filter.mightContain(""));
+    }
+
+    @Test
+    void constructor_rejectsInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
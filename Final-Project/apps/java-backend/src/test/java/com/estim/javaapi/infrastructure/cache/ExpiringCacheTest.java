@@ -0,0 +1,128 @@
+package com.estim.javaapi.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringCacheTest {
+
+    @Test
+    void get_returnsTheValueUntilItExpires() throws InterruptedException {
+        // Arrange
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+        cache.put("short", "value", System.currentTimeMillis() + 30);
+        cache.put("long", "value");
+
+        // Act
+        Thread.sleep(60);
+
+        // Assert
+        assertNull(cache.get("short"));
+        assertEquals("value", cache.get("long"));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void put_capsTheExpiryAtTheDefaultTtl() throws InterruptedException {
+        // Arrange
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Duration.ofMillis(30));
+
+        // Act
+        cache.put("key", "value", System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+        Thread.sleep(60);
+
+        // Assert
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    void put_ignoresValuesThatHaveAlreadyExpired() {
+        // Arrange
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+
+        // Act
+        cache.put("key", "value", System.currentTimeMillis() - 1);
+
+        // Assert
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_pastTheMaximumSize_evictsTheLeastRecentlyReadEntries() throws InterruptedException {
+        // Arrange
+        ExpiringCache<Integer, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "value" + i);
+        }
+        Thread.sleep(5);
+        for (int i = 5; i < 10; i++) {
+            cache.get(i);
+        }
+        Thread.sleep(5);
+
+        // Act
+        cache.put(10, "value10");
+
+        // Assert
+        assertTrue(cache.size() <= 10);
+        for (int i = 5; i <= 10; i++) {
+            assertEquals("value" + i, cache.get(i));
+        }
+        assertNull(cache.get(0));
+    }
+
+    @Test
+    void replace_updatesALiveEntry() {
+        // Arrange
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+        cache.put("key", "old");
+
+        // Act
+        boolean replaced = cache.replace("key", "new");
+
+        // Assert
+        assertTrue(replaced);
+        assertEquals("new", cache.get("key"));
+    }
+
+    @Test
+    void replace_leavesAbsentAndExpiredKeysAbsent() throws InterruptedException {
+        // Arrange
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+        cache.put("expired", "old", System.currentTimeMillis() + 30);
+        Thread.sleep(60);
+
+        // Act
+        boolean replacedAbsent = cache.replace("absent", "new");
+        boolean replacedExpired = cache.replace("expired", "new");
+
+        // Assert
+        assertFalse(replacedAbsent);
+        assertFalse(replacedExpired);
+        assertNull(cache.get("absent"));
+        assertNull(cache.get("expired"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidateIf_removesOnlyMatchingEntries() {
+        // Arrange
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+        cache.put("one", 1);
+        cache.put("two", 2);
+        cache.put("three", 3);
+
+        // Act
+        cache.invalidateIf((key, value) -> value % 2 == 1);
+
+        // Assert
+        assertNull(cache.get("one"));
+        assertEquals(2, cache.get("two"));
+        assertNull(cache.get("three"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.estim.javaapi.infrastructure.events;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedSerialExecutorTest {
+
+    private final ExecutorService delegate = Executors.newFixedThreadPool(4);
+    private final KeyedSerialExecutor executor = new KeyedSerialExecutor(delegate);
+
+    @AfterEach
+    void tearDown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void execute_runsTasksOfOneKeyInSubmissionOrder() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(100);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+
+        // Act
+        executor.execute("game-1", () -> await(release));
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            executor.execute("game-1", () -> {
+                order.add(sequence);
+                done.countDown();
+            });
+        }
+        release.countDown();
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 100).boxed().toList(), order);
+    }
+
+    @Test
+    void execute_keepsRunningTasksOfAKeyAfterOneFails() throws InterruptedException {
+        // Arrange
+        CountDownLatch done = new CountDownLatch(2);
+
+        // Act
+        executor.execute("game-1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute("game-1", done::countDown);
+        executor.execute("game-1", () -> {
+            throw new AssertionError("boom");
+        });
+        executor.execute("game-1", done::countDown);
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_doesNotHoldOtherKeysBehindABusyKey() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherKeyDone = new CountDownLatch(1);
+        executor.execute("game-1", () -> await(release));
+
+        // Act
+        executor.execute("game-2", otherKeyDone::countDown);
+
+        // Assert
+        assertTrue(otherKeyDone.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    void pendingKeys_dropsKeysOnceTheirTasksComplete() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute("game-1", () -> await(release));
+        executor.execute("game-2", () -> await(release));
+        assertEquals(2, executor.pendingKeys());
+
+        // Act
+        release.countDown();
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.pendingKeys() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, executor.pendingKeys());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
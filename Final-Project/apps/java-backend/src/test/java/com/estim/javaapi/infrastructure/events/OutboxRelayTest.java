@@ -0,0 +1,172 @@
+package com.estim.javaapi.infrastructure.events;
+
+import com.estim.javaapi.infrastructure.persistence.outbox.OutboxEventJpaEntity;
+import com.estim.javaapi.infrastructure.persistence.outbox.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final String TOPIC = "estim.domain-events";
+
+    @Mock
+    private OutboxEventJpaRepository repository;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection lockConnection;
+
+    @Mock
+    private PreparedStatement tryLock;
+
+    @Mock
+    private PreparedStatement unlock;
+
+    @Mock
+    private ResultSet tryLockResult;
+
+    private MockProducer<String, String> producer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        producer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+
+        when(dataSource.getConnection()).thenReturn(lockConnection);
+        when(lockConnection.prepareStatement(contains("pg_try_advisory_lock"))).thenReturn(tryLock);
+        when(tryLock.executeQuery()).thenReturn(tryLockResult);
+        when(tryLockResult.next()).thenReturn(true);
+        lenient().when(lockConnection.prepareStatement(contains("pg_advisory_unlock"))).thenReturn(unlock);
+    }
+
+    @Test
+    void drain_sendsEventsInOutboxOrderKeyedByAggregateAndDeletesThemOnceAcknowledged() throws Exception {
+        // Arrange
+        when(tryLockResult.getBoolean(1)).thenReturn(true);
+        when(repository.findNextBatch(10)).thenReturn(List.of(
+            event(1L, "game-1", "GamePriceChanged", "{\"n\":1}"),
+            event(2L, "game-2", "GamePriceChanged", "{\"n\":2}"),
+            event(3L, "game-1", "GamePriceChanged", "{\"n\":3}")
+        ));
+
+        // Act
+        relay(producer, 10).drain();
+
+        // Assert
+        List<ProducerRecord<String, String>> sent = producer.history();
+        assertEquals(3, sent.size());
+        assertEquals(List.of("game-1", "game-2", "game-1"), sent.stream().map(ProducerRecord::key).toList());
+        assertEquals(List.of("{\"n\":1}", "{\"n\":2}", "{\"n\":3}"), sent.stream().map(ProducerRecord::value).toList());
+        assertEquals(TOPIC, sent.get(0).topic());
+        assertEquals("1", new String(sent.get(0).headers().lastHeader("outbox-id").value(), StandardCharsets.UTF_8));
+        assertEquals("GamePriceChanged",
+            new String(sent.get(0).headers().lastHeader("event-type").value(), StandardCharsets.UTF_8));
+
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(unlock).execute();
+    }
+
+    @Test
+    void drain_keepsRelayingWhileBatchesAreFull() throws Exception {
+        // Arrange
+        when(tryLockResult.getBoolean(1)).thenReturn(true);
+        when(repository.findNextBatch(2))
+            .thenReturn(List.of(event(1L, "a", "E", "1"), event(2L, "b", "E", "2")))
+            .thenReturn(List.of(event(3L, "c", "E", "3")));
+
+        // Act
+        relay(producer, 2).drain();
+
+        // Assert
+        assertEquals(3, producer.history().size());
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(repository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void drain_leavesTheBatchInTheOutboxWhenKafkaFailsAndReleasesTheLock() throws Exception {
+        // Arrange
+        when(tryLockResult.getBoolean(1)).thenReturn(true);
+        when(repository.findNextBatch(10)).thenReturn(List.of(event(1L, "game-1", "E", "{}")));
+        MockProducer<String, String> failing = new MockProducer<>(true, new StringSerializer(), new StringSerializer()) {
+            @Override
+            public synchronized Future<RecordMetadata> send(ProducerRecord<String, String> record) {
+                return CompletableFuture.failedFuture(new KafkaException("broker unavailable"));
+            }
+        };
+
+        // Act
+        assertDoesNotThrow(() -> relay(failing, 10).drain());
+
+        // Assert
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        verify(unlock).execute();
+    }
+
+    @Test
+    void drain_skipsItsTurnWhileAnotherInstanceRelays() throws Exception {
+        // Arrange
+        when(tryLockResult.getBoolean(1)).thenReturn(false);
+
+        // Act
+        relay(producer, 10).drain();
+
+        // Assert
+        verify(repository, never()).findNextBatch(anyInt());
+        assertTrue(producer.history().isEmpty());
+        verify(lockConnection).close();
+    }
+
+    private OutboxRelay relay(MockProducer<String, String> producer, int batchSize) {
+        return new OutboxRelay(
+            repository,
+            producer,
+            dataSource,
+            TOPIC,
+            batchSize,
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(5),
+            new SimpleMeterRegistry()
+        );
+    }
+
+    private static OutboxEventJpaEntity event(long id, String aggregateId, String eventType, String payload) {
+        OutboxEventJpaEntity event = mock(OutboxEventJpaEntity.class);
+        Instant now = Instant.now();
+        lenient().when(event.getId()).thenReturn(id);
+        lenient().when(event.getAggregateId()).thenReturn(aggregateId);
+        lenient().when(event.getEventType()).thenReturn(eventType);
+        lenient().when(event.getPayload()).thenReturn(payload);
+        lenient().when(event.getOccurredAt()).thenReturn(now);
+        lenient().when(event.getCreatedAt()).thenReturn(now);
+        return event;
+    }
+}
@@ -0,0 +1,170 @@
+package com.estim.javaapi.infrastructure.events;
+
+import com.estim.javaapi.application.handlers.DomainEventHandler;
+import com.estim.javaapi.domain.common.DomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class SimpleEventBusTest {
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SimpleEventBus bus;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (bus != null) {
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    void publish_insideATransaction_dispatchesOnlyAfterCommit() {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler(1);
+        bus = bus(false, handler);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        bus.publish(new TestEvent("game-1", 1));
+
+        // Assert
+        assertTrue(handler.received.isEmpty());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        assertEquals(List.of(1), handler.received);
+    }
+
+    @Test
+    void publish_insideATransactionThatRollsBack_neverDispatches() {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler(1);
+        bus = bus(false, handler);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        bus.publishAll(List.of(new TestEvent("game-1", 1), new TestEvent("game-2", 2)));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        // Assert
+        assertTrue(handler.received.isEmpty());
+    }
+
+    @Test
+    void publish_dispatchesEventsOfOneAggregateInPublicationOrder() throws InterruptedException {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler(200);
+        bus = bus(true, handler);
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            bus.publish(new TestEvent("game-1", i));
+        }
+
+        // Assert
+        assertTrue(handler.done.await(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 200).boxed().toList(), handler.received);
+    }
+
+    @Test
+    void publish_whenAHandlerFails_stillRunsTheOtherHandlers() {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler(1);
+        bus = bus(false, new FailingHandler(), handler);
+
+        // Act
+        bus.publish(new TestEvent("game-1", 1));
+
+        // Assert
+        assertEquals(List.of(1), handler.received);
+        assertEquals(1.0, meterRegistry.counter("events.handler.failures").count());
+    }
+
+    @Test
+    void publish_afterAHandlerThrowsAnError_stillDispatchesLaterEventsOfTheAggregate() throws InterruptedException {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler(1);
+        bus = bus(true, new ErrorOnFirstEventHandler(), handler);
+
+        // Act
+        bus.publish(new TestEvent("game-1", 0));
+        bus.publish(new TestEvent("game-1", 1));
+
+        // Assert
+        assertTrue(handler.done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1), handler.received);
+    }
+
+    private SimpleEventBus bus(boolean async, DomainEventHandler<?>... handlers) {
+        return new SimpleEventBus(List.of(handlers), outboxWriter, async, 1_000, 1_000,
+            Duration.ofMillis(10), meterRegistry);
+    }
+
+    private record TestEvent(String aggregateId, int sequence, Instant occurredAt) implements DomainEvent {
+
+        TestEvent(String aggregateId, int sequence) {
+            this(aggregateId, sequence, Instant.now());
+        }
+    }
+
+    private static final class RecordingHandler implements DomainEventHandler<TestEvent> {
+
+        private final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch done;
+
+        RecordingHandler(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void handle(TestEvent event) {
+            received.add(event.sequence());
+            done.countDown();
+        }
+    }
+
+    private static final class FailingHandler implements DomainEventHandler<TestEvent> {
+
+        @Override
+        public void handle(TestEvent event) {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    private static final class ErrorOnFirstEventHandler implements DomainEventHandler<TestEvent> {
+
+        @Override
+        public void handle(TestEvent event) {
+            if (event.sequence() == 0) {
+                throw new AssertionError("boom");
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.estim.javaapi.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Base class for repository tests that need real PostgreSQL (native SQL,
+ * ON CONFLICT, uuid[] parameters).
+ *
+ * One container is started per JVM and initialized with the scripts of
+ * {@code db/migrations}, the same files the compose migrator applies. Each
+ * test runs in a transaction that is rolled back. The tests are skipped
+ * when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresRepositoryTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16")
+        .withCopyFileToContainer(MountableFile.forHostPath("../../db/migrations"), "/docker-entrypoint-initdb.d/");
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    protected UUID insertUser() {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO users (id, email, password_hash, display_name) VALUES (?, ?, 'hash', 'player')",
+            id, id + "@example.com");
+        return id;
+    }
+
+    protected UUID insertGame() {
+        UUID publisherId = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO publishers (id, user_id, company_name) VALUES (?, ?, 'Publisher')",
+            publisherId, insertUser());
+
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO games (id, publisher_id, title, price, is_published) VALUES (?, ?, 'Game', ?, TRUE)",
+            id, publisherId, new BigDecimal("19.99"));
+        return id;
+    }
+}
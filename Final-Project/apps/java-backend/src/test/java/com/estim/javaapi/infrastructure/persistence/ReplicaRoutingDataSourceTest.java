@@ -0,0 +1,128 @@
+package com.estim.javaapi.infrastructure.persistence;
+
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.security.AuthenticatedUser;
+import com.estim.javaapi.infrastructure.security.SecurityContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Routing of the DataSource built by {@link ReplicaRoutingConfig}, with two
+ * stub DataSources standing in for the primary and the replica.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private RecentWriters recentWriters;
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(primaryConnection.getAutoCommit()).thenReturn(true);
+        when(replicaConnection.getAutoCommit()).thenReturn(true);
+        when(primaryConnection.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_READ_COMMITTED);
+        when(replicaConnection.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_READ_COMMITTED);
+
+        recentWriters = new RecentWriters(100, Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReplicaRoutingConfig().dataSource(primary, replica, recentWriters, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContext.clear();
+    }
+
+    @Test
+    void readOnlyConnection_goesToTheReplica() throws Exception {
+        // Act
+        useConnection(true);
+
+        // Assert
+        verify(replicaConnection).createStatement();
+        verify(primaryConnection, never()).createStatement();
+        assertEquals(1.0, meterRegistry.get("datasource.reads").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    void readWriteConnection_goesToThePrimary() throws Exception {
+        // Act
+        useConnection(false);
+
+        // Assert
+        verify(primaryConnection).createStatement();
+        verify(replicaConnection, never()).createStatement();
+    }
+
+    @Test
+    void readOnlyConnection_ofAUserWhoJustWrote_goesToThePrimary() throws Exception {
+        // Arrange
+        UserId userId = new UserId(UUID.randomUUID());
+        SecurityContext.setCurrentUser(new AuthenticatedUser(userId));
+        recentWriters.recordWrite(userId);
+
+        // Act
+        useConnection(true);
+
+        // Assert
+        verify(primaryConnection).createStatement();
+        verify(replicaConnection, never()).createStatement();
+        assertEquals(1.0, meterRegistry.get("datasource.reads").tag("target", "primary").counter().count());
+    }
+
+    @Test
+    void readOnlyConnection_ofAnotherUser_stillGoesToTheReplica() throws Exception {
+        // Arrange
+        recentWriters.recordWrite(new UserId(UUID.randomUUID()));
+        SecurityContext.setCurrentUser(new AuthenticatedUser(new UserId(UUID.randomUUID())));
+
+        // Act
+        useConnection(true);
+
+        // Assert
+        verify(replicaConnection).createStatement();
+        verify(primaryConnection, never()).createStatement();
+    }
+
+    /**
+     * The target is picked when the first statement is created, after a
+     * read-only transaction would have flagged the connection.
+     */
+    private void useConnection(boolean readOnly) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            connection.createStatement();
+        }
+    }
+}
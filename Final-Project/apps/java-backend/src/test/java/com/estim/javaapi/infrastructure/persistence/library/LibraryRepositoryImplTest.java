@@ -0,0 +1,111 @@
+package com.estim.javaapi.infrastructure.persistence.library;
+
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.library.LibraryEntry;
+import com.estim.javaapi.domain.library.LibraryEntrySource;
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.persistence.PostgresRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The native insert statements of {@link LibraryRepositoryImpl} against the
+ * real schema.
+ */
+class LibraryRepositoryImplTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private LibraryEntryJpaRepository jpaRepository;
+
+    private LibraryRepositoryImpl repository;
+    private UserId userId;
+    private GameId owned;
+    private GameId first;
+    private GameId second;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        repository = new LibraryRepositoryImpl(jpaRepository, jdbcTemplate);
+        userId = new UserId(insertUser());
+        owned = GameId.of(insertGame());
+        first = GameId.of(insertGame());
+        second = GameId.of(insertGame());
+        now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        repository.insertIfAbsent(LibraryEntry.newEntry(userId, owned, LibraryEntrySource.PURCHASE, now));
+    }
+
+    @Test
+    void insertAllIfAbsent_returnsOnlyTheEntriesItInserted() {
+        // Arrange
+        LibraryEntry alreadyOwned = LibraryEntry.newEntry(userId, owned, LibraryEntrySource.GIFT, now);
+        LibraryEntry firstEntry = LibraryEntry.newEntry(userId, first, LibraryEntrySource.GIFT, now);
+        LibraryEntry secondEntry = LibraryEntry.newEntry(userId, second, LibraryEntrySource.GIFT, now);
+
+        // Act
+        List<LibraryEntry> inserted = repository.insertAllIfAbsent(List.of(alreadyOwned, firstEntry, secondEntry));
+
+        // Assert
+        assertEquals(
+            List.of(firstEntry.getId(), secondEntry.getId()),
+            inserted.stream().map(LibraryEntry::getId).toList()
+        );
+        assertEquals(3, countEntries());
+        assertEquals("PURCHASE", sourceOf(owned));
+    }
+
+    @Test
+    void insertAllIfAbsent_insertsTheFirstOfDuplicatesWithinTheBatch() {
+        // Arrange
+        LibraryEntry firstGrant = LibraryEntry.newEntry(userId, first, LibraryEntrySource.GIFT, now);
+        LibraryEntry duplicate = LibraryEntry.newEntry(userId, first, LibraryEntrySource.PURCHASE, now);
+
+        // Act
+        List<LibraryEntry> inserted = repository.insertAllIfAbsent(List.of(firstGrant, duplicate));
+
+        // Assert
+        assertEquals(List.of(firstGrant.getId()), inserted.stream().map(LibraryEntry::getId).toList());
+        assertEquals(2, countEntries());
+    }
+
+    @Test
+    void insertAllIfAbsent_isANoOpForAnEmptyBatch() {
+        // Act
+        List<LibraryEntry> inserted = repository.insertAllIfAbsent(List.of());
+
+        // Assert
+        assertTrue(inserted.isEmpty());
+        assertEquals(1, countEntries());
+    }
+
+    @Test
+    void insertAllIfAbsent_rejectsEntriesWithDifferentAddedAt() {
+        // Arrange
+        List<LibraryEntry> entries = List.of(
+            LibraryEntry.newEntry(userId, first, LibraryEntrySource.GIFT, now),
+            LibraryEntry.newEntry(userId, second, LibraryEntrySource.GIFT, now.plusSeconds(1))
+        );
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> repository.insertAllIfAbsent(entries));
+    }
+
+    private int countEntries() {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM libraries WHERE user_id = ?", Integer.class, userId.value());
+    }
+
+    private String sourceOf(GameId gameId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT source FROM libraries WHERE user_id = ? AND game_id = ?",
+            String.class, userId.value(), gameId.getValue());
+    }
+}
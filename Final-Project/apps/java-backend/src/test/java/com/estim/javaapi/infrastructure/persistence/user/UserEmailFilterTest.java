@@ -0,0 +1,142 @@
+package com.estim.javaapi.infrastructure.persistence.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserEmailFilterTest {
+
+    @Mock
+    private UserJpaRepository repository;
+
+    private UserEmailFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new UserEmailFilter(repository, true, 1_000, 0.01, Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void mightExist_isTrueForEveryEmail_beforeTheFirstBuild() {
+        assertTrue(filter.mightExist("anyone@example.com"));
+    }
+
+    @Test
+    void rebuild_keepsEmailsAddedWhileItScans() {
+        // Arrange
+        when(repository.findEmailsAfter(any(), any())).thenAnswer(invocation -> {
+            // A registration on this instance lands while the scan is running
+            filter.add("during-first-build@example.com");
+            return List.of(new Row("scanned@example.com"));
+        });
+        when(repository.findEmailsCreatedSince(any())).thenReturn(List.of());
+
+        // Act
+        filter.rebuild(1_000);
+
+        // Assert
+        assertTrue(filter.mightExist("scanned@example.com"));
+        assertTrue(filter.mightExist("during-first-build@example.com"));
+        assertFalse(filter.mightExist("nobody@example.com"));
+    }
+
+    @Test
+    void rebuild_keepsEmailsAddedToTheOldFilterWhileItScans() {
+        // Arrange
+        when(repository.findEmailsCreatedSince(any())).thenReturn(List.of());
+        when(repository.findEmailsAfter(any(), any())).thenReturn(List.of(new Row("first@example.com")));
+        filter.rebuild(1_000);
+
+        when(repository.findEmailsAfter(any(), any())).thenAnswer(invocation -> {
+            filter.add("during-rebuild@example.com");
+            return List.of(new Row("first@example.com"));
+        });
+
+        // Act
+        filter.rebuild(2_000);
+
+        // Assert
+        assertTrue(filter.mightExist("first@example.com"));
+        assertTrue(filter.mightExist("during-rebuild@example.com"));
+    }
+
+    @Test
+    void rebuild_catchesUpOnEmailsCreatedWhileItScans() {
+        // Arrange
+        when(repository.findEmailsAfter(any(), any())).thenReturn(List.of(new Row("scanned@example.com")));
+        when(repository.findEmailsCreatedSince(any())).thenReturn(List.of("elsewhere@example.com"));
+
+        // Act
+        filter.rebuild(1_000);
+
+        // Assert
+        assertTrue(filter.mightExist("elsewhere@example.com"));
+    }
+
+    @Test
+    void add_afterTheBuild_isVisibleImmediately() {
+        // Arrange
+        when(repository.findEmailsAfter(any(), any())).thenReturn(List.of());
+        when(repository.findEmailsCreatedSince(any())).thenReturn(List.of());
+        filter.rebuild(1_000);
+
+        // Act
+        filter.add("new@example.com");
+
+        // Assert
+        assertTrue(filter.mightExist("new@example.com"));
+    }
+
+    @Test
+    void sync_survivesAnUnexpectedFailureWhileBuilding() {
+        // Arrange
+        when(repository.findEmailsAfter(any(), any()))
+            .thenThrow(new IllegalStateException("boom"))
+            .thenReturn(List.of(new Row("scanned@example.com")));
+        when(repository.findEmailsCreatedSince(any())).thenReturn(List.of());
+
+        // Act
+        assertDoesNotThrow(filter::sync);
+        filter.sync();
+
+        // Assert
+        assertTrue(filter.mightExist("scanned@example.com"));
+        assertFalse(filter.mightExist("nobody@example.com"));
+    }
+
+    @Test
+    void sync_afterTheBuild_addsEmailsRegisteredElsewhere() {
+        // Arrange
+        when(repository.findEmailsAfter(any(), any())).thenReturn(List.of());
+        when(repository.findEmailsCreatedSince(any()))
+            .thenReturn(List.of())
+            .thenReturn(List.of("elsewhere@example.com"));
+        filter.rebuild(1_000);
+        assertFalse(filter.mightExist("elsewhere@example.com"));
+
+        // Act
+        filter.sync();
+
+        // Assert
+        assertTrue(filter.mightExist("elsewhere@example.com"));
+    }
+
+    private record Row(UUID getId, String getEmail) implements UserJpaRepository.EmailView {
+
+        Row(String email) {
+            this(UUID.randomUUID(), email);
+        }
+    }
+}
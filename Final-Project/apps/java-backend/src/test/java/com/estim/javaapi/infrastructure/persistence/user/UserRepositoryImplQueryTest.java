@@ -0,0 +1,105 @@
+package com.estim.javaapi.infrastructure.persistence.user;
+
+import com.estim.javaapi.domain.user.User;
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.persistence.PostgresRepositoryTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * How many statements each {@link UserRepositoryImpl} loader issues, and
+ * which collections it leaves unloaded on the aggregate.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryImplQueryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private UserJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserRepositoryImpl repository;
+    private Statistics statistics;
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        UserEmailFilter emailFilter = new UserEmailFilter(
+            jpaRepository, false, 1_000, 0.01, Duration.ofSeconds(30), new SimpleMeterRegistry());
+        repository = new UserRepositoryImpl(jpaRepository, new UserMapper(), emailFilter, entityManager);
+
+        UUID id = insertUser();
+        insertPaymentMethod(id, "1111");
+        insertPaymentMethod(id, "2222");
+        jdbcTemplate.update(
+            "INSERT INTO user_oauth_accounts (user_id, provider, external_user_id) VALUES (?, 'GITHUB', ?)",
+            id, "gh-" + id);
+        userId = new UserId(id);
+
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findByIdCore_issuesOneStatementAndLeavesBothCollectionsUnloaded() {
+        // Act
+        User user = repository.findByIdCore(userId).orElseThrow();
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertThrows(IllegalStateException.class, user::paymentMethods);
+        assertThrows(IllegalStateException.class, user::linkedAccounts);
+    }
+
+    @Test
+    void findByIdWithPaymentMethods_issuesOneStatementAndLeavesLinkedAccountsUnloaded() {
+        // Act
+        User user = repository.findByIdWithPaymentMethods(userId).orElseThrow();
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, user.paymentMethods().size());
+        assertThrows(IllegalStateException.class, user::linkedAccounts);
+    }
+
+    @Test
+    void findByIdWithLinkedAccounts_issuesOneStatementAndLeavesPaymentMethodsUnloaded() {
+        // Act
+        User user = repository.findByIdWithLinkedAccounts(userId).orElseThrow();
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, user.linkedAccounts().size());
+        assertThrows(IllegalStateException.class, user::paymentMethods);
+    }
+
+    @Test
+    void findById_issuesOneStatementPerCollection() {
+        // Act
+        User user = repository.findById(userId).orElseThrow();
+
+        // Assert
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(2, user.paymentMethods().size());
+        assertEquals(1, user.linkedAccounts().size());
+    }
+
+    private void insertPaymentMethod(UUID userId, String last4) {
+        jdbcTemplate.update(
+            "INSERT INTO user_payment_methods (user_id, provider, external_token, last4) VALUES (?, 'MOCK', ?, ?)",
+            userId, "tok_" + UUID.randomUUID(), last4);
+    }
+}
@@ -0,0 +1,197 @@
+package com.estim.javaapi.infrastructure.persistence.user;
+
+import com.estim.javaapi.domain.user.Email;
+import com.estim.javaapi.domain.user.PasswordHash;
+import com.estim.javaapi.domain.user.PaymentMethod;
+import com.estim.javaapi.domain.user.PaymentProvider;
+import com.estim.javaapi.domain.user.User;
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.domain.user.UserProfile;
+import com.estim.javaapi.domain.user.UserStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Change tracking across transaction outcomes, and the loaded-entity write
+ * path of {@link UserRepositoryImpl#save(User)}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserRepositoryImplTest {
+
+    @Mock
+    private UserJpaRepository jpaRepository;
+
+    @Mock
+    private UserEmailFilter emailFilter;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final UserMapper mapper = new UserMapper();
+    private UserRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new UserRepositoryImpl(jpaRepository, mapper, emailFilter, entityManager);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void save_keepsChangesUntilTheTransactionCommits() {
+        // Arrange
+        PaymentMethod existing = paymentMethod("1111");
+        User user = existingUser(existing);
+        UserJpaEntity entity = mapper.toEntity(user);
+        when(entityManager.getReference(UserJpaEntity.class, user.id().value())).thenReturn(entity);
+        user.changePassword(new PasswordHash("new-hash"));
+
+        // Act
+        repository.save(user);
+
+        // Assert
+        assertFalse(user.hasChanges());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertFalse(user.hasChanges());
+        assertFalse(user.isNew());
+        assertEquals("new-hash", entity.getPasswordHash());
+    }
+
+    @Test
+    void save_restoresChangesWhenTheTransactionRollsBack() {
+        // Arrange
+        PaymentMethod existing = paymentMethod("1111");
+        PaymentMethod added = paymentMethod("2222");
+        User user = existingUser(existing);
+        UserJpaEntity entity = mapper.toEntity(user);
+        when(entityManager.getReference(UserJpaEntity.class, user.id().value())).thenReturn(entity);
+        user.changePassword(new PasswordHash("new-hash"));
+        user.addPaymentMethod(added);
+        repository.save(user);
+
+        // Act
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertTrue(user.hasChanges());
+        assertTrue(user.changedFields().contains(User.ChangedField.PASSWORD_HASH));
+        assertEquals(List.of(added), user.addedPaymentMethods());
+    }
+
+    @Test
+    void save_ofANewUserThatRolledBack_insertsItAgain() {
+        // Arrange
+        User user = User.register(
+            UserId.newId(),
+            new Email("new@example.com"),
+            new PasswordHash("hash"),
+            new UserProfile("newbie", null, null)
+        );
+        repository.save(user);
+        assertFalse(user.isNew());
+
+        // Act
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        repository.save(user);
+
+        // Assert
+        assertFalse(user.isNew());
+        verify(entityManager, times(2)).persist(any(UserJpaEntity.class));
+    }
+
+    @Test
+    void save_twiceInOneTransaction_writesEachChangeOnce() {
+        // Arrange
+        PaymentMethod existing = paymentMethod("1111");
+        PaymentMethod added = paymentMethod("2222");
+        User user = existingUser(existing);
+        UserJpaEntity entity = mapper.toEntity(user);
+        when(entityManager.getReference(UserJpaEntity.class, user.id().value())).thenReturn(entity);
+        user.addPaymentMethod(added);
+
+        // Act
+        repository.save(user);
+        repository.save(user);
+
+        // Assert
+        assertEquals(
+            List.of(existing.id().value(), added.id().value()),
+            entity.getPaymentMethods().stream().map(PaymentMethodJpaEntity::getId).toList()
+        );
+    }
+
+    @Test
+    void save_ofALoadedUser_updatesTheLoadedPaymentMethodCollection() {
+        // Arrange
+        PaymentMethod kept = paymentMethod("1111");
+        PaymentMethod removed = paymentMethod("2222");
+        PaymentMethod added = paymentMethod("3333");
+        User user = existingUser(kept, removed);
+        UserJpaEntity entity = mapper.toEntity(user);
+        when(entityManager.getReference(UserJpaEntity.class, user.id().value())).thenReturn(entity);
+        user.removePaymentMethod(removed.id());
+        user.addPaymentMethod(added);
+
+        // Act
+        repository.save(user);
+
+        // Assert
+        assertEquals(
+            List.of(kept.id().value(), added.id().value()),
+            entity.getPaymentMethods().stream().map(PaymentMethodJpaEntity::getId).toList()
+        );
+        assertSame(entity, entity.getPaymentMethods().get(1).getUser());
+        // Cascade and orphan removal write the rows; no bulk statements bypass the loaded collection
+        verify(entityManager, never()).createQuery(anyString());
+        verify(entityManager, never()).persist(any());
+    }
+
+    private static User existingUser(PaymentMethod... paymentMethods) {
+        Instant now = Instant.now();
+        return User.rehydrate(
+            UserId.newId(),
+            new Email("player@example.com"),
+            new PasswordHash("old-hash"),
+            UserStatus.ACTIVE,
+            true,
+            new UserProfile("player", null, null),
+            List.of(paymentMethods),
+            List.of(),
+            now,
+            now,
+            null
+        );
+    }
+
+    private static PaymentMethod paymentMethod(String last4) {
+        return PaymentMethod.newMethod(PaymentProvider.MOCK, "tok_" + UUID.randomUUID(), last4, false);
+    }
+
+    private static void complete(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.estim.javaapi.infrastructure.persistence.wishlist;
+
+import com.estim.javaapi.domain.library.GameId;
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.domain.wishlist.WishlistItem;
+import com.estim.javaapi.infrastructure.persistence.PostgresRepositoryTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The native statements of {@link WishlistRepositoryImpl} against the real
+ * schema.
+ */
+class WishlistRepositoryImplTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private WishlistItemJpaRepository jpaRepository;
+
+    private WishlistRepositoryImpl repository;
+    private UserId userId;
+    private GameId first;
+    private GameId second;
+    private GameId third;
+
+    @BeforeEach
+    void setUp() {
+        repository = new WishlistRepositoryImpl(jpaRepository, jdbcTemplate, new ObjectMapper());
+        userId = new UserId(insertUser());
+        first = GameId.of(insertGame());
+        second = GameId.of(insertGame());
+        third = GameId.of(insertGame());
+    }
+
+    @Test
+    void addIfAbsent_insertsOnce_andReportsTheConflict() {
+        // Act
+        boolean inserted = repository.addIfAbsent(WishlistItem.newItem(userId, first));
+        boolean again = repository.addIfAbsent(WishlistItem.newItem(userId, first));
+
+        // Assert
+        assertTrue(inserted);
+        assertFalse(again);
+        assertEquals(1, countRows(first));
+    }
+
+    @Test
+    void save_updatesTheExistingRowOnConflict() {
+        // Arrange
+        repository.addIfAbsent(WishlistItem.newItem(userId, first));
+
+        // Act
+        repository.save(WishlistItem.newItem(userId, first)
+            .withNotificationPreferences(Map.of("priceDrop", false)));
+
+        // Assert
+        assertEquals(1, countRows(first));
+        String preferences = jdbcTemplate.queryForObject(
+            "SELECT notification_preferences ->> 'priceDrop' FROM wishlists WHERE user_id = ? AND game_id = ?",
+            String.class, userId.value(), first.getValue());
+        assertEquals("false", preferences);
+    }
+
+    @Test
+    void delete_reportsWhetherTheGameWasWishlisted() {
+        // Arrange
+        repository.addIfAbsent(WishlistItem.newItem(userId, first));
+
+        // Act / Assert
+        assertTrue(repository.delete(userId, first));
+        assertFalse(repository.delete(userId, first));
+        assertEquals(0, countRows(first));
+    }
+
+    @Test
+    void addAll_returnsOnlyTheGamesItInserted() {
+        // Arrange
+        repository.addIfAbsent(WishlistItem.newItem(userId, first));
+
+        // Act
+        List<GameId> added = repository.addAll(userId, List.of(first, second, third, second));
+
+        // Assert
+        assertEquals(Set.of(second, third), Set.copyOf(added));
+        assertEquals(2, added.size());
+        assertEquals(1, countRows(first));
+        assertEquals(1, countRows(second));
+        assertEquals(1, countRows(third));
+    }
+
+    @Test
+    void removeAll_returnsOnlyTheGamesItDeleted() {
+        // Arrange
+        repository.addAll(userId, List.of(first, second));
+
+        // Act
+        List<GameId> removed = repository.removeAll(userId, List.of(second, third));
+
+        // Assert
+        assertEquals(List.of(second), removed);
+        assertEquals(1, countRows(first));
+        assertEquals(0, countRows(second));
+    }
+
+    @Test
+    void removeAll_leavesOtherUsersAlone() {
+        // Arrange
+        UserId otherUser = new UserId(insertUser());
+        repository.addAll(otherUser, List.of(first));
+
+        // Act
+        List<GameId> removed = repository.removeAll(userId, List.of(first));
+
+        // Assert
+        assertTrue(removed.isEmpty());
+        assertEquals(Set.of(first), repository.findGameIdsIn(otherUser, List.of(first, second)));
+    }
+
+    @Test
+    void bulkStatements_doNothingForAnEmptyList() {
+        assertTrue(repository.addAll(userId, List.of()).isEmpty());
+        assertTrue(repository.removeAll(userId, List.of()).isEmpty());
+    }
+
+    @Test
+    void findGameIdsIn_returnsTheWishlistedSubset() {
+        // Arrange
+        repository.addAll(userId, List.of(first, third));
+
+        // Act
+        Set<GameId> found = repository.findGameIdsIn(userId, List.of(first, second, third));
+
+        // Assert
+        assertEquals(Set.of(first, third), found);
+    }
+
+    private int countRows(GameId gameId) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM wishlists WHERE user_id = ? AND game_id = ?",
+            Integer.class, userId.value(), gameId.getValue());
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.domain.user.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenCacheTest {
+
+    private final AccessTokenCache cache = new AccessTokenCache(100, Duration.ofMinutes(15), new SimpleMeterRegistry());
+
+    @Test
+    void get_returnsTheVerifiedTokenThatWasPut() {
+        // Arrange
+        VerifiedAccessToken verified = verified(UserId.newId());
+
+        // Act
+        cache.put("token", verified);
+
+        // Assert
+        assertEquals(verified, cache.get("token"));
+        assertNull(cache.get("other-token"));
+    }
+
+    @Test
+    void evictUser_dropsEveryTokenOfThatUserOnly() {
+        // Arrange
+        UserId evicted = UserId.newId();
+        UserId other = UserId.newId();
+        cache.put("first", verified(evicted));
+        cache.put("second", verified(evicted));
+        cache.put("third", verified(other));
+
+        // Act
+        cache.evictUser(evicted);
+
+        // Assert
+        assertNull(cache.get("first"));
+        assertNull(cache.get("second"));
+        assertNotNull(cache.get("third"));
+    }
+
+    @Test
+    void get_afterTheTokenExpires_returnsNull() {
+        // Arrange
+        Instant now = Instant.now();
+        VerifiedAccessToken expired = new VerifiedAccessToken(UserId.newId(), now.minusSeconds(60), now.minusSeconds(1));
+
+        // Act
+        cache.put("token", expired);
+
+        // Assert
+        assertNull(cache.get("token"));
+    }
+
+    private static VerifiedAccessToken verified(UserId userId) {
+        Instant now = Instant.now();
+        return new VerifiedAccessToken(userId, now, now.plus(Duration.ofMinutes(15)));
+    }
+}
@@ -0,0 +1,233 @@
+package com.estim.javaapi.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link Hs256JwtCodec}. A {@code null} from
+ * {@link Hs256JwtCodec#decode(String)} means "not understood", which sends
+ * the token through the full jjwt validation.
+ */
+class Hs256JwtCodecTest {
+
+    private static final byte[] SECRET =
+        "change-me-dev-secret-at-least-32-chars-long".getBytes(StandardCharsets.UTF_8);
+    private static final String HS256_HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+
+    private final Hs256JwtCodec codec = new Hs256JwtCodec(SECRET);
+    private final UUID subject = UUID.randomUUID();
+
+    @Test
+    void decode_returnsTheClaimsOfAnEncodedToken() {
+        // Arrange
+        String token = codec.encode(subject, 1_700_000_000L, 1_700_000_900L, "access");
+
+        // Act
+        Hs256JwtCodec.DecodedClaims claims = codec.decode(token);
+
+        // Assert
+        assertNotNull(claims);
+        assertEquals(subject, claims.subject());
+        assertEquals(1_700_000_000L, claims.issuedAtSeconds());
+        assertEquals(1_700_000_900L, claims.expiresAtSeconds());
+        assertEquals("access", claims.type());
+    }
+
+    @Test
+    void encode_producesAStandardJwtSignedWithHs256() throws Exception {
+        // Act
+        String token = codec.encode(subject, 1_700_000_000L, 1_700_000_900L, "access");
+
+        // Assert
+        String[] parts = token.split("\\.");
+        assertEquals(3, parts.length);
+        assertEquals(HS256_HEADER, decodeJson(parts[0]));
+        assertEquals("{\"sub\":\"" + subject + "\",\"iat\":1700000000,\"exp\":1700000900,\"typ\":\"access\"}",
+            decodeJson(parts[1]));
+        assertEquals(hmac(parts[0] + "." + parts[1]), parts[2]);
+    }
+
+    @Test
+    void decode_rejectsATamperedSignature() {
+        // Arrange
+        String token = codec.encode(subject, 1_700_000_000L, 1_700_000_900L, "access");
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        // Act / Assert
+        InvalidAccessTokenException ex = assertThrows(InvalidAccessTokenException.class, () -> codec.decode(tampered));
+        assertEquals(InvalidAccessTokenException.Reason.INVALID_SIGNATURE, ex.reason());
+    }
+
+    @Test
+    void decode_rejectsATamperedPayload() throws Exception {
+        // Arrange
+        String token = codec.encode(subject, 1_700_000_000L, 1_700_000_900L, "access");
+        String[] parts = token.split("\\.");
+        String forged = encodeJson("{\"sub\":\"" + UUID.randomUUID() + "\",\"iat\":1700000000,\"exp\":1700000900,\"typ\":\"access\"}");
+
+        // Act / Assert
+        assertThrows(InvalidAccessTokenException.class, () -> codec.decode(parts[0] + "." + forged + "." + parts[2]));
+    }
+
+    @Test
+    void decode_rejectsATokenSignedWithAnotherKey() {
+        // Arrange
+        Hs256JwtCodec other = new Hs256JwtCodec("another-secret-that-is-also-32-chars-long".getBytes(StandardCharsets.UTF_8));
+        String token = other.encode(subject, 1_700_000_000L, 1_700_000_900L, "access");
+
+        // Act / Assert
+        assertThrows(InvalidAccessTokenException.class, () -> codec.decode(token));
+    }
+
+    @Test
+    void decode_leavesOtherAlgorithmsToTheFullParser() throws Exception {
+        // Arrange
+        String claims = claimsJson();
+        String none = encodeJson("{\"alg\":\"none\"}") + "." + encodeJson(claims) + ".";
+        String hs512Input = encodeJson("{\"alg\":\"HS512\"}") + "." + encodeJson(claims);
+        String hs512 = hs512Input + "." + hmac(hs512Input);
+
+        // Act / Assert
+        assertNull(codec.decode(none));
+        assertNull(codec.decode(hs512));
+    }
+
+    @Test
+    void decode_leavesTokensWithoutThreePartsToTheFullParser() {
+        // Act / Assert
+        assertNull(codec.decode(""));
+        assertNull(codec.decode("garbage"));
+        assertNull(codec.decode("a.b"));
+        assertNull(codec.decode("a.b.c.d"));
+    }
+
+    @Test
+    void decode_rejectsMalformedBase64InTheSignature() throws Exception {
+        // Arrange
+        String input = encodeJson(HS256_HEADER) + "." + encodeJson(claimsJson());
+        String signature = hmac(input);
+        String malformed = "*" + signature.substring(1);
+
+        // Act / Assert
+        assertThrows(InvalidAccessTokenException.class, () -> codec.decode(input + "." + malformed));
+    }
+
+    @Test
+    void decode_leavesMalformedBase64InTheClaimsToTheFullParser() throws Exception {
+        // Arrange
+        String input = encodeJson(HS256_HEADER) + ".eyJzdWIi*";
+
+        // Act / Assert
+        assertNull(codec.decode(input + "." + hmac(input)));
+    }
+
+    @Test
+    void decode_leavesMalformedJsonToTheFullParser() throws Exception {
+        // Arrange
+        String[] malformed = {
+            "",
+            "{}",
+            "{\"sub\":\"" + subject + "\"",
+            "{\"sub\":\"" + subject + "\",\"iat\":1,\"exp\":2,\"typ\":\"access\"}trailing",
+            "{\"sub\":\"not-a-uuid\",\"iat\":1,\"exp\":2,\"typ\":\"access\"}",
+            "{\"sub\":\"" + subject + "\",\"iat\":\"1\",\"exp\":2,\"typ\":\"access\"}",
+            "{\"sub\":\"" + subject + "\",\"iat\":1,\"exp\":2}",
+            "{\"sub\":\"" + subject + "\",\"iat\":1,\"exp\":2,\"typ\":\"acc\\\"ess\"}",
+            "{\"sub\":\"" + subject + "\",\"iat\":1,\"exp\":2,\"typ\":\"access\",\"nbf\":1}"
+        };
+
+        for (String json : malformed) {
+            String input = encodeJson(HS256_HEADER) + "." + encodeJson(json);
+
+            // Act / Assert
+            assertNull(codec.decode(input + "." + hmac(input)), json);
+        }
+    }
+
+    @Test
+    void decode_returnsTheExpiryOfAnExpiredTokenForTheCallerToReject() {
+        // Arrange
+        long now = System.currentTimeMillis() / 1000;
+        String token = codec.encode(subject, now - 1_000, now - 100, "access");
+
+        // Act
+        Hs256JwtCodec.DecodedClaims claims = codec.decode(token);
+
+        // Assert
+        assertNotNull(claims);
+        assertEquals(now - 100, claims.expiresAtSeconds());
+    }
+
+    @Test
+    void decode_acceptsTokensIssuedByJjwt() {
+        // Arrange
+        Date issuedAt = new Date(1_700_000_000_000L);
+        Date expiresAt = new Date(1_700_000_900_000L);
+        String token = Jwts.builder()
+            .setSubject(subject.toString())
+            .setIssuedAt(issuedAt)
+            .setExpiration(expiresAt)
+            .claim("typ", "access")
+            .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+            .compact();
+
+        // Act
+        Hs256JwtCodec.DecodedClaims claims = codec.decode(token);
+
+        // Assert
+        assertNotNull(claims);
+        assertEquals(subject, claims.subject());
+        assertEquals(1_700_000_000L, claims.issuedAtSeconds());
+        assertEquals(1_700_000_900L, claims.expiresAtSeconds());
+        assertEquals("access", claims.type());
+    }
+
+    @Test
+    void jjwt_acceptsTokensIssuedByTheCodec() {
+        // Arrange
+        String token = codec.encode(subject, 1_700_000_000L, 4_000_000_000L, "access");
+
+        // Act
+        Claims claims = Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(SECRET))
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+
+        // Assert
+        assertEquals(subject.toString(), claims.getSubject());
+        assertEquals("access", claims.get("typ", String.class));
+    }
+
+    private String claimsJson() {
+        return "{\"sub\":\"" + subject + "\",\"iat\":1700000000,\"exp\":1700000900,\"typ\":\"access\"}";
+    }
+
+    private static String encodeJson(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeJson(String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+
+    private static String hmac(String signingInput) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+        byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+}
@@ -0,0 +1,132 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.domain.user.UserId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private AccessTokenCache accessTokenCache;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private TokenRevocationWatermarks revocationWatermarks;
+
+    @Mock
+    private AuthRequestLog authRequestLog;
+
+    private JwtTokenService tokenService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new JwtTokenService(
+            "change-me-dev-secret-at-least-32-chars-long",
+            Duration.ofMinutes(15),
+            accessTokenCache,
+            refreshTokenStore,
+            revocationWatermarks
+        );
+        filter = new JwtAuthenticationFilter(tokenService, authRequestLog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void garbageToken_leavesTheRequestUnauthenticatedAndContinuesTheChain() throws Exception {
+        String[] garbage = {
+            "garbage",
+            "a.b.c",
+            "not.base64!.at-all",
+            "eyJhbGciOiJIUzI1NiJ9.%%%%.%%%%",
+            "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.e30.AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA",
+            "éé.éé.éé"
+        };
+
+        for (String token : garbage) {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/me");
+            request.addHeader("Authorization", "Bearer " + token);
+            MockFilterChain chain = new MockFilterChain();
+
+            // Act
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            // Assert
+            assertNotNull(chain.getRequest(), token);
+            assertNull(SecurityContextHolder.getContext().getAuthentication(), token);
+        }
+        verify(authRequestLog, never()).record(eq("GET"), eq("/me"), eq(AuthRequestLog.Outcome.AUTHENTICATED), any());
+    }
+
+    @Test
+    void garbageToken_isRecordedAsMalformed() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/me");
+        request.addHeader("Authorization", "Bearer garbage");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        verify(authRequestLog).record(eq("GET"), eq("/me"), eq(AuthRequestLog.Outcome.MALFORMED), isNull());
+    }
+
+    @Test
+    void tokenWithABadSignature_isRecordedAsSuch() throws Exception {
+        // Arrange
+        String token = tokenService.generateAccessToken(new UserId(UUID.randomUUID()));
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/me");
+        request.addHeader("Authorization", "Bearer " + tampered);
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(authRequestLog).record(eq("GET"), eq("/me"), eq(AuthRequestLog.Outcome.INVALID_SIGNATURE), isNull());
+    }
+
+    @Test
+    void validToken_authenticatesTheRequest() throws Exception {
+        // Arrange
+        UserId userId = new UserId(UUID.randomUUID());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/me");
+        request.addHeader("Authorization", "Bearer " + tokenService.generateAccessToken(userId));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        AuthenticatedUser principal = (AuthenticatedUser) SecurityContextHolder.getContext()
+            .getAuthentication()
+            .getPrincipal();
+        assertEquals(userId, principal.userId());
+        verify(authRequestLog).record("GET", "/me", AuthRequestLog.Outcome.AUTHENTICATED, userId);
+    }
+}
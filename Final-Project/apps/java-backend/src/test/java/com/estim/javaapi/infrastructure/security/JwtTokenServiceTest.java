@@ -0,0 +1,148 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.domain.user.UserId;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Access-token verification through {@link JwtTokenService}: the
+ * {@link Hs256JwtCodec} fast path, the jjwt fallback, and the checks
+ * applied on top of both.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "change-me-dev-secret-at-least-32-chars-long";
+
+    @Mock
+    private AccessTokenCache accessTokenCache;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private TokenRevocationWatermarks revocationWatermarks;
+
+    private JwtTokenService tokenService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new JwtTokenService(
+            SECRET,
+            Duration.ofMinutes(15),
+            accessTokenCache,
+            refreshTokenStore,
+            revocationWatermarks
+        );
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void parseUserIdFromAccessToken_acceptsTokensItIssued() {
+        // Arrange
+        String token = tokenService.generateAccessToken(new UserId(userId));
+
+        // Act
+        UserId parsed = tokenService.parseUserIdFromAccessToken(token);
+
+        // Assert
+        assertEquals(userId, parsed.value());
+    }
+
+    @Test
+    void parseUserIdFromAccessToken_acceptsTokensIssuedByJjwt() {
+        // Arrange
+        String token = jjwtToken(new Date(System.currentTimeMillis() + 60_000), "access");
+
+        // Act
+        UserId parsed = tokenService.parseUserIdFromAccessToken(token);
+
+        // Assert
+        assertEquals(userId, parsed.value());
+    }
+
+    @Test
+    void verifyAccessToken_rejectsAnExpiredToken() {
+        // Arrange
+        String token = jjwtToken(new Date(System.currentTimeMillis() - 60_000), "access");
+
+        // Act
+        InvalidAccessTokenException ex = assertThrows(InvalidAccessTokenException.class,
+            () -> tokenService.verifyAccessToken(token));
+
+        // Assert
+        assertEquals(InvalidAccessTokenException.Reason.EXPIRED, ex.reason());
+    }
+
+    @Test
+    void verifyAccessToken_rejectsATamperedSignature() {
+        // Arrange
+        String token = tokenService.generateAccessToken(new UserId(userId));
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        // Act
+        InvalidAccessTokenException ex = assertThrows(InvalidAccessTokenException.class,
+            () -> tokenService.verifyAccessToken(tampered));
+
+        // Assert
+        assertEquals(InvalidAccessTokenException.Reason.INVALID_SIGNATURE, ex.reason());
+    }
+
+    @Test
+    void verifyAccessToken_rejectsAnUnsignedToken() {
+        // Arrange
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        long now = System.currentTimeMillis() / 1000;
+        String token = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8))
+            + "."
+            + encoder.encodeToString(("{\"sub\":\"" + userId + "\",\"iat\":" + now + ",\"exp\":" + (now + 600)
+                + ",\"typ\":\"access\"}").getBytes(StandardCharsets.UTF_8))
+            + ".";
+
+        // Act
+        InvalidAccessTokenException ex = assertThrows(InvalidAccessTokenException.class,
+            () -> tokenService.verifyAccessToken(token));
+
+        // Assert
+        assertEquals(InvalidAccessTokenException.Reason.MALFORMED, ex.reason());
+    }
+
+    @Test
+    void verifyAccessToken_rejectsTokensOfAnotherType() {
+        // Arrange
+        String token = jjwtToken(new Date(System.currentTimeMillis() + 60_000), "refresh");
+
+        // Act
+        InvalidAccessTokenException ex = assertThrows(InvalidAccessTokenException.class,
+            () -> tokenService.verifyAccessToken(token));
+
+        // Assert
+        assertEquals(InvalidAccessTokenException.Reason.MALFORMED, ex.reason());
+    }
+
+    private String jjwtToken(Date expiresAt, String type) {
+        return Jwts.builder()
+            .setSubject(userId.toString())
+            .setIssuedAt(new Date(System.currentTimeMillis() - 120_000))
+            .setExpiration(expiresAt)
+            .claim("typ", type)
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+            .compact();
+    }
+}
@@ -0,0 +1,125 @@
+package com.estim.javaapi.infrastructure.security;
+
+import com.estim.javaapi.domain.user.UserId;
+import com.estim.javaapi.infrastructure.persistence.user.UserTokenWatermarkJpaEntity;
+import com.estim.javaapi.infrastructure.persistence.user.UserTokenWatermarkJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationWatermarksTest {
+
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofMinutes(15);
+
+    @Mock
+    private UserTokenWatermarkJpaRepository repository;
+
+    private TokenRevocationWatermarks watermarks;
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        watermarks = new TokenRevocationWatermarks(repository, ACCESS_TOKEN_TTL, Duration.ofSeconds(5));
+        userId = new UserId(UUID.randomUUID());
+    }
+
+    @Test
+    void revokeIssuedBefore_rejectsOlderTokensImmediatelyAndPersistsTheWatermark() {
+        // Arrange
+        Instant now = Instant.now();
+
+        // Act
+        watermarks.revokeIssuedBefore(userId, now);
+
+        // Assert
+        assertTrue(watermarks.isRevoked(userId, now.minusSeconds(60)));
+        assertFalse(watermarks.isRevoked(userId, now.plusSeconds(1)));
+        verify(repository).save(any(UserTokenWatermarkJpaEntity.class));
+    }
+
+    @Test
+    void sync_picksUpWatermarksWrittenByOtherInstances() {
+        // Arrange
+        Instant revokedAt = Instant.now();
+        when(repository.findByNotBeforeAfter(any(Instant.class)))
+            .thenReturn(List.of(new UserTokenWatermarkJpaEntity(userId.value(), revokedAt)));
+        assertFalse(watermarks.isRevoked(userId, revokedAt.minusSeconds(60)));
+
+        // Act
+        watermarks.sync();
+
+        // Assert
+        assertTrue(watermarks.isRevoked(userId, revokedAt.minusSeconds(60)));
+        assertFalse(watermarks.isRevoked(userId, revokedAt.plusSeconds(1)));
+    }
+
+    @Test
+    void sync_readsOnlyWatermarksYoungerThanTheAccessTokenTtl() {
+        // Arrange
+        when(repository.findByNotBeforeAfter(any(Instant.class))).thenReturn(List.of());
+        Instant before = Instant.now();
+
+        // Act
+        watermarks.sync();
+
+        // Assert
+        verify(repository).findByNotBeforeAfter(argThatIsAround(before.minus(ACCESS_TOKEN_TTL)));
+    }
+
+    @Test
+    void sync_neverMovesAWatermarkBack() {
+        // Arrange
+        Instant now = Instant.now();
+        watermarks.revokeIssuedBefore(userId, now);
+        when(repository.findByNotBeforeAfter(any(Instant.class)))
+            .thenReturn(List.of(new UserTokenWatermarkJpaEntity(userId.value(), now.minusSeconds(120))));
+
+        // Act
+        watermarks.sync();
+
+        // Assert
+        assertTrue(watermarks.isRevoked(userId, now.minusSeconds(60)));
+    }
+
+    @Test
+    void sync_keepsKnownWatermarksWhenTheDatabaseFails() {
+        // Arrange
+        Instant now = Instant.now();
+        watermarks.revokeIssuedBefore(userId, now);
+        when(repository.findByNotBeforeAfter(any(Instant.class)))
+            .thenThrow(new DataAccessResourceFailureException("down"));
+
+        // Act
+        watermarks.sync();
+
+        // Assert
+        assertTrue(watermarks.isRevoked(userId, now.minusSeconds(60)));
+    }
+
+    @Test
+    void isRevoked_ignoresWatermarksOlderThanTheAccessTokenTtl() {
+        // Arrange
+        Instant longAgo = Instant.now().minus(ACCESS_TOKEN_TTL).minusSeconds(60);
+        watermarks.revokeIssuedBefore(userId, longAgo);
+
+        // Act / Assert
+        assertFalse(watermarks.isRevoked(userId, longAgo.minusSeconds(60)));
+    }
+
+    private static Instant argThatIsAround(Instant expected) {
+        return argThat(actual -> Math.abs(Duration.between(expected, actual).toSeconds()) <= 5);
+    }
+}
@@ -0,0 +1,27 @@
+-- ===== REFRESH TOKENS =====
+-- One row per token family. Each refresh rotates current_token_hash; a
+-- presented token that no longer matches means an old token was replayed,
+-- and the whole family is revoked.
+CREATE TABLE refresh_token_families (
+  id                  UUID PRIMARY KEY,
+  user_id             UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  current_token_hash  VARCHAR(64) NOT NULL,
+  created_at          TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  rotated_at          TIMESTAMPTZ,
+  expires_at          TIMESTAMPTZ NOT NULL,
+  revoked_at          TIMESTAMPTZ
+);
+
+CREATE INDEX idx_refresh_token_families_user_id
+  ON refresh_token_families(user_id) WHERE revoked_at IS NULL;
+CREATE INDEX idx_refresh_token_families_expires_at
+  ON refresh_token_families(expires_at);
+
+-- Access tokens issued before not_before are rejected for that user.
+CREATE TABLE user_token_watermarks (
+  user_id     UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+  not_before  TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_user_token_watermarks_not_before
+  ON user_token_watermarks(not_before);
@@ -0,0 +1,12 @@
+-- ===== TRANSACTIONAL OUTBOX =====
+-- Domain events are inserted in the same transaction as the state change
+-- that raised them and relayed to Kafka afterwards. Relayed rows are
+-- deleted, so the table only holds the backlog.
+CREATE TABLE outbox_events (
+  id            BIGSERIAL PRIMARY KEY,
+  aggregate_id  VARCHAR(64),
+  event_type    VARCHAR(100) NOT NULL,
+  payload       TEXT NOT NULL,
+  occurred_at   TIMESTAMPTZ NOT NULL,
+  created_at    TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,24 @@
+-- ===== AUDIT LOG =====
+-- Append-only record of security-relevant user actions, written in
+-- batches by the application. Rows can not be updated or deleted.
+CREATE TABLE audit_log (
+  id           BIGSERIAL PRIMARY KEY,
+  occurred_at  TIMESTAMPTZ NOT NULL,
+  action       VARCHAR(64) NOT NULL,
+  user_id      UUID,
+  details      TEXT,
+  recorded_at  TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_audit_log_user_id_occurred_at ON audit_log(user_id, occurred_at);
+
+CREATE OR REPLACE FUNCTION audit_log_reject_change()
+RETURNS TRIGGER AS $$
+BEGIN
+  RAISE EXCEPTION 'audit_log is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER audit_log_append_only
+  BEFORE UPDATE OR DELETE ON audit_log
+  FOR EACH ROW EXECUTE FUNCTION audit_log_reject_change();
@@ -0,0 +1,14 @@
+-- ===== KEYSET LIST INDEXES =====
+-- /me/library and /me/wishlist page and stream newest first by
+-- (added_at, id). These indexes serve both the ORDER BY and the
+-- "(added_at, id) < (cursor)" predicate, so a page costs an index range
+-- scan of `limit` rows regardless of how many rows the user has.
+-- They also cover plain user_id lookups, replacing the single-column ones.
+CREATE INDEX idx_libraries_user_id_added_at_id
+  ON libraries(user_id, added_at DESC, id DESC);
+
+CREATE INDEX idx_wishlists_user_id_added_at_id
+  ON wishlists(user_id, added_at DESC, id DESC);
+
+DROP INDEX idx_libraries_user_id;
+DROP INDEX idx_wishlists_user_id;
@@ -0,0 +1,60 @@
+-- ===== GAME COVER IMAGE =====
+-- Denormalized "primary cover" of each game: the url of its first
+-- cover_art media row by display_order. Listings join games and read this
+-- column instead of running a sorted game_media lookup per row.
+-- Kept current by a trigger on game_media, whichever service writes it.
+ALTER TABLE games ADD COLUMN cover_image_url TEXT;
+
+-- Serves the per-game recomputation below
+CREATE INDEX idx_game_media_cover_art
+  ON game_media(game_id, display_order, uploaded_at, id)
+  WHERE media_type = 'cover_art';
+
+CREATE OR REPLACE FUNCTION games_refresh_cover_image(p_game_id UUID)
+RETURNS VOID AS $$
+  UPDATE games g
+  SET cover_image_url = c.url
+  FROM (
+    SELECT (
+      SELECT gm.url
+      FROM game_media gm
+      WHERE gm.game_id = p_game_id
+        AND gm.media_type = 'cover_art'
+      ORDER BY gm.display_order ASC, gm.uploaded_at ASC, gm.id ASC
+      LIMIT 1
+    ) AS url
+  ) c
+  WHERE g.id = p_game_id
+    AND g.cover_image_url IS DISTINCT FROM c.url;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION game_media_refresh_cover_image()
+RETURNS TRIGGER AS $$
+BEGIN
+  IF TG_OP <> 'INSERT' AND OLD.media_type = 'cover_art' THEN
+    PERFORM games_refresh_cover_image(OLD.game_id);
+  END IF;
+
+  IF TG_OP <> 'DELETE' AND NEW.media_type = 'cover_art'
+     AND (TG_OP = 'INSERT' OR OLD.media_type <> 'cover_art' OR OLD.game_id <> NEW.game_id) THEN
+    PERFORM games_refresh_cover_image(NEW.game_id);
+  END IF;
+
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER game_media_cover_image
+  AFTER INSERT OR UPDATE OR DELETE ON game_media
+  FOR EACH ROW EXECUTE FUNCTION game_media_refresh_cover_image();
+
+-- Backfill games that already have media
+UPDATE games g
+SET cover_image_url = (
+  SELECT gm.url
+  FROM game_media gm
+  WHERE gm.game_id = g.id
+    AND gm.media_type = 'cover_art'
+  ORDER BY gm.display_order ASC, gm.uploaded_at ASC, gm.id ASC
+  LIMIT 1
+);
@@ -0,0 +1,19 @@
+-- ===== GAMES UPDATED_AT =====
+-- games.updated_at was only set on insert. Keep it current on every
+-- change so readers can poll for games changed since a watermark
+-- (the Java game card cache does).
+CREATE OR REPLACE FUNCTION set_updated_at()
+RETURNS TRIGGER AS $$
+BEGIN
+  NEW.updated_at = NOW();
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER games_set_updated_at
+  BEFORE UPDATE ON games
+  FOR EACH ROW
+  WHEN (OLD.* IS DISTINCT FROM NEW.*)
+  EXECUTE FUNCTION set_updated_at();
+
+CREATE INDEX idx_games_updated_at ON games(updated_at);
@@ -0,0 +1,13 @@
+-- ===== COVERING LIST INDEXES =====
+-- Listings now read only (id, game_id, added_at[, source]) from their own
+-- table and take game details from the application's game card cache.
+-- Carrying those columns in the keyset indexes from 0007 lets PostgreSQL
+-- answer a page with an index-only scan.
+CREATE INDEX idx_libraries_user_id_added_at_id_covering
+  ON libraries(user_id, added_at DESC, id DESC) INCLUDE (game_id, source);
+
+CREATE INDEX idx_wishlists_user_id_added_at_id_covering
+  ON wishlists(user_id, added_at DESC, id DESC) INCLUDE (game_id);
+
+DROP INDEX idx_libraries_user_id_added_at_id;
+DROP INDEX idx_wishlists_user_id_added_at_id;
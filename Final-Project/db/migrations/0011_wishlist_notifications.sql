@@ -0,0 +1,83 @@
+-- ===== WISHLIST NOTIFICATIONS =====
+-- Per-item notification preferences, e.g. {"priceDrop": true,
+-- "newPromotion": false}. A key that was never set counts as enabled.
+ALTER TABLE wishlists
+  ADD COLUMN notification_preferences JSONB NOT NULL DEFAULT '{}';
+
+-- Notification jobs walk the wishlisting users of one game in user_id
+-- order; this replaces the single-column game_id index.
+CREATE INDEX idx_wishlists_game_id_user_id ON wishlists(game_id, user_id);
+DROP INDEX idx_wishlists_game_id;
+
+-- One row per price drop or promotion activation to fan out to the
+-- wishlists of a game. last_user_id records progress so a job resumes
+-- where it stopped instead of notifying users twice.
+CREATE TABLE wishlist_notification_jobs (
+  id                   BIGSERIAL PRIMARY KEY,
+  game_id              UUID NOT NULL REFERENCES games(id) ON DELETE CASCADE,
+  kind                 VARCHAR(20) NOT NULL,
+  promotion_id         UUID REFERENCES promotions(id) ON DELETE CASCADE,
+  previous_price       NUMERIC(10,2),
+  current_price        NUMERIC(10,2),
+  discount_percentage  NUMERIC(5,2),
+  last_user_id         UUID,
+  created_at           TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  completed_at         TIMESTAMPTZ
+);
+
+CREATE INDEX idx_wishlist_notification_jobs_pending
+  ON wishlist_notification_jobs(id) WHERE completed_at IS NULL;
+
+-- Price drops are queued in the transaction that changes the price,
+-- whichever service makes the change. Repeated drops coalesce into the
+-- game's pending price-drop job as long as no user has been notified of
+-- it yet; it reports the highest price seen since it was queued. A job
+-- that is being processed is locked, so the UPDATE waits for its batch
+-- and then no longer matches.
+CREATE OR REPLACE FUNCTION games_queue_price_drop()
+RETURNS TRIGGER AS $$
+BEGIN
+  UPDATE wishlist_notification_jobs
+  SET previous_price = GREATEST(previous_price, OLD.price),
+      current_price = NEW.price,
+      discount_percentage = CASE WHEN GREATEST(previous_price, OLD.price) > 0
+        THEN LEAST(GREATEST(ROUND(
+          (GREATEST(previous_price, OLD.price) - NEW.price) * 100 / GREATEST(previous_price, OLD.price), 2), 0), 100)
+      END
+  WHERE game_id = NEW.id
+    AND kind = 'PRICE_DROP'
+    AND completed_at IS NULL
+    AND last_user_id IS NULL;
+
+  IF NOT FOUND THEN
+    INSERT INTO wishlist_notification_jobs
+      (game_id, kind, previous_price, current_price, discount_percentage)
+    VALUES (
+      NEW.id,
+      'PRICE_DROP',
+      OLD.price,
+      NEW.price,
+      CASE WHEN OLD.price > 0
+        THEN LEAST(GREATEST(ROUND((OLD.price - NEW.price) * 100 / OLD.price, 2), 0), 100)
+      END
+    );
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER games_price_drop
+  AFTER UPDATE OF price ON games
+  FOR EACH ROW
+  WHEN (NEW.price < OLD.price)
+  EXECUTE FUNCTION games_queue_price_drop();
+
+-- Promotions become active by time rather than by a write, so the
+-- application queues them once valid_from has passed and stamps them here.
+ALTER TABLE promotions ADD COLUMN notified_at TIMESTAMPTZ;
+
+CREATE INDEX idx_promotions_pending_notification
+  ON promotions(valid_from) WHERE notified_at IS NULL;
+
+-- Promotions that are already running are not announced again
+UPDATE promotions SET notified_at = NOW() WHERE valid_from <= NOW();